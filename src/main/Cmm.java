@@ -3,11 +3,27 @@ package main;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
 import java.io.IOException;
+import java.util.Arrays;
 
 public class Cmm {
     public static void main(String[] args) throws IOException {
-        CharStream reader = CharStreams.fromFileName(args[0]);
         CmmCompiler cmmCompiler = new CmmCompiler();
+        while (args.length > 1 && (args[0].equals("--parallel") || args[0].equals("--fused"))) {
+            if (args[0].equals("--parallel"))
+                cmmCompiler.setParallel(true);
+            else
+                cmmCompiler.setFused(true);
+            args = Arrays.copyOfRange(args, 1, args.length);
+        }
+        if (args.length > 1 && args[0].equals("--footprint")) {
+            cmmCompiler.reportFootprint(CharStreams.fromFileName(args[1]));
+            return;
+        }
+        if (args.length > 2 && args[0].equals("--summary")) {
+            cmmCompiler.updateSummary(CharStreams.fromFileName(args[1]), args[2]);
+            return;
+        }
+        CharStream reader = CharStreams.fromFileName(args[0]);
         cmmCompiler.compile(reader);
     }
 }
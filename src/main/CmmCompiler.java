@@ -1,32 +1,71 @@
 package main;
 
 import main.visitor.*;
+import main.visitor.incremental.*;
 import main.visitor.name.*;
 import main.visitor.type.*;
 import parsers.*;
 import main.ast.nodes.Program;
+import main.compileError.nameError.NameError;
+import main.footprint.MemoryFootprint;
+import main.symbolTable.AnalysisContext;
+import main.symbolTable.Namespace;
 import org.antlr.v4.runtime.*;
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
 
 public class CmmCompiler {
+    private boolean parallel;
+    private boolean fused;
+
+    //Analyses the bodies of structs, functions and main on several threads; the output stays the same.
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    //Checks each function and main in the walk that analyses its names; the output stays
+    //the same. Runs on one thread, whether parallel is set or not.
+    public void setFused(boolean fused) {
+        this.fused = fused;
+    }
+
     public void compile(CharStream textStream) {
         CmmLexer cmmLexer = new CmmLexer(textStream);
         CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
         CmmParser cmmParser = new CmmParser(tokenStream);
         Program program = cmmParser.cmm().cmmProgram;
-        ErrorReporter errorReporter = new ErrorReporter();
+        program.accept(new StructuralHasher());
+        program.accept(new PreorderNumbering());
+        DiagnosticCollector diagnosticCollector = new DiagnosticCollector();
+        AnalysisContext context = new AnalysisContext();
 
-        NameAnalyser nameAnalyser = new NameAnalyser();
-        program.accept(nameAnalyser);
+        if (fused) {
+            new FusedAnalyser(context).analyse(program, diagnosticCollector);
+            if(diagnosticCollector.report(NameError.class) > 0)
+                System.exit(1);
+        }
+        else {
+            if (parallel)
+                new ParallelNameAnalyser(context, ForkJoinPool.commonPool()).analyse(program, diagnosticCollector);
+            else {
+                NameAnalyser nameAnalyser = new NameAnalyser(context);
+                program.accept(new FusedVisitor<>(nameAnalyser, diagnosticCollector));
+            }
 
-        int numberOfErrors = program.accept(errorReporter);
-        if(numberOfErrors > 0)
-            System.exit(1);
+            int numberOfErrors = diagnosticCollector.report();
+            if(numberOfErrors > 0)
+                System.exit(1);
 
-        TypeChecker typeChecker = new TypeChecker();
-        program.accept(typeChecker);
+            if (parallel)
+                new ParallelTypeChecker(context, ForkJoinPool.commonPool()).check(program, diagnosticCollector);
+            else {
+                TypeChecker typeChecker = new TypeChecker(context, diagnosticCollector);
+                program.accept(new FusedVisitor<>(typeChecker, diagnosticCollector));
+            }
+        }
 
-        numberOfErrors = program.accept(errorReporter);
+        int numberOfErrors = diagnosticCollector.report();
         if(numberOfErrors > 0)
             System.exit(1);
 
@@ -36,4 +75,87 @@ public class CmmCompiler {
 //        program.accept(astTreePrinter);
 
     }
-}
+
+    //Name-analyses the program and stores its interface summary, first printing what
+    //changed since the summary already stored there, if any, and what depends on it.
+    public void updateSummary(CharStream textStream, String summaryPath) throws IOException {
+        CmmLexer cmmLexer = new CmmLexer(textStream);
+        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
+        CmmParser cmmParser = new CmmParser(tokenStream);
+        Program program = cmmParser.cmm().cmmProgram;
+        program.accept(new StructuralHasher());
+        program.accept(new PreorderNumbering());
+        DiagnosticCollector diagnosticCollector = new DiagnosticCollector();
+        AnalysisContext context = new AnalysisContext();
+
+        NameAnalyser nameAnalyser = new NameAnalyser(context);
+        program.accept(new FusedVisitor<>(nameAnalyser, diagnosticCollector));
+
+        int numberOfErrors = diagnosticCollector.report();
+        if(numberOfErrors > 0)
+            System.exit(1);
+
+        InterfaceSummary summary = InterfaceSummary.of(program);
+        File file = new File(summaryPath);
+        if (file.exists()) {
+            InterfaceSummary previous;
+            try (InputStream in = new FileInputStream(file)) {
+                previous = InterfaceSummary.read(in);
+            }
+            DependencyIndex dependencies = DependencyIndex.of(program);
+            BitSet changed = new BitSet();
+            BitSet orphaned = new BitSet();
+            for (Namespace namespace : new Namespace[]{Namespace.STRUCT, Namespace.FUNCTION}) {
+                Set<String> changedInterfaces = summary.changedInterfaces(previous, namespace);
+                System.out.println("Changed " + namespace.name().toLowerCase() + " interfaces: "
+                        + changedInterfaces);
+                System.out.println("Changed " + namespace.name().toLowerCase() + " bodies: "
+                        + summary.changedBodies(previous, namespace));
+                DependencyIndex.Kind kind = namespace == Namespace.STRUCT
+                        ? DependencyIndex.Kind.STRUCT : DependencyIndex.Kind.FUNCTION;
+                for (String name : changedInterfaces) {
+                    int id = dependencies.idOf(kind, name);
+                    if (id >= 0)
+                        changed.set(id);
+                    else
+                        for (int user : dependencies.usersOfMissing(kind, name))
+                            orphaned.set(user);
+                }
+            }
+            BitSet affected = dependencies.affectedBy(changed, orphaned);
+            List<String> toCheck = new ArrayList<>();
+            for (int id = affected.nextSetBit(0); id >= 0; id = affected.nextSetBit(id + 1))
+                toCheck.add(dependencies.describe(id));
+            System.out.println("To re-check: " + toCheck);
+        }
+        try (OutputStream out = new FileOutputStream(file)) {
+            summary.write(out);
+        }
+    }
+
+    //Runs the analyses without reporting, then prints where the heap goes.
+    public void reportFootprint(CharStream textStream) {
+        CmmLexer cmmLexer = new CmmLexer(textStream);
+        CommonTokenStream tokenStream = new CommonTokenStream(cmmLexer);
+        CmmParser cmmParser = new CmmParser(tokenStream);
+        Program program = cmmParser.cmm().cmmProgram;
+        program.accept(new StructuralHasher());
+        program.accept(new PreorderNumbering());
+        DiagnosticCollector diagnosticCollector = new DiagnosticCollector();
+        AnalysisContext context = new AnalysisContext();
+
+        NameAnalyser nameAnalyser = new NameAnalyser(context);
+        program.accept(new FusedVisitor<>(nameAnalyser, diagnosticCollector));
+
+        if(!diagnosticCollector.hasErrors()) {
+            TypeChecker typeChecker = new TypeChecker(context, diagnosticCollector);
+            program.accept(new FusedVisitor<>(typeChecker, diagnosticCollector));
+        }
+
+        MemoryFootprint footprint = new MemoryFootprint();
+        footprint.add("program", program);
+        footprint.add("symbol tables", context.getRoot());
+        footprint.add("tokens : ArrayList", tokenStream.getTokens());
+        footprint.print(System.out);
+    }
+}
\ No newline at end of file
@@ -5,12 +5,15 @@ import main.compileError.CompileError;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 
 public abstract class Node {
     private int line;
+    private long span = Span.NONE;
+    private int preorderIndex;
     private ArrayList<CompileError> errors = new ArrayList<>();
-    public static boolean isCatchErrorsActive = true;
 
     public int getLine() {
         return line;
@@ -20,11 +23,49 @@ public abstract class Node {
         this.line = line;
     }
 
+    public long getSpan() {
+        return span;
+    }
+
+    public void setSpan(long span) {
+        this.span = span;
+    }
+
+    public void setSpan(int startIndex, int stopIndex, int column) {
+        this.span = Span.of(startIndex, stopIndex, column);
+    }
+
+    public int getStartOffset() {
+        return Span.offset(span);
+    }
+
+    public int getEndOffset() {
+        return Span.end(span);
+    }
+
+    public int getColumn() {
+        return Span.column(span);
+    }
+
+    public int getPreorderIndex() {
+        return preorderIndex;
+    }
+
+    public void setPreorderIndex(int preorderIndex) {
+        this.preorderIndex = preorderIndex;
+    }
+
     public abstract String toString();
     public void addError(CompileError e) {
-        if(Node.isCatchErrorsActive) {
-            this.errors.add(e);
-        }
+        this.errors.add(e);
+    }
+
+    public boolean hasErrors() {
+        return !this.errors.isEmpty();
+    }
+
+    public List<CompileError> getErrors() {
+        return Collections.unmodifiableList(errors);
     }
 
     public ArrayList<CompileError> flushErrors() {
@@ -3,6 +3,7 @@ package main.ast.nodes;
 import main.ast.nodes.declaration.FunctionDeclaration;
 import main.ast.nodes.declaration.MainDeclaration;
 import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.types.TypeTable;
 import main.visitor.IVisitor;
 
 import java.util.ArrayList;
@@ -12,6 +13,7 @@ public class Program extends Node {
     private ArrayList<FunctionDeclaration> functions = new ArrayList<>();
     private ArrayList<StructDeclaration> structs = new ArrayList<>();
     private MainDeclaration main = new MainDeclaration();
+    private TypeTable typeTable = new TypeTable();
 
     public ArrayList<FunctionDeclaration> getFunctions() {
         return functions;
@@ -40,6 +42,13 @@ public class Program extends Node {
         this.main = main;
     }
 
+    public TypeTable getTypeTable() {
+        return typeTable;
+    }
+    public void setTypeTable(TypeTable typeTable) {
+        this.typeTable = typeTable;
+    }
+
     @Override
     public String toString() {
         return "Program";
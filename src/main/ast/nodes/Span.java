@@ -0,0 +1,67 @@
+package main.ast.nodes;
+
+//Source range of a node packed into one long:
+//bits 63..36 -> start offset, bits 35..12 -> length, bits 11..0 -> column
+//Values that do not fit are clamped to the largest representable value.
+public final class Span {
+    public static final long NONE = 0L;
+
+    private static final int OFFSET_BITS = 28;
+    private static final int LENGTH_BITS = 24;
+    private static final int COLUMN_BITS = 12;
+
+    private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+    private static final long LENGTH_MASK = (1L << LENGTH_BITS) - 1;
+    private static final long COLUMN_MASK = (1L << COLUMN_BITS) - 1;
+
+    private static final int LENGTH_SHIFT = COLUMN_BITS;
+    private static final int OFFSET_SHIFT = COLUMN_BITS + LENGTH_BITS;
+
+    private Span() {
+    }
+
+    public static long of(int startIndex, int stopIndex, int column) {
+        int length = stopIndex < startIndex ? 0 : stopIndex - startIndex + 1;
+        return pack(startIndex, length, column);
+    }
+
+    public static long pack(int offset, int length, int column) {
+        return (clamp(offset, OFFSET_MASK) << OFFSET_SHIFT)
+                | (clamp(length, LENGTH_MASK) << LENGTH_SHIFT)
+                | clamp(column, COLUMN_MASK);
+    }
+
+    public static int offset(long span) {
+        return (int) ((span >>> OFFSET_SHIFT) & OFFSET_MASK);
+    }
+
+    public static int length(long span) {
+        return (int) ((span >>> LENGTH_SHIFT) & LENGTH_MASK);
+    }
+
+    public static int column(long span) {
+        return (int) (span & COLUMN_MASK);
+    }
+
+    public static int end(long span) {
+        return offset(span) + length(span);
+    }
+
+    public static boolean contains(long span, int offset) {
+        return offset >= offset(span) && offset < end(span);
+    }
+
+    public static boolean contains(long outer, long inner) {
+        return offset(inner) >= offset(outer) && end(inner) <= end(outer);
+    }
+
+    public static String toString(long span) {
+        return "[" + offset(span) + ", " + end(span) + ") col " + column(span);
+    }
+
+    private static long clamp(int value, long mask) {
+        if (value < 0)
+            return 0;
+        return Math.min(value, mask);
+    }
+}
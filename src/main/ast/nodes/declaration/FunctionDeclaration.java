@@ -13,6 +13,8 @@ public class FunctionDeclaration extends Declaration {
     private ArrayList<VariableDeclaration> args = new ArrayList<>();
     private Statement body;
     private Type returnType;
+    private long signatureHash;
+    private long bodyHash;
 
 
     public Identifier getFunctionName() {
@@ -46,6 +48,20 @@ public class FunctionDeclaration extends Declaration {
         this.returnType = returnType;
     }
 
+    public long getSignatureHash() {
+        return signatureHash;
+    }
+    public void setSignatureHash(long signatureHash) {
+        this.signatureHash = signatureHash;
+    }
+
+    public long getBodyHash() {
+        return bodyHash;
+    }
+    public void setBodyHash(long bodyHash) {
+        this.bodyHash = bodyHash;
+    }
+
     @Override
     public String toString() {
         return "FunctionDeclaration_" + this.functionName.getName();
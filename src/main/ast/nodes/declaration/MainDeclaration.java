@@ -6,6 +6,8 @@ import main.visitor.IVisitor;
 //line -> MAIN
 public class MainDeclaration extends Declaration{
     protected Statement body;
+    private long signatureHash;
+    private long bodyHash;
 
     public Statement getBody() {
         return body;
@@ -14,6 +16,20 @@ public class MainDeclaration extends Declaration{
         this.body = body;
     }
 
+    public long getSignatureHash() {
+        return signatureHash;
+    }
+    public void setSignatureHash(long signatureHash) {
+        this.signatureHash = signatureHash;
+    }
+
+    public long getBodyHash() {
+        return bodyHash;
+    }
+    public void setBodyHash(long bodyHash) {
+        this.bodyHash = bodyHash;
+    }
+
     @Override
     public String toString() {
         return "MainDeclaration";
@@ -10,6 +10,8 @@ import java.util.*;
 public class StructDeclaration extends Declaration {
     private Identifier structName;
     private Statement body;
+    private long signatureHash;
+    private long bodyHash;
 
     public Identifier getStructName() {
         return structName;
@@ -27,6 +29,22 @@ public class StructDeclaration extends Declaration {
         this.body = body;
     }
 
+    public long getSignatureHash() {
+        return signatureHash;
+    }
+
+    public void setSignatureHash(long signatureHash) {
+        this.signatureHash = signatureHash;
+    }
+
+    public long getBodyHash() {
+        return bodyHash;
+    }
+
+    public void setBodyHash(long bodyHash) {
+        this.bodyHash = bodyHash;
+    }
+
     @Override
     public String toString() {
         return "StructDeclaration_" + structName.getName();
@@ -2,6 +2,33 @@ package main.ast.nodes.expression;
 
 
 import main.ast.nodes.Node;
+import main.ast.types.Type;
 
 public abstract class Expression extends Node {
+    //Filled in by ExpressionTypeChecker the first time the expression is checked.
+    //An access path (a, a[i], a.b) is an lvalue that leaves the decision to what encloses it.
+    private Type type;
+    private boolean lvalue;
+    private boolean accessPath;
+
+    public Type getType() {
+        return type;
+    }
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public boolean isLvalue() {
+        return lvalue;
+    }
+    public void setLvalue(boolean lvalue) {
+        this.lvalue = lvalue;
+    }
+
+    public boolean isAccessPath() {
+        return accessPath;
+    }
+    public void setAccessPath(boolean accessPath) {
+        this.accessPath = accessPath;
+    }
 }
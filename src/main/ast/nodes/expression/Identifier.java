@@ -1,10 +1,14 @@
 package main.ast.nodes.expression;
 
+import main.symbolTable.items.SymbolTableItem;
 import main.visitor.IVisitor;
 
 //line -> IDENTIFIER
 public class Identifier extends Expression{
     private String name;
+    //Set by NameAnalyser: the struct, function or variable the name refers to where it
+    //is used, or null when nothing visible there declares it.
+    private SymbolTableItem binding;
 
     public Identifier(String name) {
         this.name = name;
@@ -17,6 +21,13 @@ public class Identifier extends Expression{
         this.name = name;
     }
 
+    public SymbolTableItem getBinding() {
+        return binding;
+    }
+    public void setBinding(SymbolTableItem binding) {
+        this.binding = binding;
+    }
+
     @Override
     public String toString() {
         return "Identifier_" + this.name;
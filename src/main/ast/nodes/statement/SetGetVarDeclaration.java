@@ -58,6 +58,7 @@ public class SetGetVarDeclaration extends Statement {
         if (curVar == null) {
             curVar = new VariableDeclaration(varName, varType);
             curVar.setLine(this.getLine());
+            curVar.setSpan(this.getSpan());
         }
         return curVar;
     }
@@ -1,29 +1,29 @@
 package main.ast.types;
 
-import java.util.ArrayList;
+import main.ast.types.primitives.VoidType;
+
+import java.util.List;
 
 public class FptrType extends Type {
-    private ArrayList<Type> argsType;
-    private Type returnType;
+    private final List<Type> argsType;
+    private final Type returnType;
 
-    public FptrType(ArrayList<Type> argsTypes, Type returnType) {
-        this.argsType = argsTypes;
+    //A lone void argument means the function takes no arguments.
+    public FptrType(List<Type> argsTypes, Type returnType) {
+        if (argsTypes.size() == 1 && argsTypes.get(0) instanceof VoidType)
+            argsTypes = List.of();
+        this.argsType = List.copyOf(argsTypes);
         this.returnType = returnType;
     }
 
-    public ArrayList<Type> getArgsType() { return argsType; }
-    public void setArgsType(ArrayList<Type> argsTypes) { this.argsType = argsTypes; }
-    public void addArgType(Type type) { this.argsType.add(type); }
+    public List<Type> getArgsType() { return argsType; }
 
     public Type getReturnType() {
         return returnType;
     }
-    public void setReturnType(Type returnType) {
-        this.returnType = returnType;
-    }
 
     @Override
     public String toString() {
         return "FptrType";
     }
-}
\ No newline at end of file
+}
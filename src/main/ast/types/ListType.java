@@ -1,7 +1,7 @@
 package main.ast.types;
 
 public class ListType extends Type {
-    private Type elementType;
+    private final Type elementType;
 
     public ListType(Type elementType) {
         this.elementType = elementType;
@@ -10,9 +10,6 @@ public class ListType extends Type {
     public Type getType() {
         return elementType;
     }
-    public void setType(Type elementType) {
-        this.elementType = elementType;
-    }
 
     @Override
     public String toString() {
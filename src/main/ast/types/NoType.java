@@ -1,6 +1,15 @@
 package main.ast.types;
 
 public class NoType extends Type {
+    private static final NoType INSTANCE = new NoType();
+
+    private NoType() {
+    }
+
+    public static NoType getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "NoType";
@@ -1,21 +1,16 @@
 package main.ast.types;
 
-import main.ast.nodes.expression.Identifier;
-
 public class StructType extends Type {
-    private Identifier structName;
+    private final String structName;
 
-    public StructType(Identifier structName) {
+    public StructType(String structName) {
         this.structName = structName;
     }
 
-    public Identifier getStructName() { return structName; }
-    public void setStructName(Identifier structName) {
-        this.structName = structName;
-    }
+    public String getStructName() { return structName; }
 
     @Override
     public String toString() {
-        return "StructType_" + this.structName.getName();
+        return "StructType_" + this.structName;
     }
 }
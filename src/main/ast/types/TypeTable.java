@@ -0,0 +1,143 @@
+package main.ast.types;
+
+import main.ast.types.primitives.VoidType;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+//Per-compilation table of canonical types: structurally equal list, struct and fptr types
+//are the same object, so matching types compare by reference. A single void argument
+//is dropped, as FptrType does. NoType matches anything, even nested, so only the
+//types containing it need a structural comparison, which is remembered.
+//Safe to share between threads: a type is registered before any other thread can get it.
+//Types do not override equals(), so the concurrent maps keyed by them compare identities.
+public class TypeTable {
+    private final ConcurrentHashMap<String, StructType> structs = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Type, ListType> lists = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Signature, FptrType> fptrs = new ConcurrentHashMap<>();
+    private final Set<Type> canonical = ConcurrentHashMap.newKeySet();
+    private final Set<Type> withNoType = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Signature, Boolean> compatible = new ConcurrentHashMap<>();
+
+    //Identity-based key over a few canonical types.
+    private static final class Signature {
+        private final Type[] types;
+        private final int hash;
+
+        Signature(Type... types) {
+            this.types = types;
+            int h = 1;
+            for (Type type : types)
+                h = 31 * h + System.identityHashCode(type);
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Signature))
+                return false;
+            Type[] otherTypes = ((Signature) other).types;
+            if (otherTypes.length != types.length)
+                return false;
+            for (int i = 0; i < types.length; i++)
+                if (types[i] != otherTypes[i])
+                    return false;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    public StructType struct(String structName) {
+        StructType type = structs.get(structName);
+        if (type == null)
+            type = structs.computeIfAbsent(structName, name -> register(new StructType(name), false));
+        return type;
+    }
+
+    public ListType list(Type elementType) {
+        Type element = intern(elementType);
+        ListType type = lists.get(element);
+        if (type == null)
+            type = lists.computeIfAbsent(element, key -> register(new ListType(key), hasNoType(key)));
+        return type;
+    }
+
+    public FptrType fptr(List<Type> argsTypes, Type returnType) {
+        int count = argsTypes.size();
+        if (count == 1 && argsTypes.get(0) instanceof VoidType)
+            count = 0;
+        Type[] key = new Type[count + 1];
+        boolean noType = hasNoType(key[0] = intern(returnType));
+        for (int i = 0; i < count; i++)
+            noType |= hasNoType(key[i + 1] = intern(argsTypes.get(i)));
+        Signature signature = new Signature(key);
+        FptrType type = fptrs.get(signature);
+        if (type == null) {
+            boolean withNoTypeArgs = noType;
+            type = fptrs.computeIfAbsent(signature, unused -> register(
+                    new FptrType(Arrays.asList(key).subList(1, key.length), key[0]), withNoTypeArgs));
+        }
+        return type;
+    }
+
+    public Type intern(Type type) {
+        if (type == null || canonical.contains(type))
+            return type;
+        if (type instanceof ListType)
+            return list(((ListType) type).getType());
+        if (type instanceof StructType)
+            return struct(((StructType) type).getStructName());
+        if (type instanceof FptrType)
+            return fptr(((FptrType) type).getArgsType(), ((FptrType) type).getReturnType());
+        return type;
+    }
+
+    public boolean isSameType(Type first, Type second) {
+        first = intern(first);
+        second = intern(second);
+        if (first == second || first instanceof NoType || second instanceof NoType)
+            return true;
+        if (!hasNoType(first) && !hasNoType(second))
+            return false;
+        Signature pair = new Signature(first, second);
+        Boolean result = compatible.get(pair);
+        if (result == null) {
+            result = compareStructurally(first, second);
+            compatible.put(pair, result);
+        }
+        return result;
+    }
+
+    private <T extends Type> T register(T type, boolean noType) {
+        if (noType)
+            withNoType.add(type);
+        canonical.add(type);
+        return type;
+    }
+
+    private boolean hasNoType(Type type) {
+        return type instanceof NoType || (type != null && withNoType.contains(type));
+    }
+
+    private boolean compareStructurally(Type first, Type second) {
+        if (first instanceof ListType && second instanceof ListType)
+            return isSameType(((ListType) first).getType(), ((ListType) second).getType());
+        if (first instanceof FptrType && second instanceof FptrType) {
+            FptrType firstFptr = (FptrType) first;
+            FptrType secondFptr = (FptrType) second;
+            if (!isSameType(firstFptr.getReturnType(), secondFptr.getReturnType()))
+                return false;
+            if (firstFptr.getArgsType().size() != secondFptr.getArgsType().size())
+                return false;
+            for (int i = 0; i < firstFptr.getArgsType().size(); i++)
+                if (!isSameType(firstFptr.getArgsType().get(i), secondFptr.getArgsType().get(i)))
+                    return false;
+            return true;
+        }
+        return false;
+    }
+}
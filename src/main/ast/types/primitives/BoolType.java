@@ -3,6 +3,15 @@ package main.ast.types.primitives;
 import main.ast.types.Type;
 
 public class BoolType extends Type {
+    private static final BoolType INSTANCE = new BoolType();
+
+    private BoolType() {
+    }
+
+    public static BoolType getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "BoolType";
@@ -3,6 +3,15 @@ package main.ast.types.primitives;
 import main.ast.types.Type;
 
 public class IntType extends Type {
+    private static final IntType INSTANCE = new IntType();
+
+    private IntType() {
+    }
+
+    public static IntType getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "IntType";
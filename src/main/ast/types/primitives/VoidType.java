@@ -3,6 +3,15 @@ package main.ast.types.primitives;
 import main.ast.types.Type;
 
 public class VoidType extends Type {
+    private static final VoidType INSTANCE = new VoidType();
+
+    private VoidType() {
+    }
+
+    public static VoidType getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     public String toString() {
         return "VoidType";
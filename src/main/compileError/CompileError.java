@@ -4,7 +4,9 @@ public class CompileError extends Exception {
     private int line;
     protected String message;
 
+    //Only the message is ever printed, so no stack trace is captured
     public CompileError(int line, String message) {
+        super(null, null, false, false);
         this.line = line;
         this.message = message;
     }
@@ -1,8 +1,6 @@
 package main.compileError.nameError;
 
-import main.compileError.CompileError;
-
-public class CyclicDependency extends CompileError {
+public class CyclicDependency extends NameError {
     public CyclicDependency(int line, String structName) {
         super(line, "Struct " + structName + " is in dependency cycle");
     }
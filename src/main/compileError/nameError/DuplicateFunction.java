@@ -1,8 +1,6 @@
 package main.compileError.nameError;
 
-import main.compileError.CompileError;
-
-public class DuplicateFunction extends CompileError {
+public class DuplicateFunction extends NameError {
     public DuplicateFunction(int line, String functionName) {
         super(line, "Duplicate function " + functionName);
     }
@@ -1,8 +1,6 @@
 package main.compileError.nameError;
 
-import main.compileError.CompileError;
-
-public class DuplicateStruct extends CompileError {
+public class DuplicateStruct extends NameError {
     public DuplicateStruct(int line, String structName) {
         super(line, "Duplicate struct " + structName);
     }
@@ -0,0 +1,10 @@
+package main.compileError.nameError;
+
+import main.compileError.CompileError;
+
+//The errors that stop compilation before type checking.
+public abstract class NameError extends CompileError {
+    public NameError(int line, String message) {
+        super(line, message);
+    }
+}
@@ -1,8 +1,6 @@
 package main.compileError.nameError;
 
-import main.compileError.CompileError;
-
-public class VarFunctionConflict extends CompileError {
+public class VarFunctionConflict extends NameError {
     public VarFunctionConflict(int line, String varName) {
         super(line, "Name of variable " + varName + " conflicts with a function's name");
     }
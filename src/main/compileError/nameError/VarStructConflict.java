@@ -1,8 +1,6 @@
 package main.compileError.nameError;
 
-import main.compileError.CompileError;
-
-public class VarStructConflict extends CompileError {
+public class VarStructConflict extends NameError {
     public VarStructConflict(int line, String varName) {
         super(line, "Name of variable " + varName + " conflicts with a struct's name");
     }
@@ -0,0 +1,287 @@
+package main.footprint;
+
+import org.antlr.v4.runtime.Token;
+
+import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+//Estimates the heap held by a compiled program, broken down by class, assuming a 64-bit
+//JVM with compressed references. Application objects (AST nodes, types, symbol tables and
+//their items, compile errors, tokens) get a row per class. JDK collections and object arrays
+//get a row per field holding them, e.g. "Node.errors : ArrayList". Their internals and the
+//strings or boxes they hold are added to the retained size of the object that reached them first.
+//Fields the JDK does not open to reflection are counted in the shallow size but not followed;
+//the classes that have such fields are listed after the total.
+public class MemoryFootprint {
+    private static final int HEADER = 12;
+    private static final int ARRAY_HEADER = 16;
+    private static final int REFERENCE = 4;
+
+    private static class Row {
+        private final String name;
+        private long count;
+        private long shallow;
+        private long retained;
+
+        Row(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Pending {
+        private final Object object;
+        private final String label;
+        private final Row owner;
+
+        Pending(Object object, String label, Row owner) {
+            this.object = object;
+            this.label = label;
+            this.owner = owner;
+        }
+    }
+
+    private final Map<String, Row> rows = new HashMap<>();
+    private final Set<Object> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final ArrayDeque<Pending> pending = new ArrayDeque<>();
+    private final Map<Class<?>, List<Field>> fields = new HashMap<>();
+    private final Map<Class<?>, List<String>> unreadable = new HashMap<>();
+    private final Map<String, List<String>> partlyMeasured = new TreeMap<>();
+    private final Map<Class<?>, Long> sizes = new HashMap<>();
+    private long total;
+
+    //The label names the row of root collections, such as the token list.
+    public void add(String label, Object root) {
+        schedule(root, label, null);
+        while (!pending.isEmpty()) {
+            Pending next = pending.pop();
+            if (isApplication(next.object))
+                measureObject(next.object);
+            else
+                measureContainer(next.object, next.label, next.owner);
+        }
+    }
+
+    public void print(PrintStream out) {
+        ArrayList<Row> sorted = new ArrayList<>(rows.values());
+        sorted.sort(Comparator.comparingLong((Row row) -> row.retained).reversed()
+                .thenComparing(row -> row.name));
+        out.println(String.format("%-64s %10s %14s %14s", "class", "count", "shallow", "retained"));
+        for (Row row : sorted)
+            out.println(String.format("%-64s %10d %14d %14d", row.name, row.count, row.shallow, row.retained));
+        out.println(String.format("%-64s %10s %14s %14d", "total", "", "", total));
+        if (!partlyMeasured.isEmpty())
+            out.println("partly measured, these fields were not followed:");
+        for (Map.Entry<String, List<String>> entry : partlyMeasured.entrySet())
+            out.println("  " + entry.getKey() + ": " + String.join(", ", entry.getValue()));
+    }
+
+    private static boolean isApplication(Object object) {
+        return object.getClass().getName().startsWith("main.") || object instanceof Token;
+    }
+
+    private static boolean isLeaf(Object object) {
+        return object instanceof String || object instanceof Number
+                || object instanceof Boolean || object instanceof Character;
+    }
+
+    private static boolean isIgnored(Object object) {
+        //Enum constants and classes are shared, the rest of ANTLR belongs to the parser
+        return object instanceof Enum || object instanceof Class
+                || (object.getClass().getName().startsWith("org.antlr.") && !(object instanceof Token));
+    }
+
+    private Row row(String name) {
+        return rows.computeIfAbsent(name, Row::new);
+    }
+
+    private void schedule(Object object, String label, Row owner) {
+        if (object == null || isIgnored(object) || !seen.add(object))
+            return;
+        if (isLeaf(object)) {
+            measureLeaf(object, owner, null);
+            return;
+        }
+        if (!isApplication(object) && !(object instanceof Collection) && !(object instanceof Map)
+                && !(object instanceof Object[]))
+            return;
+        pending.push(new Pending(object, label, owner));
+    }
+
+    private void measureObject(Object object) {
+        Class<?> type = object.getClass();
+        Row row = row(type.getName());
+        long size = shallowSize(type);
+        row.count++;
+        row.shallow += size;
+        row.retained += size;
+        total += size;
+        List<Field> readable = fieldsOf(type);
+        if (!unreadable.get(type).isEmpty())
+            partlyMeasured.putIfAbsent(row.name, unreadable.get(type));
+        for (Field field : readable) {
+            Object value;
+            try {
+                value = field.get(object);
+            } catch (IllegalAccessException e) {
+                continue;
+            }
+            if (value == null)
+                continue;
+            if (isApplication(value))
+                schedule(value, null, null);
+            else
+                schedule(value, field.getDeclaringClass().getSimpleName() + "." + field.getName()
+                        + " : " + value.getClass().getSimpleName(), row);
+        }
+    }
+
+    private void measureContainer(Object container, String label, Row owner) {
+        Row row = row(label != null ? label : container.getClass().getSimpleName());
+        long size = containerSize(container);
+        row.count++;
+        row.shallow += size;
+        row.retained += size;
+        total += size;
+        if (owner != null)
+            owner.retained += size;
+        Collection<?> elements;
+        if (container instanceof Object[])
+            elements = Arrays.asList((Object[]) container);
+        else if (container instanceof Map)
+            elements = concat(((Map<?, ?>) container).keySet(), ((Map<?, ?>) container).values());
+        else
+            elements = (Collection<?>) container;
+        for (Object element : elements) {
+            if (element == null)
+                continue;
+            if (isApplication(element))
+                schedule(element, null, null);
+            else if (isLeaf(element)) {
+                if (seen.add(element))
+                    measureLeaf(element, row, owner);
+            }
+            else
+                schedule(element, row.name + " > " + element.getClass().getSimpleName(), owner != null ? owner : row);
+        }
+    }
+
+    private void measureLeaf(Object leaf, Row holder, Row owner) {
+        long size = leafSize(leaf);
+        total += size;
+        if (holder != null)
+            holder.retained += size;
+        if (owner != null)
+            owner.retained += size;
+    }
+
+    private static Collection<Object> concat(Collection<?> first, Collection<?> second) {
+        ArrayList<Object> result = new ArrayList<>(first.size() + second.size());
+        result.addAll(first);
+        result.addAll(second);
+        return result;
+    }
+
+    private List<Field> fieldsOf(Class<?> type) {
+        List<Field> result = fields.get(type);
+        if (result != null)
+            return result;
+        result = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive())
+                    continue;
+                try {
+                    field.setAccessible(true);
+                    result.add(field);
+                } catch (RuntimeException e) { //not opened to us
+                    skipped.add(current.getSimpleName() + "." + field.getName());
+                }
+            }
+        }
+        fields.put(type, result);
+        unreadable.put(type, skipped);
+        return result;
+    }
+
+    private long shallowSize(Class<?> type) {
+        Long cached = sizes.get(type);
+        if (cached != null)
+            return cached;
+        long size = HEADER;
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()))
+                    size += fieldSize(field.getType());
+            }
+        }
+        size = align(size);
+        sizes.put(type, size);
+        return size;
+    }
+
+    private static int fieldSize(Class<?> type) {
+        if (type == long.class || type == double.class)
+            return 8;
+        if (type == int.class || type == float.class)
+            return 4;
+        if (type == short.class || type == char.class)
+            return 2;
+        if (type == byte.class || type == boolean.class)
+            return 1;
+        return REFERENCE;
+    }
+
+    private static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static long referenceArray(int length) {
+        return length == 0 ? 0 : align(ARRAY_HEADER + (long) REFERENCE * length);
+    }
+
+    private static int hashTableLength(int size) {
+        int length = 16;
+        while (size > length * 3 / 4)
+            length <<= 1;
+        return size == 0 ? 0 : length;
+    }
+
+    private static long leafSize(Object leaf) {
+        if (leaf instanceof String)
+            return 24 + align(ARRAY_HEADER + ((String) leaf).length());
+        if (leaf instanceof Long || leaf instanceof Double)
+            return 24;
+        return 16;
+    }
+
+    private static long containerSize(Object container) {
+        if (container instanceof Object[])
+            return align(ARRAY_HEADER + (long) REFERENCE * ((Object[]) container).length);
+        if (container instanceof Vector) {
+            int size = ((Vector<?>) container).size();
+            return 32 + referenceArray(Math.max(size, 10));
+        }
+        if (container instanceof ArrayList) {
+            int size = ((ArrayList<?>) container).size();
+            return 24 + referenceArray(size == 0 ? 0 : Math.max(size, 10));
+        }
+        if (container instanceof LinkedList)
+            return 32 + 24L * ((LinkedList<?>) container).size();
+        if (container instanceof HashSet) {
+            int size = ((HashSet<?>) container).size();
+            return 16 + 48 + referenceArray(hashTableLength(size)) + 32L * size;
+        }
+        if (container instanceof LinkedHashMap) {
+            int size = ((Map<?, ?>) container).size();
+            return 56 + referenceArray(hashTableLength(size)) + 40L * size;
+        }
+        if (container instanceof Map) {
+            int size = ((Map<?, ?>) container).size();
+            return 48 + referenceArray(hashTableLength(size)) + 32L * size;
+        }
+        return 24 + referenceArray(((Collection<?>) container).size());
+    }
+}
@@ -14,6 +14,20 @@ grammar Cmm;
      import java.util.*;
  }
 
+@parser::members{
+    private final TypeTable types = new TypeTable();
+
+    private void setSpan(Node node, Token start) {
+        Token stop = _input.LT(-1);
+        node.setSpan(start.getStartIndex(), stop.getStopIndex(), start.getCharPositionInLine());
+    }
+
+    private void setSpan(Node node, Node first) {
+        Token stop = _input.LT(-1);
+        node.setSpan(first.getStartOffset(), stop.getStopIndex(), first.getColumn());
+    }
+}
+
 
 cmm returns[Program cmmProgram]:
     NEWLINE* p = program {$cmmProgram = $p.programRet;} NEWLINE* EOF;
@@ -21,17 +35,20 @@ cmm returns[Program cmmProgram]:
 
 program returns[Program programRet]:
     {$programRet = new Program();
-     $programRet.setLine(1);}
+     $programRet.setLine(1);
+     $programRet.setTypeTable(types);}
     (s = structDeclaration {$programRet.addStruct($s.structDeclarationRet);})*
     (f = functionDeclaration {$programRet.addFunction($f.functionDeclarationRet);})*
-    m = main {$programRet.setMain($m.mainRet);};
+    m = main {$programRet.setMain($m.mainRet);
+    setSpan($programRet, $start);};
 
 
 main returns[MainDeclaration mainRet]:
     {$mainRet = new MainDeclaration();}
     m = MAIN LPAR RPAR b = body
     {$mainRet.setLine($m.getLine());
-     $mainRet.setBody($b.bodyRet);};
+     $mainRet.setBody($b.bodyRet);
+     setSpan($mainRet, $m);};
 
 
 structDeclaration returns[StructDeclaration structDeclarationRet]:
@@ -44,11 +61,11 @@ structDeclaration returns[StructDeclaration structDeclarationRet]:
     $sb.structBodyRet.setLine($b.getLine());
     $structDeclarationRet.setBody($sb.structBodyRet);
     }
-    NEWLINE+ END)
+    NEWLINE+ END {setSpan($sb.structBodyRet, $b);})
     |(NEWLINE+ sss = singleStatementStructBody{
     $structDeclarationRet.setBody($sss.stmt);
     }
-    SEMICOLON?)) NEWLINE+;
+    SEMICOLON?)) {setSpan($structDeclarationRet, $s);} NEWLINE+;
 
 
 singleVarWithGetAndSet returns[SetGetVarDeclaration singleVarWithGetAndSetRet]:
@@ -68,7 +85,7 @@ singleVarWithGetAndSet returns[SetGetVarDeclaration singleVarWithGetAndSetRet]:
     gb = getBody{
     $singleVarWithGetAndSetRet.setGetterBody($gb.getBodyRet);
     }
-    END;
+    END {setSpan($singleVarWithGetAndSetRet, $t.start);};
 
 
 singleStatementStructBody returns[Statement stmt]:
@@ -104,13 +121,14 @@ functionDeclaration returns[FunctionDeclaration functionDeclarationRet]:
     $functionDeclarationRet.setReturnType($t.typeRet);
     }
     | VOID {
-    $functionDeclarationRet.setReturnType(new VoidType());
+    $functionDeclarationRet.setReturnType(VoidType.getInstance());
     })
     id = identifier f = functionArgsDec b = body {
     $functionDeclarationRet.setLine($id.identifierRet.getLine());
     $functionDeclarationRet.setFunctionName($id.identifierRet);
     $functionDeclarationRet.setArgs($f.functionArgsDecRet);
     $functionDeclarationRet.setBody($b.bodyRet);
+    setSpan($functionDeclarationRet, $start);
     }
     NEWLINE+;
 
@@ -120,11 +138,13 @@ functionArgsDec returns[ArrayList<VariableDeclaration> functionArgsDecRet]:
     LPAR (t1 = type id1 = identifier{
     VariableDeclaration newVarDec = new VariableDeclaration($id1.identifierRet, $t1.typeRet);
     newVarDec.setLine($id1.identifierRet.getLine());
+    setSpan(newVarDec, $t1.start);
     $functionArgsDecRet.add(newVarDec);
     }
     (COMMA t2 = type id2 = identifier {
     newVarDec = new VariableDeclaration($id2.identifierRet, $t2.typeRet);
     newVarDec.setLine($id2.identifierRet.getLine());
+    setSpan(newVarDec, $t2.start);
     $functionArgsDecRet.add(newVarDec); }
     )*)? RPAR ;
 
@@ -164,7 +184,8 @@ blockStatement returns[BlockStmt blockStatementRet]:
     } SEMICOLON)*
     s2 = singleStatement{
     $blockStatementRet.addStatement($s2.singleStatementRet);
-    } (SEMICOLON)?)+ NEWLINE+ END;
+    } (SEMICOLON)?)+ NEWLINE+ END
+    {setSpan($blockStatementRet, $b);};
 
 
 varDecStatement returns[VarDecStmt varDecStatementRet]:
@@ -175,13 +196,16 @@ varDecStatement returns[VarDecStmt varDecStatementRet]:
     $varDecStatementRet.setLine(newVarDec.getLine());
     }
     (ASSIGN exp1 = orExpression {newVarDec.setDefaultValue($exp1.orExprRet);})?
-    {$varDecStatementRet.addVar(newVarDec);}
+    {setSpan(newVarDec, $t.start);
+     $varDecStatementRet.addVar(newVarDec);}
     (COMMA id2 = identifier{
     newVarDec = new VariableDeclaration($id2.identifierRet, $t.typeRet);
     newVarDec.setLine($id2.identifierRet.getLine());
     }
     (ASSIGN exp2 = orExpression{newVarDec.setDefaultValue($exp2.orExprRet);})?
-    {$varDecStatementRet.addVar(newVarDec);} )*;
+    {setSpan(newVarDec, $id2.start);
+     $varDecStatementRet.addVar(newVarDec);} )*
+    {setSpan($varDecStatementRet, $start);};
 
 
 functionCallStmt returns[FunctionCallStmt functionCallStmtRet]
@@ -191,23 +215,28 @@ functionCallStmt returns[FunctionCallStmt functionCallStmtRet]
      {$expr = $oth.expr;}
      ((l = LPAR f = functionArguments RPAR
      {$expr = new FunctionCall($expr, $f.funcArgRet);
-      $expr.setLine($l.getLine());}
+      $expr.setLine($l.getLine());
+      setSpan($expr, $start);}
      ) | (DOT i = identifier
       {$expr = new StructAccess($expr, $i.identifierRet);
-       $expr.setLine($i.line);}
+       $expr.setLine($i.line);
+       setSpan($expr, $start);}
      ))* (ll = LPAR ff = functionArguments RPAR
      {$fcall = new FunctionCall($expr, $ff.funcArgRet);
-      $fcall.setLine($ll.getLine());}
+      $fcall.setLine($ll.getLine());
+      setSpan($fcall, $start);}
      )
      {$functionCallStmtRet = new FunctionCallStmt($fcall);
-      $functionCallStmtRet.setLine($fcall.getLine());}
+      $functionCallStmtRet.setLine($fcall.getLine());
+      $functionCallStmtRet.setSpan($fcall.getSpan());}
      ;
 
 
 returnStatement returns[ReturnStmt returnStatementRet]:
     {$returnStatementRet = new ReturnStmt();}
     r = RETURN {$returnStatementRet.setLine($r.getLine());}
-    (exp = expression {$returnStatementRet.setReturnedExpr($exp.exprRet);})?;
+    (exp = expression {$returnStatementRet.setReturnedExpr($exp.exprRet);})?
+    {setSpan($returnStatementRet, $r);};
 
 
 ifStatement returns[ConditionalStmt ifStatementRet]:
@@ -220,7 +249,8 @@ ifStatement returns[ConditionalStmt ifStatementRet]:
     {$ifStatementRet.setThenBody($body2.bodyRet);}
     elsest = elseStatement
     {$ifStatementRet.setElseBody($elsest.stmt);}
-    );
+    )
+    {setSpan($ifStatementRet, $cond);};
 
 
 elseStatement returns [Statement stmt]:
@@ -243,7 +273,8 @@ whileLoopStatement returns [LoopStmt stmt]:
     {$stmt.setCondition($exp.exprRet);
      $stmt.setLine($w.getLine());}
     bd = loopCondBody
-    {$stmt.setBody($bd.stmtRet);}
+    {$stmt.setBody($bd.stmtRet);
+     setSpan($stmt, $w);}
     ;
 
 
@@ -253,7 +284,8 @@ doWhileLoopStatement returns [LoopStmt stmt]:
     {$stmt.setBody($bd.bodyRet);
      $stmt.setLine($d.getLine());}
     NEWLINE* WHILE exp = expression
-    {$stmt.setCondition($exp.exprRet);}
+    {$stmt.setCondition($exp.exprRet);
+     setSpan($stmt, $d);}
     ;
 
 
@@ -261,13 +293,14 @@ displayStatement returns[DisplayStmt displayStatementRet]:
   dis = DISPLAY LPAR exp = expression
   {$displayStatementRet = new DisplayStmt($exp.exprRet);
    $displayStatementRet.setLine($dis.getLine());}
-  RPAR;
+  RPAR {setSpan($displayStatementRet, $dis);};
 
 
 assignmentStatement returns[AssignmentStmt assignmentStatementRet]:
     left = orExpression a = ASSIGN right = expression
     {$assignmentStatementRet = new AssignmentStmt($left.orExprRet, $right.exprRet);
-     $assignmentStatementRet.setLine($a.getLine());}
+     $assignmentStatementRet.setLine($a.getLine());
+     setSpan($assignmentStatementRet, $start);}
     ;
 
 
@@ -282,21 +315,34 @@ singleStatement returns[Statement singleStatementRet]:
     | ap = append
     {ListAppendStmt listAppend = new ListAppendStmt($ap.appendRet);
      listAppend.setLine($ap.line);
+     listAppend.setSpan($ap.appendRet.getSpan());
      $singleStatementRet = listAppend;}
     | s = size
     {ListSizeStmt listSize = new ListSizeStmt($s.sizeRet);
      listSize.setLine($s.line);
+     listSize.setSpan($s.sizeRet.getSpan());
      $singleStatementRet = listSize;}
     ;
 
 
-expression returns[Expression exprRet]:
-    expl = orExpression {$exprRet = $expl.orExprRet;}
-    (op = ASSIGN expr = expression {
+expression returns[Expression exprRet]
+    locals [ArrayList<Expression> operands, ArrayList<Token> ops]:
+    {$operands = new ArrayList<>();
+     $ops = new ArrayList<>();}
+    expl = orExpression {$operands.add($expl.orExprRet);}
+    (op = ASSIGN expr = orExpression {
+        $operands.add($expr.orExprRet);
+        $ops.add($op);
+    })*
+    {
+    $exprRet = $operands.get($operands.size() - 1);
+    for (int i = $ops.size() - 1; i >= 0; i--) {
         BinaryOperator opr = BinaryOperator.assign;
-        $exprRet = new BinaryExpression($exprRet, $expr.exprRet, opr);
-        $exprRet.setLine($op.getLine());
-    })?
+        $exprRet = new BinaryExpression($operands.get(i), $exprRet, opr);
+        $exprRet.setLine($ops.get(i).getLine());
+        setSpan($exprRet, $operands.get(i));
+    }
+    }
     ;
 
 
@@ -306,6 +352,7 @@ orExpression returns[Expression orExprRet]:
         BinaryOperator opr = BinaryOperator.or;
         $orExprRet = new BinaryExpression($orExprRet, $expr.andExprRet, opr);
         $orExprRet.setLine($op.getLine());
+        setSpan($orExprRet, $start);
     })*
     ;
 
@@ -316,6 +363,7 @@ andExpression returns[Expression andExprRet]:
         BinaryOperator opr = BinaryOperator.and;
         $andExprRet = new BinaryExpression($andExprRet, $expr.equalityExprRet, opr);
         $andExprRet.setLine($op.getLine());
+        setSpan($andExprRet, $start);
     })*;
 
 
@@ -325,6 +373,7 @@ equalityExpression returns[Expression equalityExprRet]:
         BinaryOperator opr = BinaryOperator.eq;
         $equalityExprRet = new BinaryExpression($equalityExprRet, $expr.relationalExprRet, opr);
         $equalityExprRet.setLine($op.getLine());
+        setSpan($equalityExprRet, $start);
     })*;
 
 
@@ -340,7 +389,8 @@ relationalExpression returns [Expression relationalExprRet]
      $line = $op2.getLine();}
     ) r = additiveExpression
     {$relationalExprRet = new BinaryExpression($relationalExprRet,$r.expr,$op);
-     $relationalExprRet.setLine($line);}
+     $relationalExprRet.setLine($line);
+     setSpan($relationalExprRet, $start);}
     )*;
 
 
@@ -357,7 +407,8 @@ additiveExpression returns [Expression expr]
 
     ) r = multiplicativeExpression
     {$expr = new BinaryExpression($expr,$r.expr,$op);
-     $expr.setLine($line);}
+     $expr.setLine($line);
+     setSpan($expr, $start);}
     )*;
 
 
@@ -373,23 +424,24 @@ multiplicativeExpression returns [Expression expr]
      $line = $op2.getLine();}
     ) r = preUnaryExpression
     {$expr = new BinaryExpression($expr,$r.expr,$op);
-    $expr.setLine($line);}
+    $expr.setLine($line);
+    setSpan($expr, $start);}
     )*;
 
 
 preUnaryExpression returns [Expression expr]
-    locals[UnaryOperator op, int line]:
-    ((op1 = NOT
-    {$op = UnaryOperator.not;
-     $line = $op1.getLine();}
-    | op2 = MINUS
-    {$op = UnaryOperator.minus;
-     $line = $op2.getLine();}
-    ) pre = preUnaryExpression
-    {$expr = new UnaryExpression($pre.expr, $op);
-     $expr.setLine($line);}
-    ) | ac = accessExpression
-    {$expr = $ac.expr;}
+    locals[ArrayList<Token> ops]:
+    {$ops = new ArrayList<>();}
+    (op = (NOT | MINUS) {$ops.add($op);})*
+    ac = accessExpression
+    {$expr = $ac.expr;
+     for (int i = $ops.size() - 1; i >= 0; i--) {
+         Token opToken = $ops.get(i);
+         UnaryOperator opr = opToken.getType() == NOT ? UnaryOperator.not : UnaryOperator.minus;
+         $expr = new UnaryExpression($expr, opr);
+         $expr.setLine(opToken.getLine());
+         setSpan($expr, opToken);
+     }}
     ;
 
 
@@ -399,17 +451,19 @@ accessExpression returns [Expression expr]:
     ((l = LPAR f = functionArguments
     {$expr = new FunctionCall($expr, $f.funcArgRet);
      $expr.setLine($l.getLine());}
-    RPAR)
+    RPAR {setSpan($expr, $start);})
     | (DOT i = identifier
     {$expr = new StructAccess($expr, $i.identifierRet);
-     $expr.setLine($i.line);}
+     $expr.setLine($i.line);
+     setSpan($expr, $start);}
     ))*
     ((l = LBRACK ex = expression
     {$expr = new ListAccessByIndex($expr, $ex.exprRet);
      $expr.setLine($l.getLine());}
-    RBRACK) | (DOT i=identifier
+    RBRACK {setSpan($expr, $start);}) | (DOT i=identifier
     {$expr = new StructAccess($expr, $i.identifierRet);
-     $expr.setLine($i.line);}
+     $expr.setLine($i.line);
+     setSpan($expr, $start);}
     ))*;
 
 
@@ -421,6 +475,7 @@ otherExpression returns [Expression expr]:
     | l = LPAR (f = functionArguments) RPAR
     {ExprInPar ex = new ExprInPar($f.funcArgRet);
      ex.setLine($l.getLine());
+     setSpan(ex, $l);
      $expr = ex;}
     | s = size
     {$expr = $s.sizeRet;}
@@ -434,13 +489,14 @@ size returns [ListSize sizeRet, int line]:
     {$sizeRet = new ListSize($ex.exprRet);
      $sizeRet.setLine($s.getLine());
      $line = $s.getLine();}
-    RPAR;
+    RPAR {setSpan($sizeRet, $s);};
 
 
 append returns [ListAppend appendRet, int line]:
     ap = APPEND LPAR ex1 = expression COMMA ex2 = expression RPAR
     {$appendRet = new ListAppend($ex1.exprRet, $ex2.exprRet);
      $appendRet.setLine($ap.getLine());
+     setSpan($appendRet, $ap);
      $line = $ap.getLine();}
     ;
 
@@ -449,17 +505,20 @@ value returns[Value valueRet]:
     b = boolValue {$valueRet = $b.boolValueRet;}
     | iv = INT_VALUE{
     $valueRet = new IntValue($iv.int);
-    $valueRet.setLine($iv.getLine());}
+    $valueRet.setLine($iv.getLine());
+    setSpan($valueRet, $iv);}
     ;
 
 
 boolValue returns [BoolValue boolValueRet]:
     t = TRUE
     {$boolValueRet = new BoolValue(true);
-     $boolValueRet.setLine($t.getLine());}
+     $boolValueRet.setLine($t.getLine());
+     setSpan($boolValueRet, $t);}
     | f = FALSE
     {$boolValueRet = new BoolValue(false);
-     $boolValueRet.setLine($f.getLine());}
+     $boolValueRet.setLine($f.getLine());
+     setSpan($boolValueRet, $f);}
     ;
 
 
@@ -467,14 +526,15 @@ identifier returns[Identifier identifierRet, int line]:
     id = IDENTIFIER {
     $identifierRet = new Identifier($id.text);
     $identifierRet.setLine($id.getLine());
+    setSpan($identifierRet, $id);
     $line = $id.getLine();};
 
 
 type returns[Type typeRet]:
-      INT {$typeRet = new IntType();}
-    | BOOL {$typeRet = new BoolType();}
-    | LIST SHARP t = type {$typeRet = new ListType($t.typeRet);}
-    | STRUCT id = identifier {$typeRet = new StructType($id.identifierRet);}
+      INT {$typeRet = IntType.getInstance();}
+    | BOOL {$typeRet = BoolType.getInstance();}
+    | LIST SHARP t = type {$typeRet = types.list($t.typeRet);}
+    | STRUCT id = identifier {$typeRet = types.struct($id.identifierRet.getName());}
     | f = fptrType {$typeRet = $f.fptrTypeRet;}
     ;
 
@@ -484,8 +544,8 @@ fptrType returns[FptrType fptrTypeRet]:
     FPTR LESS_THAN (VOID
     | (t1 = type { args.add($t1.typeRet); } (COMMA t2 = type { args.add($t2.typeRet); })* ))
 
-    ARROW (t3 = type {$fptrTypeRet = new FptrType(args, $t3.typeRet);}
-    | VOID {$fptrTypeRet = new FptrType(args, new VoidType());}) GREATER_THAN;
+    ARROW (t3 = type {$fptrTypeRet = types.fptr(args, $t3.typeRet);}
+    | VOID {$fptrTypeRet = types.fptr(args, VoidType.getInstance());}) GREATER_THAN;
 
 
 MAIN: 'main';
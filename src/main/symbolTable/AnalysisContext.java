@@ -0,0 +1,112 @@
+package main.symbolTable;
+
+import main.ast.types.StructType;
+import main.symbolTable.items.SymbolTableItem;
+import main.symbolTable.utils.Stack;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+//The scopes of one compilation: the root table holding the structs and functions, and
+//the stack of tables the analysers push while they walk the tree. Also keeps the struct
+//layouts, keyed by the canonical type of each struct; types compare by identity.
+public class AnalysisContext {
+    private final SymbolTable root;
+    private final Stack<SymbolTable> stack = new Stack<>();
+    private SymbolTable top;
+    private int depth;
+    private final ConcurrentHashMap<StructType, StructLayout> layouts;
+    //What each name resolved to from the current scope; kept while the visible names stay the same
+    private final HashMap<String, SymbolTableItem> resolved = new HashMap<>();
+    private static final SymbolTableItem UNDECLARED = new SymbolTableItem() {
+        @Override
+        public Namespace getNamespace() {
+            return null;
+        }
+    };
+
+    public AnalysisContext() {
+        this(new SymbolTable(), new ConcurrentHashMap<>());
+    }
+
+    private AnalysisContext(SymbolTable root, ConcurrentHashMap<StructType, StructLayout> layouts) {
+        this.root = root;
+        this.layouts = layouts;
+    }
+
+    //A context for one of several threads analysing declarations side by side: a scope
+    //stack of its own over a frozen snapshot of the root, sharing the layouts.
+    public AnalysisContext fork() {
+        return new AnalysisContext(root.snapshot(), layouts);
+    }
+
+    public SymbolTable getRoot() {
+        return root;
+    }
+
+    public SymbolTable getTop() {
+        return top;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void push(SymbolTable symbolTable) {
+        //An empty block inside the current scope hides nothing
+        if (symbolTable.pre != top || symbolTable.size(Namespace.VARIABLE) > 0)
+            resolved.clear();
+        if (top != null)
+            stack.push(top);
+        top = symbolTable;
+        depth++;
+    }
+
+    public void pop() {
+        if (depth == 0)
+            throw new IllegalStateException("Popped a scope that was never pushed");
+        SymbolTable popped = top;
+        top = stack.pop();
+        depth--;
+        if (popped.pre != top || popped.size(Namespace.VARIABLE) > 0)
+            resolved.clear();
+    }
+
+    //Declares in the current scope, like SymbolTable.putIfAbsent().
+    public SymbolTableItem declare(SymbolTableItem item) {
+        SymbolTableItem existing = top.putIfAbsent(item);
+        if (existing == null)
+            resolved.remove(item.getName());
+        return existing;
+    }
+
+    //What a name used in the current scope refers to: a struct, else a function, else the
+    //closest variable, or null. Repeated names cost a single probe.
+    public SymbolTableItem resolve(String name) {
+        SymbolTableItem item = resolved.get(name);
+        if (item == null) {
+            item = root.lookup(Namespace.STRUCT, name);
+            if (item == null)
+                item = root.lookup(Namespace.FUNCTION, name);
+            if (item == null && top != null)
+                item = top.lookup(Namespace.VARIABLE, name);
+            resolved.put(name, item == null ? UNDECLARED : item);
+            return item;
+        }
+        return item == UNDECLARED ? null : item;
+    }
+
+    public void setLayout(StructType structType, StructLayout layout) {
+        layouts.put(structType, layout);
+    }
+
+    public StructLayout getLayout(StructType structType) {
+        return layouts.get(structType);
+    }
+
+    //Called once a declaration is done, with the depth it was entered at.
+    public void checkDepth(int expected) {
+        if (depth != expected)
+            throw new IllegalStateException("Scope stack at depth " + depth + ", expected " + expected);
+    }
+}
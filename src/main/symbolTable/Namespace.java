@@ -0,0 +1,6 @@
+package main.symbolTable;
+
+//Variables, functions and structs live apart: one name can mean one of each.
+public enum Namespace {
+    VARIABLE, FUNCTION, STRUCT
+}
@@ -0,0 +1,51 @@
+package main.symbolTable;
+
+import main.ast.types.Type;
+import main.symbolTable.items.SymbolTableItem;
+import main.symbolTable.items.VariableSymbolTableItem;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//The variables of a struct in the order they were declared, fixed once name analysis
+//is done with the struct. Indices are dense, so a back end can use them as slots.
+//A field's type is the one the type checker gives its item.
+public final class StructLayout {
+    private final VariableSymbolTableItem[] fields;
+    private final boolean[] accessors;
+    private final Map<String, Integer> indices = new HashMap<>();
+
+    public StructLayout(List<VariableSymbolTableItem> fields, Set<? extends SymbolTableItem> accessorItems) {
+        this.fields = fields.toArray(new VariableSymbolTableItem[0]);
+        this.accessors = new boolean[this.fields.length];
+        for (int i = 0; i < this.fields.length; i++) {
+            indices.put(this.fields[i].getName(), i);
+            accessors[i] = accessorItems.contains(this.fields[i]);
+        }
+    }
+
+    public int size() {
+        return fields.length;
+    }
+
+    //-1 when the struct has no such field.
+    public int indexOf(String name) {
+        Integer index = indices.get(name);
+        return index == null ? -1 : index;
+    }
+
+    public VariableSymbolTableItem getField(int index) {
+        return fields[index];
+    }
+
+    public Type getFieldType(int index) {
+        return fields[index].getType();
+    }
+
+    //Whether the field is declared with a setter and a getter.
+    public boolean isAccessor(int index) {
+        return accessors[index];
+    }
+}
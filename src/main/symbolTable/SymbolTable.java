@@ -1,68 +1,97 @@
 package main.symbolTable;
 
 
-import main.symbolTable.exceptions.ItemAlreadyExistsException;
-import main.symbolTable.exceptions.ItemNotFoundException;
 import main.symbolTable.items.SymbolTableItem;
-import main.symbolTable.utils.Stack;
-
-
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import main.symbolTable.utils.PersistentMap;
 
 
 
+//A scope over persistent maps: a new scope starts from the shared empty maps, and
+//snapshot() freezes the current contents without copying them.
 public class SymbolTable {
 
-    //Start of static members
+    //Fixed at construction to an existing table, so the chain cannot loop.
+    public final SymbolTable pre;
+    private final boolean frozen;
+    private PersistentMap<String, SymbolTableItem> variables;
+    private PersistentMap<String, SymbolTableItem> functions;
+    private PersistentMap<String, SymbolTableItem> structs;
 
-    public static SymbolTable top;
-    public static SymbolTable root;
-    private static Stack<SymbolTable> stack = new Stack<>();
+    public SymbolTable() {
+        this(null);
+    }
 
-    public static void push(SymbolTable symbolTable) {
-        if (top != null)
-            stack.push(top);
-        top = symbolTable;
+    public SymbolTable(SymbolTable pre) {
+        this(pre, false, PersistentMap.empty(), PersistentMap.empty(), PersistentMap.empty());
     }
 
-    public static void pop() {
-        top = stack.pop();
+    private SymbolTable(SymbolTable pre, boolean frozen, PersistentMap<String, SymbolTableItem> variables,
+                        PersistentMap<String, SymbolTableItem> functions, PersistentMap<String, SymbolTableItem> structs) {
+        this.pre = pre;
+        this.frozen = frozen;
+        this.variables = variables;
+        this.functions = functions;
+        this.structs = structs;
     }
 
-    //End of static members
+    private PersistentMap<String, SymbolTableItem> items(Namespace namespace) {
+        switch (namespace) {
+            case FUNCTION:
+                return functions;
+            case STRUCT:
+                return structs;
+            default:
+                return variables;
+        }
+    }
 
-    public SymbolTable pre;
-    private Map<String, SymbolTableItem> items;
+    //Returns the item already holding the name here, leaving the table unchanged,
+    //or null once the item is added.
+    public SymbolTableItem putIfAbsent(SymbolTableItem item) {
+        if (frozen)
+            throw new IllegalStateException("Cannot declare in a frozen scope");
+        PersistentMap<String, SymbolTableItem> items = items(item.getNamespace());
+        SymbolTableItem existing = items.get(item.getName());
+        if (existing != null)
+            return existing;
+        items = items.put(item.getName(), item);
+        switch (item.getNamespace()) {
+            case FUNCTION:
+                functions = items;
+                break;
+            case STRUCT:
+                structs = items;
+                break;
+            default:
+                variables = items;
+        }
+        return null;
+    }
 
-    public SymbolTable() {
-        this(null);
+    public int size(Namespace namespace) {
+        return items(namespace).size();
     }
 
-    public SymbolTable(SymbolTable pre) {
-        this.pre = pre;
-        this.items = new HashMap<>();
+    public boolean isFrozen() {
+        return frozen;
     }
 
-    public void put(SymbolTableItem item) throws ItemAlreadyExistsException {
-        if (items.containsKey(item.getKey()))
-            throw new ItemAlreadyExistsException();
-        items.put(item.getKey(), item);
+    //The scope and its enclosing ones as they are now. Later declarations do not show
+    //through it, and it can be read from other threads once safely published.
+    public SymbolTable snapshot() {
+        if (frozen)
+            return this;
+        return new SymbolTable(pre == null ? null : pre.snapshot(), true, variables, functions, structs);
     }
 
-    public SymbolTableItem getItem(String key) throws ItemNotFoundException {
-        Set<SymbolTable> visitedSymbolTables = new HashSet<>();
-        SymbolTable currentSymbolTable = this;
-        while((currentSymbolTable != null) && (!visitedSymbolTables.contains(currentSymbolTable))) {
-            visitedSymbolTables.add( currentSymbolTable );
-            SymbolTableItem symbolTableItem = currentSymbolTable.items.get(key);
+    //Returns null when no enclosing table declares the name.
+    public SymbolTableItem lookup(Namespace namespace, String name) {
+        for (SymbolTable currentSymbolTable = this; currentSymbolTable != null; currentSymbolTable = currentSymbolTable.pre) {
+            SymbolTableItem symbolTableItem = currentSymbolTable.items(namespace).get(name);
             if( symbolTableItem != null )
                 return symbolTableItem;
-            currentSymbolTable = currentSymbolTable.pre;
         }
-        throw new ItemNotFoundException();
+        return null;
     }
 
 }
@@ -1,4 +0,0 @@
-package main.symbolTable.exceptions;
-
-public class ItemAlreadyExistsException extends Exception {
-}
@@ -1,5 +0,0 @@
-package main.symbolTable.exceptions;
-
-
-public class ItemNotFoundException extends Exception {
-}
@@ -3,12 +3,12 @@ package main.symbolTable.items;
 
 import main.ast.nodes.declaration.*;
 import main.ast.types.Type;
+import main.symbolTable.Namespace;
 import main.symbolTable.SymbolTable;
 
 import java.util.ArrayList;
 
 public class FunctionSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Function_";
     private main.ast.nodes.declaration.FunctionDeclaration FunctionDeclaration;
     private Type returnType;
     private ArrayList<Type> argTypes = new ArrayList<>();
@@ -56,8 +56,8 @@ public class FunctionSymbolTableItem extends SymbolTableItem {
     }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public Namespace getNamespace() {
+        return Namespace.FUNCTION;
     }
 
 }
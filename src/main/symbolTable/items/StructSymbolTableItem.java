@@ -7,7 +7,6 @@ import main.symbolTable.*;
 import java.util.*;
 
 public class StructSymbolTableItem extends SymbolTableItem {
-    public static final String START_KEY = "Struct_";
     private SymbolTable StructSymbolTable;
     private StructDeclaration structDeclaration;
 
@@ -23,7 +22,7 @@ public class StructSymbolTableItem extends SymbolTableItem {
     public void setStructDeclaration(StructDeclaration structDeclaration) { this.structDeclaration = structDeclaration; }
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public Namespace getNamespace() {
+        return Namespace.STRUCT;
     }
 }
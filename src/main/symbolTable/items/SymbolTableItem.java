@@ -1,10 +1,12 @@
 package main.symbolTable.items;
 
+import main.symbolTable.Namespace;
+
 public abstract class SymbolTableItem {
 
     protected String name;
 
-    public abstract String getKey();
+    public abstract Namespace getNamespace();
 
     public String getName() {
         return name;
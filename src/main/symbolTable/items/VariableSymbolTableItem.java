@@ -2,9 +2,9 @@ package main.symbolTable.items;
 
 import main.ast.nodes.expression.Identifier;
 import main.ast.types.Type;
+import main.symbolTable.Namespace;
 
 public class VariableSymbolTableItem extends SymbolTableItem {
-    public static String START_KEY = "Var_";
     protected Type type;
 
     public VariableSymbolTableItem(Identifier id) {
@@ -17,7 +17,7 @@ public class VariableSymbolTableItem extends SymbolTableItem {
     public void setType(Type type) { this.type = type;}
 
     @Override
-    public String getKey() {
-        return START_KEY + this.name;
+    public Namespace getNamespace() {
+        return Namespace.VARIABLE;
     }
 }
@@ -0,0 +1,121 @@
+package main.symbolTable.utils;
+
+//Immutable hash array mapped trie: put() returns a new map sharing every node off the
+//changed path, so old versions stay valid and can be read from any thread.
+//Each level consumes 5 bits of the hash; past the 32 bits, keys with equal hashes are
+//kept in a flat list of pairs.
+public final class PersistentMap<K, V> {
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object[] NO_ENTRIES = new Object[0];
+    private static final PersistentMap<?, ?> EMPTY = new PersistentMap<>(new Node(0, NO_ENTRIES), 0);
+
+    //Entries are key/value pairs; a null key means the value is the child node.
+    private static final class Node {
+        private final int bitmap;
+        private final Object[] entries;
+
+        Node(int bitmap, Object[] entries) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+        }
+    }
+
+    private final Node root;
+    private final int size;
+
+    private PersistentMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentMap<K, V> empty() {
+        return (PersistentMap<K, V>) EMPTY;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int hash = hash(key);
+        Node node = root;
+        for (int shift = 0; ; shift += BITS) {
+            if (shift >= Integer.SIZE) {
+                for (int i = 0; i < node.entries.length; i += 2)
+                    if (node.entries[i].equals(key))
+                        return (V) node.entries[i + 1];
+                return null;
+            }
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((node.bitmap & bit) == 0)
+                return null;
+            int index = 2 * Integer.bitCount(node.bitmap & (bit - 1));
+            Object entryKey = node.entries[index];
+            if (entryKey != null)
+                return entryKey.equals(key) ? (V) node.entries[index + 1] : null;
+            node = (Node) node.entries[index + 1];
+        }
+    }
+
+    public PersistentMap<K, V> put(K key, V value) {
+        boolean[] added = new boolean[1];
+        Node newRoot = put(root, 0, hash(key), key, value, added);
+        if (newRoot == root)
+            return this;
+        return new PersistentMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Node put(Node node, int shift, int hash, Object key, Object value, boolean[] added) {
+        if (shift >= Integer.SIZE) {
+            for (int i = 0; i < node.entries.length; i += 2)
+                if (node.entries[i].equals(key))
+                    return node.entries[i + 1] == value ? node : replace(node, i + 1, value);
+            Object[] entries = new Object[node.entries.length + 2];
+            System.arraycopy(node.entries, 0, entries, 0, node.entries.length);
+            entries[node.entries.length] = key;
+            entries[node.entries.length + 1] = value;
+            added[0] = true;
+            return new Node(0, entries);
+        }
+        int bit = 1 << ((hash >>> shift) & MASK);
+        int index = 2 * Integer.bitCount(node.bitmap & (bit - 1));
+        if ((node.bitmap & bit) == 0) {
+            Object[] entries = new Object[node.entries.length + 2];
+            System.arraycopy(node.entries, 0, entries, 0, index);
+            entries[index] = key;
+            entries[index + 1] = value;
+            System.arraycopy(node.entries, index, entries, index + 2, node.entries.length - index);
+            added[0] = true;
+            return new Node(node.bitmap | bit, entries);
+        }
+        Object entryKey = node.entries[index];
+        Object entryValue = node.entries[index + 1];
+        if (entryKey == null) {
+            Node child = put((Node) entryValue, shift + BITS, hash, key, value, added);
+            return child == entryValue ? node : replace(node, index + 1, child);
+        }
+        if (entryKey.equals(key))
+            return entryValue == value ? node : replace(node, index + 1, value);
+        //Two keys share this slot: push both one level down
+        Node child = put(EMPTY.root, shift + BITS, hash(entryKey), entryKey, entryValue, new boolean[1]);
+        child = put(child, shift + BITS, hash, key, value, added);
+        Object[] entries = node.entries.clone();
+        entries[index] = null;
+        entries[index + 1] = child;
+        return new Node(node.bitmap, entries);
+    }
+
+    private static Node replace(Node node, int index, Object value) {
+        Object[] entries = node.entries.clone();
+        entries[index] = value;
+        return new Node(node.bitmap, entries);
+    }
+}
@@ -8,10 +8,18 @@ import java.util.*;
 public class Graph<N> {
     private Map<N, Set<N>> parentShipRelation = new HashMap<>();
 
+    //Incremental cycle detection, off until trackCycles(). The order is topological for
+    //every edge except the held back ones, each of which closes a cycle.
+    private Map<N, Integer> order;
+    private Map<N, Set<N>> childShipRelation;
+    private Set<Map.Entry<N, N>> heldBack;
+
     public void addNode(N desired) throws NodeAlreadyExistsException {
         if (parentShipRelation.containsKey(desired))
             throw new NodeAlreadyExistsException();
         parentShipRelation.put(desired, new HashSet<>());
+        if (order != null)
+            orderOf(desired);
     }
 
     public boolean doesGraphContainNode(N desired) {
@@ -21,7 +29,8 @@ public class Graph<N> {
     public void addNodeAsParentOf(N desired, N parentNode) throws GraphDoesNotContainNodeException {
         if (!parentShipRelation.containsKey(desired))
             throw new GraphDoesNotContainNodeException();
-        parentShipRelation.get(desired).add(parentNode);
+        if (parentShipRelation.get(desired).add(parentNode) && order != null)
+            insertTracked(desired, parentNode);
     }
 
     public Collection<N> getParentsOfNode(N desired) throws GraphDoesNotContainNodeException {
@@ -30,27 +39,204 @@ public class Graph<N> {
         return parentShipRelation.get(desired);
     }
 
-    public boolean isSecondNodeAncestorOf(N first , N second) {
-        Set<N> visitedNodes = new HashSet<>();
-        return _isSecondNodeAncestorOf(first,second, visitedNodes);
+    //Every node that can reach itself through the parent edges, found with an iterative
+    //Tarjan walk: a node is on a cycle when its strongly connected component has more
+    //than one node or it is its own parent.
+    public Set<N> getNodesOnCycles() {
+        Map<N, Integer> index = new HashMap<>();
+        Map<N, Integer> lowLink = new HashMap<>();
+        ArrayDeque<N> component = new ArrayDeque<>();
+        Set<N> onComponent = new HashSet<>();
+        ArrayDeque<N> path = new ArrayDeque<>();
+        ArrayDeque<Iterator<N>> pending = new ArrayDeque<>();
+        Set<N> result = new HashSet<>();
+
+        for (N start : parentShipRelation.keySet()) {
+            if (index.containsKey(start))
+                continue;
+            index.put(start, index.size());
+            lowLink.put(start, index.get(start));
+            component.push(start);
+            onComponent.add(start);
+            path.push(start);
+            pending.push(parentShipRelation.get(start).iterator());
+            while (!path.isEmpty()) {
+                N node = path.peek();
+                Iterator<N> parents = pending.peek();
+                if (parents.hasNext()) {
+                    N parent = parents.next();
+                    if (parent.equals(node))
+                        result.add(node);
+                    if (!parentShipRelation.containsKey(parent))
+                        continue;
+                    if (!index.containsKey(parent)) {
+                        index.put(parent, index.size());
+                        lowLink.put(parent, index.get(parent));
+                        component.push(parent);
+                        onComponent.add(parent);
+                        path.push(parent);
+                        pending.push(parentShipRelation.get(parent).iterator());
+                    }
+                    else if (onComponent.contains(parent))
+                        lowLink.put(node, Math.min(lowLink.get(node), index.get(parent)));
+                    continue;
+                }
+                path.pop();
+                pending.pop();
+                if (lowLink.get(node).equals(index.get(node))) {
+                    N member;
+                    ArrayList<N> members = new ArrayList<>();
+                    do {
+                        member = component.pop();
+                        onComponent.remove(member);
+                        members.add(member);
+                    } while (!member.equals(node));
+                    if (members.size() > 1)
+                        result.addAll(members);
+                }
+                if (!path.isEmpty())
+                    lowLink.put(path.peek(), Math.min(lowLink.get(path.peek()), lowLink.get(node)));
+            }
+        }
+        return result;
+    }
+
+    //Starts keeping a topological order, so that edits answer whether they create or
+    //break a cycle in time proportional to the part of the order they disturb.
+    public void trackCycles() {
+        if (order != null)
+            return;
+        order = new HashMap<>();
+        childShipRelation = new HashMap<>();
+        heldBack = new LinkedHashSet<>();
+        for (N node : parentShipRelation.keySet())
+            orderOf(node);
+        for (Map.Entry<N, Set<N>> entry : parentShipRelation.entrySet())
+            for (N parent : entry.getValue())
+                insertTracked(entry.getKey(), parent);
+    }
+
+    public boolean hasCycle() {
+        return !heldBack.isEmpty();
+    }
+
+    //Returns whether the new edge closes a cycle; edges already held back are not
+    //followed, so a graph that has a cycle can report false for one through it.
+    public boolean addParentTracked(N desired, N parentNode) throws GraphDoesNotContainNodeException {
+        trackCycles();
+        if (!parentShipRelation.containsKey(desired))
+            throw new GraphDoesNotContainNodeException();
+        if (!parentShipRelation.get(desired).add(parentNode))
+            return false;
+        return !insertTracked(desired, parentNode);
     }
 
-    private boolean _isSecondNodeAncestorOf(N first, N second, Set<N> visitedNodes) {
-        try {
-            Collection<N> parents = getParentsOfNode(first);
-            for(N node : parents) {
-                if (node.equals(second)) {
-                    return true;
+    //Returns whether removing the edge breaks a cycle. A held back edge is retried only
+    //when the path that closed its cycle could run through the removed one, i.e. its ends
+    //are ordered around the removed edge's ends; deciding that is a scan of the held back
+    //edges, and only the ones retried cost a search.
+    public boolean removeParentTracked(N desired, N parentNode) throws GraphDoesNotContainNodeException {
+        trackCycles();
+        if (!parentShipRelation.containsKey(desired))
+            throw new GraphDoesNotContainNodeException();
+        if (!parentShipRelation.get(desired).remove(parentNode))
+            return false;
+        if (heldBack.remove(new AbstractMap.SimpleImmutableEntry<>(desired, parentNode)))
+            return true;
+        childShipRelation.get(parentNode).remove(desired);
+        int lower = order.get(desired);
+        int upper = order.get(parentNode);
+        List<Map.Entry<N, N>> retried = new ArrayList<>();
+        for (Map.Entry<N, N> edge : heldBack)
+            if (order.get(edge.getValue()) <= lower && upper <= order.get(edge.getKey()))
+                retried.add(edge);
+        //Each one stays out of the searches until its own turn
+        boolean broken = false;
+        for (Map.Entry<N, N> edge : retried) {
+            heldBack.remove(edge);
+            if (insertTracked(edge.getKey(), edge.getValue()))
+                broken = true;
+        }
+        return broken;
+    }
+
+    private int orderOf(N node) {
+        Integer position = order.get(node);
+        if (position == null) {
+            position = order.size();
+            order.put(node, position);
+        }
+        return position;
+    }
+
+    //Pearce-Kelly: when the edge goes against the order, only the nodes ordered between
+    //its ends are searched and renumbered. Returns false, holding the edge back, when
+    //the parent already reaches the child.
+    private boolean insertTracked(N child, N parent) {
+        int lower = orderOf(parent);
+        int upper = orderOf(child);
+        if (child.equals(parent)) {
+            heldBack.add(new AbstractMap.SimpleImmutableEntry<>(child, parent));
+            return false;
+        }
+        if (upper < lower) {
+            childShipRelation.computeIfAbsent(parent, key -> new HashSet<>()).add(child);
+            return true;
+        }
+        List<N> forward = new ArrayList<>();
+        Set<N> seen = new HashSet<>();
+        ArrayDeque<N> stack = new ArrayDeque<>();
+        stack.push(parent);
+        seen.add(parent);
+        while (!stack.isEmpty()) {
+            N node = stack.pop();
+            forward.add(node);
+            for (N next : parentShipRelation.getOrDefault(node, Collections.emptySet())) {
+                if (isHeldBack(node, next))
+                    continue;
+                if (next.equals(child)) {
+                    heldBack.add(new AbstractMap.SimpleImmutableEntry<>(child, parent));
+                    return false;
                 }
-                if (visitedNodes.contains(node))
+                if (seen.contains(next) || orderOf(next) > upper)
                     continue;
-                visitedNodes.add(node);
-                if (_isSecondNodeAncestorOf(node, second, visitedNodes))
-                    return true;
+                seen.add(next);
+                stack.push(next);
             }
-        } catch(GraphDoesNotContainNodeException ignored) {
         }
-        return false;
+        List<N> backward = new ArrayList<>();
+        stack.push(child);
+        seen.add(child);
+        while (!stack.isEmpty()) {
+            N node = stack.pop();
+            backward.add(node);
+            for (N previous : childShipRelation.getOrDefault(node, Collections.emptySet())) {
+                if (seen.contains(previous) || orderOf(previous) < lower)
+                    continue;
+                seen.add(previous);
+                stack.push(previous);
+            }
+        }
+        Comparator<N> byOrder = Comparator.comparingInt(order::get);
+        forward.sort(byOrder);
+        backward.sort(byOrder);
+        List<Integer> positions = new ArrayList<>(forward.size() + backward.size());
+        for (N node : backward)
+            positions.add(order.get(node));
+        for (N node : forward)
+            positions.add(order.get(node));
+        Collections.sort(positions);
+        int next = 0;
+        for (N node : backward)
+            order.put(node, positions.get(next++));
+        for (N node : forward)
+            order.put(node, positions.get(next++));
+        childShipRelation.computeIfAbsent(parent, key -> new HashSet<>()).add(child);
+        return true;
+    }
+
+    private boolean isHeldBack(N child, N parent) {
+        return !heldBack.isEmpty() && heldBack.contains(new AbstractMap.SimpleImmutableEntry<>(child, parent));
     }
 
 }
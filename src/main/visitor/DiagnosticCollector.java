@@ -0,0 +1,85 @@
+package main.visitor;
+
+import main.ast.nodes.Node;
+import main.compileError.CompileError;
+
+import java.util.*;
+
+//Follower that gathers the errors of the nodes an analysis pass walks through,
+//replacing a separate reporting walk. Nodes must be numbered by PreorderNumbering.
+//Some errors are attached to a node after its own exit (e.g. an operand blamed by its
+//binary expression), but always before its parent's exit, so the children are checked too.
+public class DiagnosticCollector extends IterativeVisitor<Void> {
+    private final ArrayList<Node> nodes = new ArrayList<>();
+
+    //Also for errors attached after the walk went past the node.
+    public void collect(Node node) {
+        if (node != null && node.hasErrors())
+            nodes.add(node);
+    }
+
+    @Override
+    protected Void exit(Node node, Frame<Void> frame) {
+        collect(node);
+        visitChildren(node, frame);
+        for (int i = 0; i < frame.getChildCount(); i++)
+            collect(frame.getChild(i));
+        return null;
+    }
+
+    //Takes over what another collector gathered, e.g. over a part of the tree walked on another thread.
+    public void addAll(DiagnosticCollector other) {
+        nodes.addAll(other.nodes);
+        other.nodes.clear();
+    }
+
+    public boolean hasErrors() {
+        return !nodes.isEmpty();
+    }
+
+    public boolean hasErrors(Class<? extends CompileError> kind) {
+        for (Node node : nodes)
+            for (CompileError error : node.getErrors())
+                if (kind.isInstance(error))
+                    return true;
+        return false;
+    }
+
+    //Prints the collected errors of the given kind in tree order and returns how many
+    //there were. If there were any, the other errors are dropped, else they are kept.
+    public int report(Class<? extends CompileError> kind) {
+        nodes.sort(Comparator.comparingInt(Node::getPreorderIndex));
+        Set<Node> reported = Collections.newSetFromMap(new IdentityHashMap<>());
+        int numOfErrors = 0;
+        for (Node node : nodes) {
+            if (!reported.add(node))
+                continue;
+            for (CompileError compileErrorException : node.getErrors()) {
+                if (kind.isInstance(compileErrorException)) {
+                    System.out.println(compileErrorException.getMessage());
+                    numOfErrors++;
+                }
+            }
+        }
+        if (numOfErrors > 0) {
+            for (Node node : nodes)
+                node.flushErrors();
+            nodes.clear();
+        }
+        return numOfErrors;
+    }
+
+    //Prints the collected errors in tree order and returns how many there were.
+    public int report() {
+        nodes.sort(Comparator.comparingInt(Node::getPreorderIndex));
+        int numOfErrors = 0;
+        for (Node node : nodes) {
+            ArrayList<CompileError> errors = node.flushErrors();
+            for (CompileError compileErrorException : errors)
+                System.out.println(compileErrorException.getMessage());
+            numOfErrors += errors.size();
+        }
+        nodes.clear();
+        return numOfErrors;
+    }
+}
@@ -0,0 +1,83 @@
+package main.visitor;
+
+import main.ast.nodes.Node;
+
+import java.util.ArrayList;
+import java.util.List;
+
+//One entry of the IterativeVisitor stack. Frames are reused between nodes,
+//so visitors must not keep references to them after exit().
+public final class Frame<T> {
+    private Node node;
+    private final ArrayList<Node> children = new ArrayList<>();
+    private final ArrayList<T> results = new ArrayList<>();
+    private int next;
+    private int value;
+    private Object state;
+
+    void reset(Node node) {
+        this.node = node;
+        this.children.clear();
+        this.results.clear();
+        this.next = 0;
+        this.value = 0;
+        this.state = null;
+    }
+
+    public Node getNode() {
+        return node;
+    }
+
+    public void visit(Node child) {
+        children.add(child);
+        results.add(null);
+    }
+
+    public void visitAll(List<? extends Node> nodes) {
+        for (Node child : nodes)
+            visit(child);
+    }
+
+    public int getChildCount() {
+        return children.size();
+    }
+
+    public Node getChild(int index) {
+        return children.get(index);
+    }
+
+    public T getResult(int index) {
+        return results.get(index);
+    }
+
+    void setResult(int index, T result) {
+        results.set(index, result);
+    }
+
+    boolean hasNextChild() {
+        return next < children.size();
+    }
+
+    int nextChild() {
+        return next++;
+    }
+
+    int currentChild() {
+        return next - 1;
+    }
+
+    //Scratch slots for the visitor's own per-node bookkeeping.
+    public int getValue() {
+        return value;
+    }
+    public void setValue(int value) {
+        this.value = value;
+    }
+
+    public Object getState() {
+        return state;
+    }
+    public void setState(Object state) {
+        this.state = state;
+    }
+}
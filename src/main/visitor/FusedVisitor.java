@@ -0,0 +1,69 @@
+package main.visitor;
+
+import main.ast.nodes.Node;
+
+import java.util.ArrayList;
+
+//Runs several visitors over one walk of the tree. The driver schedules the children
+//and produces the results; every follower receives the same enter()/exit() sequence
+//on a frame stack of its own, so each visitor keeps its own state.
+//Followers are expected to only observe: whatever they schedule is ignored.
+public class FusedVisitor<T> extends IterativeVisitor<T> {
+    private final IterativeVisitor<T> driver;
+    private final Follower<?>[] followers;
+
+    public FusedVisitor(IterativeVisitor<T> driver, IterativeVisitor<?>... followers) {
+        this.driver = driver;
+        this.followers = new Follower<?>[followers.length];
+        for (int i = 0; i < followers.length; i++)
+            this.followers[i] = new Follower<>(followers[i]);
+    }
+
+    @Override
+    protected void enter(Node node, Frame<T> frame) {
+        driver.enter(node, frame);
+        for (Follower<?> follower : followers)
+            follower.enter(node, getDepth() - 1);
+    }
+
+    @Override
+    protected T exit(Node node, Frame<T> frame) {
+        T result = driver.exit(node, frame);
+        for (Follower<?> follower : followers)
+            follower.exit(node, getDepth() - 1);
+        return result;
+    }
+
+    @Override
+    protected boolean beforeChild(Node node, Frame<T> frame, int index) {
+        return driver.beforeChild(node, frame, index);
+    }
+
+    @Override
+    protected void afterChild(Node node, Frame<T> frame, int index, T result) {
+        driver.afterChild(node, frame, index, result);
+    }
+
+    private static final class Follower<F> {
+        private final IterativeVisitor<F> visitor;
+        private final ArrayList<Frame<F>> frames = new ArrayList<>();
+
+        Follower(IterativeVisitor<F> visitor) {
+            this.visitor = visitor;
+        }
+
+        void enter(Node node, int depth) {
+            while (frames.size() <= depth)
+                frames.add(new Frame<>());
+            Frame<F> frame = frames.get(depth);
+            frame.reset(node);
+            visitor.enter(node, frame);
+        }
+
+        void exit(Node node, int depth) {
+            Frame<F> frame = frames.get(depth);
+            visitor.exit(node, frame);
+            frame.reset(null);
+        }
+    }
+}
@@ -0,0 +1,830 @@
+package main.visitor;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.*;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.primitive.*;
+import main.ast.nodes.statement.*;
+
+import java.util.ArrayList;
+
+//Visits the AST with an explicit stack instead of the Java call stack, so that
+//deeply nested expressions and blocks cannot overflow it.
+//For every node, enter() runs first and schedules the children to walk through
+//frame.visit(); each scheduled child is surrounded by beforeChild()/afterChild(),
+//null children are skipped and beforeChild() returning false skips the child;
+//finally exit() runs and its return value is handed to the parent as the child's result.
+//By default nothing is scheduled, just like Visitor returns null without descending;
+//visitChildren() schedules every child in source order.
+public abstract class IterativeVisitor<T> implements IVisitor<T> {
+    private final ArrayList<Frame<T>> frames = new ArrayList<>();
+    private int depth = 0;
+    private Frame<T> dispatchFrame;
+    private final EnterDispatcher enterDispatcher = new EnterDispatcher();
+    private final ExitDispatcher exitDispatcher = new ExitDispatcher();
+    private final ChildrenScheduler childrenScheduler = new ChildrenScheduler();
+
+    public final T walk(Node root) {
+        int base = depth;
+        try {
+            enter(root, push(root));
+            while (true) {
+                Frame<T> frame = frames.get(depth - 1);
+                if (frame.hasNextChild()) {
+                    int index = frame.nextChild();
+                    Node child = frame.getChild(index);
+                    if (child == null || !beforeChild(frame.getNode(), frame, index))
+                        continue;
+                    enter(child, push(child));
+                }
+                else {
+                    T result = exit(frame.getNode(), frame);
+                    pop();
+                    if (depth == base)
+                        return result;
+                    Frame<T> parent = frames.get(depth - 1);
+                    int index = parent.currentChild();
+                    parent.setResult(index, result);
+                    afterChild(parent.getNode(), parent, index, result);
+                }
+            }
+        } finally {
+            while (depth > base)
+                pop();
+        }
+    }
+
+    protected int getDepth() {
+        return depth;
+    }
+
+    private Frame<T> push(Node node) {
+        if (depth == frames.size())
+            frames.add(new Frame<>());
+        Frame<T> frame = frames.get(depth++);
+        frame.reset(node);
+        return frame;
+    }
+
+    private void pop() {
+        frames.get(--depth).reset(null);
+    }
+
+    protected void visitChildren(Node node, Frame<T> frame) {
+        Frame<T> previous = dispatchFrame;
+        dispatchFrame = frame;
+        node.accept(childrenScheduler);
+        dispatchFrame = previous;
+    }
+
+    protected void enter(Node node, Frame<T> frame) {
+        Frame<T> previous = dispatchFrame;
+        dispatchFrame = frame;
+        node.accept(enterDispatcher);
+        dispatchFrame = previous;
+    }
+
+    protected T exit(Node node, Frame<T> frame) {
+        Frame<T> previous = dispatchFrame;
+        dispatchFrame = frame;
+        T result = node.accept(exitDispatcher);
+        dispatchFrame = previous;
+        return result;
+    }
+
+    protected boolean beforeChild(Node node, Frame<T> frame, int index) {
+        return true;
+    }
+
+    protected void afterChild(Node node, Frame<T> frame, int index, T result) {
+    }
+
+    protected void enter(Program program, Frame<T> frame) {
+    }
+
+    protected T exit(Program program, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(FunctionDeclaration functionDec, Frame<T> frame) {
+    }
+
+    protected T exit(FunctionDeclaration functionDec, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(MainDeclaration mainDec, Frame<T> frame) {
+    }
+
+    protected T exit(MainDeclaration mainDec, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(VariableDeclaration variableDec, Frame<T> frame) {
+    }
+
+    protected T exit(VariableDeclaration variableDec, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(StructDeclaration structDec, Frame<T> frame) {
+    }
+
+    protected T exit(StructDeclaration structDec, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(SetGetVarDeclaration setGetVarDec, Frame<T> frame) {
+    }
+
+    protected T exit(SetGetVarDeclaration setGetVarDec, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(AssignmentStmt assignmentStmt, Frame<T> frame) {
+    }
+
+    protected T exit(AssignmentStmt assignmentStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(BlockStmt blockStmt, Frame<T> frame) {
+    }
+
+    protected T exit(BlockStmt blockStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ConditionalStmt conditionalStmt, Frame<T> frame) {
+    }
+
+    protected T exit(ConditionalStmt conditionalStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(FunctionCallStmt functionCallStmt, Frame<T> frame) {
+    }
+
+    protected T exit(FunctionCallStmt functionCallStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(DisplayStmt displayStmt, Frame<T> frame) {
+    }
+
+    protected T exit(DisplayStmt displayStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ReturnStmt returnStmt, Frame<T> frame) {
+    }
+
+    protected T exit(ReturnStmt returnStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(LoopStmt loopStmt, Frame<T> frame) {
+    }
+
+    protected T exit(LoopStmt loopStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(VarDecStmt varDecStmt, Frame<T> frame) {
+    }
+
+    protected T exit(VarDecStmt varDecStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ListAppendStmt listAppendStmt, Frame<T> frame) {
+    }
+
+    protected T exit(ListAppendStmt listAppendStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ListSizeStmt listSizeStmt, Frame<T> frame) {
+    }
+
+    protected T exit(ListSizeStmt listSizeStmt, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(BinaryExpression binaryExpression, Frame<T> frame) {
+    }
+
+    protected T exit(BinaryExpression binaryExpression, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(UnaryExpression unaryExpression, Frame<T> frame) {
+    }
+
+    protected T exit(UnaryExpression unaryExpression, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(FunctionCall funcCall, Frame<T> frame) {
+    }
+
+    protected T exit(FunctionCall funcCall, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(Identifier identifier, Frame<T> frame) {
+    }
+
+    protected T exit(Identifier identifier, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ListAccessByIndex listAccessByIndex, Frame<T> frame) {
+    }
+
+    protected T exit(ListAccessByIndex listAccessByIndex, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(StructAccess structAccess, Frame<T> frame) {
+    }
+
+    protected T exit(StructAccess structAccess, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ListSize listSize, Frame<T> frame) {
+    }
+
+    protected T exit(ListSize listSize, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ListAppend listAppend, Frame<T> frame) {
+    }
+
+    protected T exit(ListAppend listAppend, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(ExprInPar exprInPar, Frame<T> frame) {
+    }
+
+    protected T exit(ExprInPar exprInPar, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(IntValue intValue, Frame<T> frame) {
+    }
+
+    protected T exit(IntValue intValue, Frame<T> frame) {
+        return null;
+    }
+
+    protected void enter(BoolValue boolValue, Frame<T> frame) {
+    }
+
+    protected T exit(BoolValue boolValue, Frame<T> frame) {
+        return null;
+    }
+
+    @Override
+    public final T visit(Program program) {
+        return walk(program);
+    }
+
+    @Override
+    public final T visit(FunctionDeclaration functionDec) {
+        return walk(functionDec);
+    }
+
+    @Override
+    public final T visit(MainDeclaration mainDec) {
+        return walk(mainDec);
+    }
+
+    @Override
+    public final T visit(VariableDeclaration variableDec) {
+        return walk(variableDec);
+    }
+
+    @Override
+    public final T visit(StructDeclaration structDec) {
+        return walk(structDec);
+    }
+
+    @Override
+    public final T visit(SetGetVarDeclaration setGetVarDec) {
+        return walk(setGetVarDec);
+    }
+
+    @Override
+    public final T visit(AssignmentStmt assignmentStmt) {
+        return walk(assignmentStmt);
+    }
+
+    @Override
+    public final T visit(BlockStmt blockStmt) {
+        return walk(blockStmt);
+    }
+
+    @Override
+    public final T visit(ConditionalStmt conditionalStmt) {
+        return walk(conditionalStmt);
+    }
+
+    @Override
+    public final T visit(FunctionCallStmt functionCallStmt) {
+        return walk(functionCallStmt);
+    }
+
+    @Override
+    public final T visit(DisplayStmt displayStmt) {
+        return walk(displayStmt);
+    }
+
+    @Override
+    public final T visit(ReturnStmt returnStmt) {
+        return walk(returnStmt);
+    }
+
+    @Override
+    public final T visit(LoopStmt loopStmt) {
+        return walk(loopStmt);
+    }
+
+    @Override
+    public final T visit(VarDecStmt varDecStmt) {
+        return walk(varDecStmt);
+    }
+
+    @Override
+    public final T visit(ListAppendStmt listAppendStmt) {
+        return walk(listAppendStmt);
+    }
+
+    @Override
+    public final T visit(ListSizeStmt listSizeStmt) {
+        return walk(listSizeStmt);
+    }
+
+    @Override
+    public final T visit(BinaryExpression binaryExpression) {
+        return walk(binaryExpression);
+    }
+
+    @Override
+    public final T visit(UnaryExpression unaryExpression) {
+        return walk(unaryExpression);
+    }
+
+    @Override
+    public final T visit(FunctionCall funcCall) {
+        return walk(funcCall);
+    }
+
+    @Override
+    public final T visit(Identifier identifier) {
+        return walk(identifier);
+    }
+
+    @Override
+    public final T visit(ListAccessByIndex listAccessByIndex) {
+        return walk(listAccessByIndex);
+    }
+
+    @Override
+    public final T visit(StructAccess structAccess) {
+        return walk(structAccess);
+    }
+
+    @Override
+    public final T visit(ListSize listSize) {
+        return walk(listSize);
+    }
+
+    @Override
+    public final T visit(ListAppend listAppend) {
+        return walk(listAppend);
+    }
+
+    @Override
+    public final T visit(ExprInPar exprInPar) {
+        return walk(exprInPar);
+    }
+
+    @Override
+    public final T visit(IntValue intValue) {
+        return walk(intValue);
+    }
+
+    @Override
+    public final T visit(BoolValue boolValue) {
+        return walk(boolValue);
+    }
+
+    private class EnterDispatcher implements IVisitor<Void> {
+        @Override
+        public Void visit(Program program) {
+            enter(program, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(FunctionDeclaration functionDec) {
+            enter(functionDec, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(MainDeclaration mainDec) {
+            enter(mainDec, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(VariableDeclaration variableDec) {
+            enter(variableDec, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(StructDeclaration structDec) {
+            enter(structDec, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(SetGetVarDeclaration setGetVarDec) {
+            enter(setGetVarDec, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(AssignmentStmt assignmentStmt) {
+            enter(assignmentStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(BlockStmt blockStmt) {
+            enter(blockStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ConditionalStmt conditionalStmt) {
+            enter(conditionalStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(FunctionCallStmt functionCallStmt) {
+            enter(functionCallStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(DisplayStmt displayStmt) {
+            enter(displayStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ReturnStmt returnStmt) {
+            enter(returnStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(LoopStmt loopStmt) {
+            enter(loopStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(VarDecStmt varDecStmt) {
+            enter(varDecStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ListAppendStmt listAppendStmt) {
+            enter(listAppendStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ListSizeStmt listSizeStmt) {
+            enter(listSizeStmt, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(BinaryExpression binaryExpression) {
+            enter(binaryExpression, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(UnaryExpression unaryExpression) {
+            enter(unaryExpression, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(FunctionCall funcCall) {
+            enter(funcCall, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(Identifier identifier) {
+            enter(identifier, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ListAccessByIndex listAccessByIndex) {
+            enter(listAccessByIndex, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(StructAccess structAccess) {
+            enter(structAccess, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ListSize listSize) {
+            enter(listSize, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ListAppend listAppend) {
+            enter(listAppend, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(ExprInPar exprInPar) {
+            enter(exprInPar, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(IntValue intValue) {
+            enter(intValue, dispatchFrame);
+            return null;
+        }
+        @Override
+        public Void visit(BoolValue boolValue) {
+            enter(boolValue, dispatchFrame);
+            return null;
+        }
+    }
+
+    private class ExitDispatcher implements IVisitor<T> {
+        @Override
+        public T visit(Program program) {
+            return exit(program, dispatchFrame);
+        }
+        @Override
+        public T visit(FunctionDeclaration functionDec) {
+            return exit(functionDec, dispatchFrame);
+        }
+        @Override
+        public T visit(MainDeclaration mainDec) {
+            return exit(mainDec, dispatchFrame);
+        }
+        @Override
+        public T visit(VariableDeclaration variableDec) {
+            return exit(variableDec, dispatchFrame);
+        }
+        @Override
+        public T visit(StructDeclaration structDec) {
+            return exit(structDec, dispatchFrame);
+        }
+        @Override
+        public T visit(SetGetVarDeclaration setGetVarDec) {
+            return exit(setGetVarDec, dispatchFrame);
+        }
+        @Override
+        public T visit(AssignmentStmt assignmentStmt) {
+            return exit(assignmentStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(BlockStmt blockStmt) {
+            return exit(blockStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(ConditionalStmt conditionalStmt) {
+            return exit(conditionalStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(FunctionCallStmt functionCallStmt) {
+            return exit(functionCallStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(DisplayStmt displayStmt) {
+            return exit(displayStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(ReturnStmt returnStmt) {
+            return exit(returnStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(LoopStmt loopStmt) {
+            return exit(loopStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(VarDecStmt varDecStmt) {
+            return exit(varDecStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(ListAppendStmt listAppendStmt) {
+            return exit(listAppendStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(ListSizeStmt listSizeStmt) {
+            return exit(listSizeStmt, dispatchFrame);
+        }
+        @Override
+        public T visit(BinaryExpression binaryExpression) {
+            return exit(binaryExpression, dispatchFrame);
+        }
+        @Override
+        public T visit(UnaryExpression unaryExpression) {
+            return exit(unaryExpression, dispatchFrame);
+        }
+        @Override
+        public T visit(FunctionCall funcCall) {
+            return exit(funcCall, dispatchFrame);
+        }
+        @Override
+        public T visit(Identifier identifier) {
+            return exit(identifier, dispatchFrame);
+        }
+        @Override
+        public T visit(ListAccessByIndex listAccessByIndex) {
+            return exit(listAccessByIndex, dispatchFrame);
+        }
+        @Override
+        public T visit(StructAccess structAccess) {
+            return exit(structAccess, dispatchFrame);
+        }
+        @Override
+        public T visit(ListSize listSize) {
+            return exit(listSize, dispatchFrame);
+        }
+        @Override
+        public T visit(ListAppend listAppend) {
+            return exit(listAppend, dispatchFrame);
+        }
+        @Override
+        public T visit(ExprInPar exprInPar) {
+            return exit(exprInPar, dispatchFrame);
+        }
+        @Override
+        public T visit(IntValue intValue) {
+            return exit(intValue, dispatchFrame);
+        }
+        @Override
+        public T visit(BoolValue boolValue) {
+            return exit(boolValue, dispatchFrame);
+        }
+    }
+
+    private class ChildrenScheduler implements IVisitor<Void> {
+        @Override
+        public Void visit(Program program) {
+            dispatchFrame.visitAll(program.getStructs());
+            dispatchFrame.visitAll(program.getFunctions());
+            dispatchFrame.visit(program.getMain());
+            return null;
+        }
+        @Override
+        public Void visit(FunctionDeclaration functionDec) {
+            dispatchFrame.visit(functionDec.getFunctionName());
+            dispatchFrame.visitAll(functionDec.getArgs());
+            dispatchFrame.visit(functionDec.getBody());
+            return null;
+        }
+        @Override
+        public Void visit(MainDeclaration mainDec) {
+            dispatchFrame.visit(mainDec.getBody());
+            return null;
+        }
+        @Override
+        public Void visit(VariableDeclaration variableDec) {
+            dispatchFrame.visit(variableDec.getVarName());
+            dispatchFrame.visit(variableDec.getDefaultValue());
+            return null;
+        }
+        @Override
+        public Void visit(StructDeclaration structDec) {
+            dispatchFrame.visit(structDec.getStructName());
+            dispatchFrame.visit(structDec.getBody());
+            return null;
+        }
+        @Override
+        public Void visit(SetGetVarDeclaration setGetVarDec) {
+            dispatchFrame.visit(setGetVarDec.getVarDec());
+            dispatchFrame.visit(setGetVarDec.getVarName());
+            dispatchFrame.visitAll(setGetVarDec.getArgs());
+            dispatchFrame.visit(setGetVarDec.getSetterBody());
+            dispatchFrame.visit(setGetVarDec.getGetterBody());
+            return null;
+        }
+        @Override
+        public Void visit(AssignmentStmt assignmentStmt) {
+            dispatchFrame.visit(assignmentStmt.getLValue());
+            dispatchFrame.visit(assignmentStmt.getRValue());
+            return null;
+        }
+        @Override
+        public Void visit(BlockStmt blockStmt) {
+            dispatchFrame.visitAll(blockStmt.getStatements());
+            return null;
+        }
+        @Override
+        public Void visit(ConditionalStmt conditionalStmt) {
+            dispatchFrame.visit(conditionalStmt.getCondition());
+            dispatchFrame.visit(conditionalStmt.getThenBody());
+            dispatchFrame.visit(conditionalStmt.getElseBody());
+            return null;
+        }
+        @Override
+        public Void visit(FunctionCallStmt functionCallStmt) {
+            dispatchFrame.visit(functionCallStmt.getFunctionCall());
+            return null;
+        }
+        @Override
+        public Void visit(DisplayStmt displayStmt) {
+            dispatchFrame.visit(displayStmt.getArg());
+            return null;
+        }
+        @Override
+        public Void visit(ReturnStmt returnStmt) {
+            dispatchFrame.visit(returnStmt.getReturnedExpr());
+            return null;
+        }
+        @Override
+        public Void visit(LoopStmt loopStmt) {
+            dispatchFrame.visit(loopStmt.getCondition());
+            dispatchFrame.visit(loopStmt.getBody());
+            return null;
+        }
+        @Override
+        public Void visit(VarDecStmt varDecStmt) {
+            dispatchFrame.visitAll(varDecStmt.getVars());
+            return null;
+        }
+        @Override
+        public Void visit(ListAppendStmt listAppendStmt) {
+            dispatchFrame.visit(listAppendStmt.getListAppendExpr());
+            return null;
+        }
+        @Override
+        public Void visit(ListSizeStmt listSizeStmt) {
+            dispatchFrame.visit(listSizeStmt.getListSizeExpr());
+            return null;
+        }
+        @Override
+        public Void visit(BinaryExpression binaryExpression) {
+            dispatchFrame.visit(binaryExpression.getFirstOperand());
+            dispatchFrame.visit(binaryExpression.getSecondOperand());
+            return null;
+        }
+        @Override
+        public Void visit(UnaryExpression unaryExpression) {
+            dispatchFrame.visit(unaryExpression.getOperand());
+            return null;
+        }
+        @Override
+        public Void visit(FunctionCall funcCall) {
+            dispatchFrame.visit(funcCall.getInstance());
+            dispatchFrame.visitAll(funcCall.getArgs());
+            return null;
+        }
+        @Override
+        public Void visit(Identifier identifier) {
+            return null;
+        }
+        @Override
+        public Void visit(ListAccessByIndex listAccessByIndex) {
+            dispatchFrame.visit(listAccessByIndex.getInstance());
+            dispatchFrame.visit(listAccessByIndex.getIndex());
+            return null;
+        }
+        @Override
+        public Void visit(StructAccess structAccess) {
+            dispatchFrame.visit(structAccess.getInstance());
+            dispatchFrame.visit(structAccess.getElement());
+            return null;
+        }
+        @Override
+        public Void visit(ListSize listSize) {
+            dispatchFrame.visit(listSize.getArg());
+            return null;
+        }
+        @Override
+        public Void visit(ListAppend listAppend) {
+            dispatchFrame.visit(listAppend.getListArg());
+            dispatchFrame.visit(listAppend.getElementArg());
+            return null;
+        }
+        @Override
+        public Void visit(ExprInPar exprInPar) {
+            dispatchFrame.visitAll(exprInPar.getInputs());
+            return null;
+        }
+        @Override
+        public Void visit(IntValue intValue) {
+            return null;
+        }
+        @Override
+        public Void visit(BoolValue boolValue) {
+            return null;
+        }
+    }
+}
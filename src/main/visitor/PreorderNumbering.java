@@ -0,0 +1,15 @@
+package main.visitor;
+
+import main.ast.nodes.Node;
+
+//Numbers every node of the tree in pre-order, so that diagnostics gathered out
+//of order can be printed in the order a walk of the whole tree meets them.
+public class PreorderNumbering extends IterativeVisitor<Void> {
+    private int next = 1;
+
+    @Override
+    protected void enter(Node node, Frame<Void> frame) {
+        node.setPreorderIndex(next++);
+        visitChildren(node, frame);
+    }
+}
@@ -0,0 +1,281 @@
+package main.visitor.incremental;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.Identifier;
+import main.ast.nodes.expression.StructAccess;
+import main.ast.nodes.statement.BlockStmt;
+import main.ast.nodes.statement.SetGetVarDeclaration;
+import main.ast.nodes.statement.Statement;
+import main.ast.types.FptrType;
+import main.ast.types.ListType;
+import main.ast.types.StructType;
+import main.ast.types.Type;
+import main.symbolTable.items.FunctionSymbolTableItem;
+import main.symbolTable.items.StructSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
+import main.visitor.Frame;
+import main.visitor.IterativeVisitor;
+
+import java.util.*;
+
+//Which declaration uses which, taken after NameAnalyser: calls and pointers to functions,
+//struct types named in signatures, members and locals, and the accessors read or written
+//through a struct access, and the structs named in the signature of a function called or
+//taken as a pointer. Each accessor is a node of its own, named "struct.member",
+//owning what its setter and getter use. Before type checking the struct of an access is
+//not known, so it counts as a use of every accessor with that member name.
+//Uses of struct and function names that nothing declares, e.g. ones removed since the
+//last summary, are kept by name so that their users can still be found.
+//Both directions are stored as compressed rows: the uses of node i are
+//uses[useStart[i]] .. uses[useStart[i + 1] - 1], likewise for the users.
+public final class DependencyIndex {
+    public enum Kind { STRUCT, FUNCTION, ACCESSOR, MAIN }
+
+    private final String[] names;
+    private final Kind[] kinds;
+    private final Map<Kind, Map<String, Integer>> ids;
+    private final int[] useStart;
+    private final int[] uses;
+    private final int[] userStart;
+    private final int[] users;
+    private final Map<Kind, Map<String, Set<Integer>>> missing;
+
+    private DependencyIndex(List<String> names, List<Kind> kinds, Map<Kind, Map<String, Integer>> ids,
+                            List<Set<Integer>> edges, Map<Kind, Map<String, Set<Integer>>> missing) {
+        int size = names.size();
+        this.missing = missing;
+        this.names = names.toArray(new String[0]);
+        this.kinds = kinds.toArray(new Kind[0]);
+        this.ids = ids;
+        this.useStart = new int[size + 1];
+        this.userStart = new int[size + 1];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += edges.get(i).size();
+            useStart[i + 1] = count;
+            for (int used : edges.get(i))
+                userStart[used + 1]++;
+        }
+        for (int i = 0; i < size; i++)
+            userStart[i + 1] += userStart[i];
+        this.uses = new int[count];
+        this.users = new int[count];
+        int[] next = Arrays.copyOf(userStart, size);
+        for (int i = 0; i < size; i++) {
+            int position = useStart[i];
+            for (int used : edges.get(i)) {
+                uses[position++] = used;
+                users[next[used]++] = i;
+            }
+        }
+    }
+
+    public static DependencyIndex of(Program program) {
+        Builder builder = new Builder(program);
+        program.accept(builder);
+        return new DependencyIndex(builder.names, builder.kinds, builder.ids, builder.edges, builder.missing);
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public Kind getKind(int id) {
+        return kinds[id];
+    }
+
+    public String getName(int id) {
+        return names[id];
+    }
+
+    //-1 when there is no such declaration.
+    public int idOf(Kind kind, String name) {
+        Integer id = ids.get(kind).get(name);
+        return id == null ? -1 : id;
+    }
+
+    public int[] usesOf(int id) {
+        return Arrays.copyOfRange(uses, useStart[id], useStart[id + 1]);
+    }
+
+    public int[] usersOf(int id) {
+        return Arrays.copyOfRange(users, userStart[id], userStart[id + 1]);
+    }
+
+    //The declarations using a struct or function name that has no declaration of that kind.
+    public int[] usersOfMissing(Kind kind, String name) {
+        return missing.get(kind).getOrDefault(name, Set.of()).stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    //The declarations to re-check when the interfaces of the given ones change: the users,
+    //and through structs and accessors, whose own interface shows what they contain, the
+    //users of those too. The changed declarations are included.
+    public BitSet affectedBy(BitSet changed) {
+        return affectedBy(changed, new BitSet());
+    }
+
+    //Likewise, with the users of removed declarations, see usersOfMissing(), to re-check
+    //as well; their own users only through structs and accessors.
+    public BitSet affectedBy(BitSet changed, BitSet orphaned) {
+        BitSet affected = (BitSet) changed.clone();
+        affected.or(orphaned);
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        for (int id = changed.nextSetBit(0); id >= 0; id = changed.nextSetBit(id + 1))
+            pending.push(id);
+        for (int id = orphaned.nextSetBit(0); id >= 0; id = orphaned.nextSetBit(id + 1))
+            if (kinds[id] == Kind.STRUCT || kinds[id] == Kind.ACCESSOR)
+                pending.push(id);
+        while (!pending.isEmpty()) {
+            int id = pending.pop();
+            for (int i = userStart[id]; i < userStart[id + 1]; i++) {
+                int user = users[i];
+                if (affected.get(user))
+                    continue;
+                affected.set(user);
+                if (kinds[user] == Kind.STRUCT || kinds[user] == Kind.ACCESSOR)
+                    pending.push(user);
+            }
+        }
+        return affected;
+    }
+
+    public String describe(int id) {
+        return kinds[id] == Kind.MAIN ? "main" : kinds[id].name().toLowerCase() + " " + names[id];
+    }
+
+    private static final class Builder extends IterativeVisitor<Void> {
+        private final ArrayList<String> names = new ArrayList<>();
+        private final ArrayList<Kind> kinds = new ArrayList<>();
+        private final Map<Kind, Map<String, Integer>> ids = new EnumMap<>(Kind.class);
+        private final ArrayList<Set<Integer>> edges = new ArrayList<>();
+        private final Map<Kind, Map<String, Set<Integer>>> missing = new EnumMap<>(Kind.class);
+        private final IdentityHashMap<FunctionDeclaration, Integer> functions = new IdentityHashMap<>();
+        private final IdentityHashMap<Node, Integer> owners = new IdentityHashMap<>();
+        private final IdentityHashMap<SetGetVarDeclaration, Integer> accessorIds = new IdentityHashMap<>();
+        //Accessor ids by member name, for accesses whose struct is not known
+        private final Map<String, List<Integer>> accessors = new HashMap<>();
+        private final ArrayDeque<Integer> owner = new ArrayDeque<>();
+
+        Builder(Program program) {
+            for (Kind kind : Kind.values()) {
+                ids.put(kind, new HashMap<>());
+                missing.put(kind, new HashMap<>());
+            }
+            for (StructDeclaration structDec : program.getStructs())
+                owners.put(structDec, add(Kind.STRUCT, structDec.getStructName().getName()));
+            for (FunctionDeclaration funcDec : program.getFunctions()) {
+                int id = add(Kind.FUNCTION, funcDec.getFunctionName().getName());
+                owners.put(funcDec, id);
+                functions.put(funcDec, id);
+            }
+            if (program.getMain() != null)
+                owners.put(program.getMain(), add(Kind.MAIN, "main"));
+            for (StructDeclaration structDec : program.getStructs()) {
+                Statement body = structDec.getBody();
+                for (Statement stmt : body instanceof BlockStmt ? ((BlockStmt) body).getStatements() : List.of(body)) {
+                    if (!(stmt instanceof SetGetVarDeclaration))
+                        continue;
+                    String member = ((SetGetVarDeclaration) stmt).getVarName().getName();
+                    int id = add(Kind.ACCESSOR, structDec.getStructName().getName() + "." + member);
+                    accessorIds.put((SetGetVarDeclaration) stmt, id);
+                    accessors.computeIfAbsent(member, key -> new ArrayList<>()).add(id);
+                }
+            }
+        }
+
+        private int add(Kind kind, String name) {
+            int id = names.size();
+            names.add(name);
+            kinds.add(kind);
+            edges.add(new LinkedHashSet<>());
+            ids.get(kind).putIfAbsent(name, id);
+            return id;
+        }
+
+        private void use(int used) {
+            if (!owner.isEmpty() && used >= 0 && used != owner.peek())
+                edges.get(owner.peek()).add(used);
+        }
+
+        private void useMissing(Kind kind, String name) {
+            if (!owner.isEmpty() && !ids.get(kind).containsKey(name))
+                missing.get(kind).computeIfAbsent(name, key -> new LinkedHashSet<>()).add(owner.peek());
+        }
+
+        private void useType(Type type) {
+            if (type instanceof StructType) {
+                String name = ((StructType) type).getStructName();
+                use(ids.get(Kind.STRUCT).getOrDefault(name, -1));
+                useMissing(Kind.STRUCT, name);
+            }
+            else if (type instanceof ListType)
+                useType(((ListType) type).getType());
+            else if (type instanceof FptrType) {
+                for (Type argType : ((FptrType) type).getArgsType())
+                    useType(argType);
+                useType(((FptrType) type).getReturnType());
+            }
+        }
+
+        @Override
+        protected void enter(Node node, Frame<Void> frame) {
+            Integer id = owners.get(node);
+            if (id != null)
+                owner.push(id);
+            if (node instanceof FunctionDeclaration)
+                useType(((FunctionDeclaration) node).getReturnType());
+            else if (node instanceof VariableDeclaration)
+                useType(((VariableDeclaration) node).getVarType());
+            else if (node instanceof SetGetVarDeclaration) {
+                //The member's type belongs to the struct, the arguments and bodies to the accessor
+                SetGetVarDeclaration setGetVarDec = (SetGetVarDeclaration) node;
+                useType(setGetVarDec.getVarType());
+                owner.push(accessorIds.get(setGetVarDec));
+                frame.visitAll(setGetVarDec.getArgs());
+                frame.visit(setGetVarDec.getSetterBody());
+                frame.visit(setGetVarDec.getGetterBody());
+                return;
+            }
+            else if (node instanceof Identifier) {
+                SymbolTableItem binding = ((Identifier) node).getBinding();
+                if (binding instanceof FunctionSymbolTableItem) {
+                    //Values of the structs in the callee's signature reach the caller too
+                    FunctionDeclaration callee = ((FunctionSymbolTableItem) binding).getFunctionDeclaration();
+                    use(functions.getOrDefault(callee, -1));
+                    useType(callee.getReturnType());
+                    for (VariableDeclaration arg : callee.getArgs())
+                        useType(arg.getVarType());
+                }
+                else if (binding instanceof StructSymbolTableItem)
+                    use(owners.getOrDefault(((StructSymbolTableItem) binding).getStructDeclaration(), -1));
+                else if (binding == null)
+                    useMissing(Kind.FUNCTION, ((Identifier) node).getName());
+            }
+            else if (node instanceof StructAccess) {
+                StructAccess structAccess = (StructAccess) node;
+                String member = structAccess.getElement().getName();
+                Type instanceType = structAccess.getInstance().getType();
+                if (instanceType instanceof StructType)
+                    use(ids.get(Kind.ACCESSOR).getOrDefault(
+                            ((StructType) instanceType).getStructName() + "." + member, -1));
+                else
+                    for (int accessor : accessors.getOrDefault(member, List.of()))
+                        use(accessor);
+                frame.visit(structAccess.getInstance());
+                return;
+            }
+            visitChildren(node, frame);
+        }
+
+        @Override
+        protected Void exit(Node node, Frame<Void> frame) {
+            if (owners.containsKey(node) || accessorIds.containsKey(node))
+                owner.pop();
+            return null;
+        }
+    }
+}
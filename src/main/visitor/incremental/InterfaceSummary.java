@@ -0,0 +1,246 @@
+package main.visitor.incremental;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.statement.BlockStmt;
+import main.ast.nodes.statement.SetGetVarDeclaration;
+import main.ast.nodes.statement.Statement;
+import main.ast.nodes.statement.VarDecStmt;
+import main.ast.types.FptrType;
+import main.ast.types.ListType;
+import main.ast.types.NoType;
+import main.ast.types.StructType;
+import main.ast.types.Type;
+import main.ast.types.primitives.BoolType;
+import main.ast.types.primitives.IntType;
+import main.ast.types.primitives.VoidType;
+import main.symbolTable.Namespace;
+
+import java.io.*;
+import java.util.*;
+
+//What the rest of a program can see of its structs and functions: member types and
+//accessor signatures, function signatures, with the structural hashes of each
+//declaration. Taken after NameAnalyser and stored next to the source, it tells a later
+//compile of the edited file which interfaces and which bodies changed.
+//The descriptions here define what an interface is: StructuralHasher hashes them.
+//On disk the entries follow a 64-bit FNV-1a checksum of their serialized bytes.
+public final class InterfaceSummary {
+    private static final int MAGIC = 0x434d4d53;
+    private static final int VERSION = 2;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public static final class Entry {
+        private final String name;
+        private final long signatureHash;
+        private final long bodyHash;
+        private final List<String> signature;
+
+        Entry(String name, long signatureHash, long bodyHash, List<String> signature) {
+            this.name = name;
+            this.signatureHash = signatureHash;
+            this.bodyHash = bodyHash;
+            this.signature = List.copyOf(signature);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSignatureHash() {
+            return signatureHash;
+        }
+
+        public long getBodyHash() {
+            return bodyHash;
+        }
+
+        //One line per member for a struct, the fptr type for a function.
+        public List<String> getSignature() {
+            return signature;
+        }
+    }
+
+    private final Map<String, Entry> structs;
+    private final Map<String, Entry> functions;
+
+    private InterfaceSummary(Map<String, Entry> structs, Map<String, Entry> functions) {
+        this.structs = structs;
+        this.functions = functions;
+    }
+
+    public static InterfaceSummary of(Program program) {
+        Map<String, Entry> structs = new LinkedHashMap<>();
+        for (StructDeclaration structDec : program.getStructs()) {
+            String name = structDec.getStructName().getName();
+            structs.put(name, new Entry(name, structDec.getSignatureHash(), structDec.getBodyHash(),
+                    describe(structDec)));
+        }
+        Map<String, Entry> functions = new LinkedHashMap<>();
+        for (FunctionDeclaration funcDec : program.getFunctions()) {
+            String name = funcDec.getFunctionName().getName();
+            functions.put(name, new Entry(name, funcDec.getSignatureHash(), funcDec.getBodyHash(),
+                    describe(funcDec)));
+        }
+        return new InterfaceSummary(structs, functions);
+    }
+
+    static List<String> describe(StructDeclaration structDec) {
+        ArrayList<String> members = new ArrayList<>();
+        describeMembers(structDec.getBody(), members);
+        return members;
+    }
+
+    static List<String> describe(FunctionDeclaration funcDec) {
+        List<Type> argTypes = new ArrayList<>();
+        for (VariableDeclaration arg : funcDec.getArgs())
+            argTypes.add(arg.getVarType());
+        return List.of(describe(new FptrType(argTypes, funcDec.getReturnType())));
+    }
+
+    private static void describeMembers(Statement member, List<String> members) {
+        if (member instanceof BlockStmt) {
+            for (Statement statement : ((BlockStmt) member).getStatements())
+                describeMembers(statement, members);
+        }
+        else if (member instanceof VarDecStmt) {
+            for (VariableDeclaration var : ((VarDecStmt) member).getVars())
+                members.add(var.getVarName().getName() + " " + describe(var.getVarType()));
+        }
+        else if (member instanceof SetGetVarDeclaration) {
+            SetGetVarDeclaration setGetVarDec = (SetGetVarDeclaration) member;
+            StringBuilder line = new StringBuilder(setGetVarDec.getVarName().getName()).append(" setget(");
+            for (int i = 0; i < setGetVarDec.getArgs().size(); i++)
+                line.append(i == 0 ? "" : ",").append(describe(setGetVarDec.getArgs().get(i).getVarType()));
+            members.add(line.append(") ").append(describe(setGetVarDec.getVarType())).toString());
+        }
+    }
+
+    private static String describe(Type type) {
+        if (type instanceof IntType)
+            return "int";
+        if (type instanceof BoolType)
+            return "bool";
+        if (type instanceof VoidType)
+            return "void";
+        if (type instanceof ListType)
+            return "list(" + describe(((ListType) type).getType()) + ")";
+        if (type instanceof StructType)
+            return "struct(" + ((StructType) type).getStructName() + ")";
+        if (type instanceof FptrType) {
+            FptrType fptrType = (FptrType) type;
+            StringBuilder result = new StringBuilder("fptr(");
+            for (int i = 0; i < fptrType.getArgsType().size(); i++)
+                result.append(i == 0 ? "" : ",").append(describe(fptrType.getArgsType().get(i)));
+            return result.append("->").append(describe(fptrType.getReturnType())).append(")").toString();
+        }
+        if (type instanceof NoType)
+            return "?";
+        return "-";
+    }
+
+    public Entry getEntry(Namespace namespace, String name) {
+        return entries(namespace).get(name);
+    }
+
+    private Map<String, Entry> entries(Namespace namespace) {
+        return namespace == Namespace.STRUCT ? structs : functions;
+    }
+
+    //Structs or functions added, removed or with a different interface since the previous summary.
+    public Set<String> changedInterfaces(InterfaceSummary previous, Namespace namespace) {
+        Map<String, Entry> current = entries(namespace);
+        Map<String, Entry> old = previous.entries(namespace);
+        Set<String> changed = new LinkedHashSet<>();
+        for (Entry entry : current.values()) {
+            Entry oldEntry = old.get(entry.name);
+            if (oldEntry == null || oldEntry.signatureHash != entry.signatureHash
+                    || !oldEntry.signature.equals(entry.signature))
+                changed.add(entry.name);
+        }
+        for (String name : old.keySet())
+            if (!current.containsKey(name))
+                changed.add(name);
+        return changed;
+    }
+
+    //Structs or functions whose interface is unchanged but whose body differs.
+    public Set<String> changedBodies(InterfaceSummary previous, Namespace namespace) {
+        Set<String> changed = new LinkedHashSet<>();
+        Set<String> changedInterfaces = changedInterfaces(previous, namespace);
+        for (Entry entry : entries(namespace).values())
+            if (!changedInterfaces.contains(entry.name)
+                    && previous.entries(namespace).get(entry.name).bodyHash != entry.bodyHash)
+                changed.add(entry.name);
+        return changed;
+    }
+
+    public void write(OutputStream stream) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DataOutputStream entries = new DataOutputStream(content);
+        writeEntries(entries, structs);
+        writeEntries(entries, functions);
+        entries.flush();
+        byte[] bytes = content.toByteArray();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(checksum(bytes));
+        out.write(bytes);
+        out.flush();
+    }
+
+    private static long checksum(byte[] bytes) {
+        long h = FNV_OFFSET;
+        for (byte b : bytes)
+            h = (h ^ (b & 0xff)) * FNV_PRIME;
+        return h;
+    }
+
+    private static void writeEntries(DataOutputStream out, Map<String, Entry> entries) throws IOException {
+        out.writeInt(entries.size());
+        for (Entry entry : entries.values()) {
+            out.writeUTF(entry.name);
+            out.writeLong(entry.signatureHash);
+            out.writeLong(entry.bodyHash);
+            out.writeInt(entry.signature.size());
+            for (String line : entry.signature)
+                out.writeUTF(line);
+        }
+    }
+
+    public static InterfaceSummary read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+        if (in.readInt() != MAGIC || in.readInt() != VERSION)
+            throw new IOException("Not an interface summary of this version");
+        long checksum = in.readLong();
+        byte[] bytes = in.readAllBytes();
+        if (checksum(bytes) != checksum)
+            throw new IOException("Corrupt interface summary");
+        DataInputStream entries = new DataInputStream(new ByteArrayInputStream(bytes));
+        Map<String, Entry> structs = readEntries(entries);
+        Map<String, Entry> functions = readEntries(entries);
+        if (entries.available() > 0)
+            throw new IOException("Corrupt interface summary");
+        return new InterfaceSummary(structs, functions);
+    }
+
+    private static Map<String, Entry> readEntries(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String name = in.readUTF();
+            long signatureHash = in.readLong();
+            long bodyHash = in.readLong();
+            int lines = in.readInt();
+            ArrayList<String> signature = new ArrayList<>(lines);
+            for (int j = 0; j < lines; j++)
+                signature.add(in.readUTF());
+            entries.put(name, new Entry(name, signatureHash, bodyHash, signature));
+        }
+        return entries;
+    }
+}
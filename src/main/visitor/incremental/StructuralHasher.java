@@ -0,0 +1,298 @@
+package main.visitor.incremental;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.expression.*;
+import main.ast.nodes.expression.values.primitive.BoolValue;
+import main.ast.nodes.expression.values.primitive.IntValue;
+import main.ast.nodes.statement.*;
+import main.ast.types.FptrType;
+import main.ast.types.ListType;
+import main.ast.types.StructType;
+import main.ast.types.Type;
+import main.visitor.Frame;
+import main.visitor.IterativeVisitor;
+
+import java.util.List;
+
+//Computes line-independent structural hashes of the top-level declarations.
+//Must run right after parsing, before NameAnalyser renames duplicates.
+public class StructuralHasher extends IterativeVisitor<Void> {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MIX_MULTIPLIER = 0x9e3779b97f4a7c15L;
+    private static final long NULL_TAG = 0x5851f42d4c957f2dL;
+
+    private long hash;
+
+    private void mix(long value) {
+        hash = Long.rotateLeft(hash ^ (value * MIX_MULTIPLIER), 31) * FNV_PRIME;
+    }
+
+    private long finish() {
+        long h = hash;
+        h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+        h = (h ^ (h >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private void mix(String value) {
+        long h = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++)
+            h = (h ^ value.charAt(i)) * FNV_PRIME;
+        mix(h);
+        mix(value.length());
+    }
+
+    private void mixTag(Node node) {
+        mix(node.getClass().getSimpleName());
+    }
+
+    private void mixPresence(Node node) {
+        mix(node == null ? NULL_TAG : 1);
+    }
+
+    private void mixType(Type type) {
+        if (type == null) {
+            mix(NULL_TAG);
+            return;
+        }
+        mix(type.getClass().getSimpleName());
+        if (type instanceof ListType)
+            mixType(((ListType) type).getType());
+        else if (type instanceof StructType)
+            mix(((StructType) type).getStructName());
+        else if (type instanceof FptrType) {
+            FptrType fptrType = (FptrType) type;
+            mix(fptrType.getArgsType().size());
+            for (Type argType : fptrType.getArgsType())
+                mixType(argType);
+            mixType(fptrType.getReturnType());
+        }
+    }
+
+    //The interface is what InterfaceSummary describes of the declaration.
+    private void mixSignature(Node declaration, String name, List<String> description) {
+        hash = FNV_OFFSET;
+        mixTag(declaration);
+        mix(name);
+        mix(description.size());
+        for (String line : description)
+            mix(line);
+    }
+
+    @Override
+    protected void enter(Program program, Frame<Void> frame) {
+        frame.visitAll(program.getStructs());
+        frame.visitAll(program.getFunctions());
+        frame.visit(program.getMain());
+    }
+
+    @Override
+    protected void enter(FunctionDeclaration functionDec, Frame<Void> frame) {
+        mixSignature(functionDec, functionDec.getFunctionName().getName(), InterfaceSummary.describe(functionDec));
+        functionDec.setSignatureHash(finish());
+
+        hash = FNV_OFFSET;
+        mixPresence(functionDec.getBody());
+        frame.visitAll(functionDec.getArgs());
+        frame.visit(functionDec.getBody());
+    }
+
+    @Override
+    protected Void exit(FunctionDeclaration functionDec, Frame<Void> frame) {
+        functionDec.setBodyHash(finish());
+        return null;
+    }
+
+    @Override
+    protected void enter(MainDeclaration mainDec, Frame<Void> frame) {
+        hash = FNV_OFFSET;
+        mixTag(mainDec);
+        mainDec.setSignatureHash(finish());
+
+        hash = FNV_OFFSET;
+        mixPresence(mainDec.getBody());
+        frame.visit(mainDec.getBody());
+    }
+
+    @Override
+    protected Void exit(MainDeclaration mainDec, Frame<Void> frame) {
+        mainDec.setBodyHash(finish());
+        return null;
+    }
+
+    @Override
+    protected void enter(StructDeclaration structDec, Frame<Void> frame) {
+        mixSignature(structDec, structDec.getStructName().getName(), InterfaceSummary.describe(structDec));
+        structDec.setSignatureHash(finish());
+
+        hash = FNV_OFFSET;
+        mixPresence(structDec.getBody());
+        frame.visit(structDec.getBody());
+    }
+
+    @Override
+    protected Void exit(StructDeclaration structDec, Frame<Void> frame) {
+        structDec.setBodyHash(finish());
+        return null;
+    }
+
+    @Override
+    protected void enter(VariableDeclaration variableDec, Frame<Void> frame) {
+        mixTag(variableDec);
+        mix(variableDec.getVarName().getName());
+        mixType(variableDec.getVarType());
+        mixPresence(variableDec.getDefaultValue());
+        frame.visit(variableDec.getDefaultValue());
+    }
+
+    @Override
+    protected void enter(SetGetVarDeclaration setGetVarDec, Frame<Void> frame) {
+        mixTag(setGetVarDec);
+        mix(setGetVarDec.getVarName().getName());
+        mixType(setGetVarDec.getVarType());
+        mix(setGetVarDec.getArgs().size());
+        frame.visitAll(setGetVarDec.getArgs());
+        frame.visit(setGetVarDec.getSetterBody());
+        frame.visit(setGetVarDec.getGetterBody());
+    }
+
+    @Override
+    protected void enter(AssignmentStmt assignmentStmt, Frame<Void> frame) {
+        mixTag(assignmentStmt);
+        visitChildren(assignmentStmt, frame);
+    }
+
+    @Override
+    protected void enter(BlockStmt blockStmt, Frame<Void> frame) {
+        mixTag(blockStmt);
+        mix(blockStmt.getStatements().size());
+        visitChildren(blockStmt, frame);
+    }
+
+    @Override
+    protected void enter(ConditionalStmt conditionalStmt, Frame<Void> frame) {
+        mixTag(conditionalStmt);
+        mixPresence(conditionalStmt.getElseBody());
+        visitChildren(conditionalStmt, frame);
+    }
+
+    @Override
+    protected void enter(FunctionCallStmt functionCallStmt, Frame<Void> frame) {
+        mixTag(functionCallStmt);
+        visitChildren(functionCallStmt, frame);
+    }
+
+    @Override
+    protected void enter(DisplayStmt displayStmt, Frame<Void> frame) {
+        mixTag(displayStmt);
+        visitChildren(displayStmt, frame);
+    }
+
+    @Override
+    protected void enter(ReturnStmt returnStmt, Frame<Void> frame) {
+        mixTag(returnStmt);
+        mixPresence(returnStmt.getReturnedExpr());
+        visitChildren(returnStmt, frame);
+    }
+
+    @Override
+    protected void enter(LoopStmt loopStmt, Frame<Void> frame) {
+        mixTag(loopStmt);
+        visitChildren(loopStmt, frame);
+    }
+
+    @Override
+    protected void enter(VarDecStmt varDecStmt, Frame<Void> frame) {
+        mixTag(varDecStmt);
+        mix(varDecStmt.getVars().size());
+        visitChildren(varDecStmt, frame);
+    }
+
+    @Override
+    protected void enter(ListAppendStmt listAppendStmt, Frame<Void> frame) {
+        mixTag(listAppendStmt);
+        visitChildren(listAppendStmt, frame);
+    }
+
+    @Override
+    protected void enter(ListSizeStmt listSizeStmt, Frame<Void> frame) {
+        mixTag(listSizeStmt);
+        visitChildren(listSizeStmt, frame);
+    }
+
+    @Override
+    protected void enter(BinaryExpression binaryExpression, Frame<Void> frame) {
+        mixTag(binaryExpression);
+        mix(binaryExpression.getBinaryOperator().ordinal());
+        visitChildren(binaryExpression, frame);
+    }
+
+    @Override
+    protected void enter(UnaryExpression unaryExpression, Frame<Void> frame) {
+        mixTag(unaryExpression);
+        mix(unaryExpression.getOperator().ordinal());
+        visitChildren(unaryExpression, frame);
+    }
+
+    @Override
+    protected void enter(FunctionCall funcCall, Frame<Void> frame) {
+        mixTag(funcCall);
+        mix(funcCall.getArgs().size());
+        visitChildren(funcCall, frame);
+    }
+
+    @Override
+    protected void enter(Identifier identifier, Frame<Void> frame) {
+        mixTag(identifier);
+        mix(identifier.getName());
+    }
+
+    @Override
+    protected void enter(ListAccessByIndex listAccessByIndex, Frame<Void> frame) {
+        mixTag(listAccessByIndex);
+        visitChildren(listAccessByIndex, frame);
+    }
+
+    @Override
+    protected void enter(StructAccess structAccess, Frame<Void> frame) {
+        mixTag(structAccess);
+        visitChildren(structAccess, frame);
+    }
+
+    @Override
+    protected void enter(ListSize listSize, Frame<Void> frame) {
+        mixTag(listSize);
+        visitChildren(listSize, frame);
+    }
+
+    @Override
+    protected void enter(ListAppend listAppend, Frame<Void> frame) {
+        mixTag(listAppend);
+        visitChildren(listAppend, frame);
+    }
+
+    @Override
+    protected void enter(ExprInPar exprInPar, Frame<Void> frame) {
+        mixTag(exprInPar);
+        mix(exprInPar.getInputs().size());
+        visitChildren(exprInPar, frame);
+    }
+
+    @Override
+    protected void enter(IntValue intValue, Frame<Void> frame) {
+        mixTag(intValue);
+        mix(intValue.getConstant());
+    }
+
+    @Override
+    protected void enter(BoolValue boolValue, Frame<Void> frame) {
+        mixTag(boolValue);
+        mix(boolValue.getConstant() ? 1 : 0);
+    }
+}
@@ -1,233 +1,29 @@
 package main.visitor.name;
 
-import main.ast.nodes.Program;
-import main.ast.nodes.declaration.FunctionDeclaration;
-import main.ast.nodes.declaration.MainDeclaration;
-import main.ast.nodes.declaration.VariableDeclaration;
-import main.ast.nodes.declaration.struct.StructDeclaration;
-import main.ast.nodes.expression.*;
-import main.ast.nodes.expression.values.primitive.BoolValue;
-import main.ast.nodes.expression.values.primitive.IntValue;
-import main.ast.nodes.statement.*;
-import main.visitor.Visitor;
+import main.ast.nodes.Node;
+import main.ast.nodes.statement.SetGetVarDeclaration;
+import main.visitor.Frame;
+import main.visitor.IterativeVisitor;
 
-public class ASTTreePrinter extends Visitor<Void> {
+public class ASTTreePrinter extends IterativeVisitor<Void> {
     public void messagePrinter(int line, String message){
         System.out.println("Line " + line + ": " + message);
     }
 
     @Override
-    public Void visit(Program program) {
-        messagePrinter(program.getLine(), program.toString());
-        for (StructDeclaration structDeclaration: program.getStructs())
-            structDeclaration.accept(this);
-        for (FunctionDeclaration functionDeclaration:program.getFunctions())
-            functionDeclaration.accept(this);
-        program.getMain().accept(this);
-        return null;
+    protected void enter(Node node, Frame<Void> frame) {
+        messagePrinter(node.getLine(), node.toString());
+        if (node instanceof SetGetVarDeclaration)
+            super.enter(node, frame);
+        else
+            visitChildren(node, frame);
     }
 
     @Override
-    public Void visit(FunctionDeclaration functionDec) {
-        messagePrinter(functionDec.getLine(), functionDec.toString());
-        functionDec.getFunctionName().accept(this);
-        for (VariableDeclaration arg: functionDec.getArgs())
-            arg.accept(this);
-        functionDec.getBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(MainDeclaration mainDec) {
-        messagePrinter(mainDec.getLine(), mainDec.toString());
-        mainDec.getBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(VariableDeclaration variableDec) {
-        messagePrinter(variableDec.getLine(), variableDec.toString());
-        variableDec.getVarName().accept(this);
-        if ( variableDec.getDefaultValue() != null)
-            variableDec.getDefaultValue().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(StructDeclaration structDec) {
-        messagePrinter(structDec.getLine(), structDec.toString());
-        structDec.getStructName().accept(this);
-        structDec.getBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(SetGetVarDeclaration setGetVarDec) {
-        messagePrinter(setGetVarDec.getLine(), setGetVarDec.toString());
-        setGetVarDec.getVarName().accept(this);
-        for (VariableDeclaration varDec: setGetVarDec.getArgs())
-            varDec.accept(this);
-        setGetVarDec.getSetterBody().accept(this);
-        setGetVarDec.getGetterBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(AssignmentStmt assignmentStmt) {
-        messagePrinter(assignmentStmt.getLine(), assignmentStmt.toString());
-        assignmentStmt.getLValue().accept(this);
-        assignmentStmt.getRValue().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(BlockStmt blockStmt) {
-        messagePrinter(blockStmt.getLine(), blockStmt.toString());
-        for (Statement stmt: blockStmt.getStatements())
-            stmt.accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ConditionalStmt conditionalStmt) {
-        messagePrinter(conditionalStmt.getLine(), conditionalStmt.toString());
-        conditionalStmt.getCondition().accept(this);
-        conditionalStmt.getThenBody().accept(this);
-        if (conditionalStmt.getElseBody() != null)
-            conditionalStmt.getElseBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(FunctionCallStmt functionCallStmt) {
-        messagePrinter(functionCallStmt.getLine(), functionCallStmt.toString());
-        functionCallStmt.getFunctionCall().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(DisplayStmt displayStmt) {
-        messagePrinter(displayStmt.getLine(), displayStmt.toString());
-        displayStmt.getArg().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ReturnStmt returnStmt) {
-        messagePrinter(returnStmt.getLine(), returnStmt.toString());
-        if (returnStmt.getReturnedExpr() != null)
-            returnStmt.getReturnedExpr().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(LoopStmt loopStmt) {
-        messagePrinter(loopStmt.getLine(), loopStmt.toString());
-        loopStmt.getCondition().accept(this);
-        loopStmt.getBody().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(VarDecStmt varDecStmt) {
-        messagePrinter(varDecStmt.getLine(), varDecStmt.toString());
-        for(VariableDeclaration varDec: varDecStmt.getVars())
-            varDec.accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ListAppendStmt listAppendStmt) {
-        messagePrinter(listAppendStmt.getLine(), listAppendStmt.toString());
-        listAppendStmt.getListAppendExpr().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ListSizeStmt listSizeStmt) {
-        messagePrinter(listSizeStmt.getLine(), listSizeStmt.toString());
-        listSizeStmt.getListSizeExpr().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(BinaryExpression binaryExpression) {
-        messagePrinter(binaryExpression.getLine(), binaryExpression.toString());
-        binaryExpression.getFirstOperand().accept(this);
-        binaryExpression.getSecondOperand().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(UnaryExpression unaryExpression) {
-        messagePrinter(unaryExpression.getLine(), unaryExpression.toString());
-        unaryExpression.getOperand().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(FunctionCall funcCall) {
-        messagePrinter(funcCall.getLine(), funcCall.toString());
-        funcCall.getInstance().accept(this);
-        for (Expression arg: funcCall.getArgs())
-            arg.accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(Identifier identifier) {
-        messagePrinter(identifier.getLine(), identifier.toString());
-        return null;
-    }
-
-    @Override
-    public Void visit(ListAccessByIndex listAccessByIndex) {
-        messagePrinter(listAccessByIndex.getLine(), listAccessByIndex.toString());
-        listAccessByIndex.getInstance().accept(this);
-        listAccessByIndex.getIndex().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(StructAccess structAccess) {
-        messagePrinter(structAccess.getLine(), structAccess.toString());
-        structAccess.getInstance().accept(this);
-        structAccess.getElement().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ListSize listSize) {
-        messagePrinter(listSize.getLine(), listSize.toString());
-        listSize.getArg().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ListAppend listAppend) {
-        messagePrinter(listAppend.getLine(), listAppend.toString());
-        listAppend.getListArg().accept(this);
-        listAppend.getElementArg().accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(ExprInPar exprInPar) {
-        messagePrinter(exprInPar.getLine(), exprInPar.toString());
-        for (Expression expression: exprInPar.getInputs())
-            expression.accept(this);
-        return null;
-    }
-
-    @Override
-    public Void visit(IntValue intValue) {
-        messagePrinter(intValue.getLine(), intValue.toString());
-        return null;
-    }
-
-    @Override
-    public Void visit(BoolValue boolValue) {
-        messagePrinter(boolValue.getLine(), boolValue.toString());
-        return null;
+    protected void enter(SetGetVarDeclaration setGetVarDec, Frame<Void> frame) {
+        frame.visit(setGetVarDec.getVarName());
+        frame.visitAll(setGetVarDec.getArgs());
+        frame.visit(setGetVarDec.getSetterBody());
+        frame.visit(setGetVarDec.getGetterBody());
     }
 }
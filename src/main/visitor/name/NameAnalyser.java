@@ -1,82 +1,96 @@
 package main.visitor.name;
+import main.ast.nodes.Node;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
 import main.ast.nodes.expression.*;
 import main.ast.nodes.statement.*;
 import main.ast.types.StructType;
+import main.ast.types.TypeTable;
 import main.compileError.nameError.*;
+import main.symbolTable.AnalysisContext;
+import main.symbolTable.Namespace;
+import main.symbolTable.StructLayout;
 import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.*;
 import main.symbolTable.items.*;
 
 import main.symbolTable.utils.graph.Graph;
-import main.visitor.Visitor;
+import main.visitor.Frame;
+import main.visitor.FusedVisitor;
+import main.visitor.IterativeVisitor;
 
-import java.util.ArrayList;
+import java.util.*;
 
-public class NameAnalyser extends Visitor<Void> {
+public class NameAnalyser extends IterativeVisitor<Void> {
 
     private int newId = 1;
     private boolean firstVisit = true;
+    private boolean resolvePass = false;
+    private boolean inAccessor = false;
     private boolean isInStruct = false;
     private String curStructName;
-    private final Graph<String> structHierarchy = new Graph<>();
+    private SymbolTable curStructTable;
+    private final ArrayList<VariableSymbolTableItem> structFields = new ArrayList<>();
+    private TypeTable types;
+    private final Graph<String> structHierarchy;
+    private final AnalysisContext context;
+
+    public NameAnalyser(AnalysisContext context) {
+        this.context = context;
+        this.structHierarchy = new Graph<>();
+    }
+
+    //An analyser for a single declaration, next to others on other threads. It shares the
+    //struct hierarchy, and renames duplicate accessors starting from the given id.
+    NameAnalyser(NameAnalyser globals, AnalysisContext context, int firstId) {
+        this.context = context;
+        this.structHierarchy = globals.structHierarchy;
+        this.types = globals.types;
+        this.newId = firstId;
+    }
+
+    int getNewId() {
+        return newId;
+    }
 
     private void createStructSymbolTable(StructDeclaration structDec) {
         SymbolTable newSymbolTable = new SymbolTable();
         StructSymbolTableItem newSymbolTableItem = new StructSymbolTableItem(structDec);
         newSymbolTableItem.setStructSymbolTable(newSymbolTable);
-        try {
-            SymbolTable.root.put(newSymbolTableItem);
-
-        } catch (ItemAlreadyExistsException e) {
+        if (context.getRoot().putIfAbsent(newSymbolTableItem) != null) {
             DuplicateStruct exception = new DuplicateStruct(structDec.getLine(), structDec.getStructName().getName());
             structDec.addError(exception);
             String newName = newId + "@";
             newId += 1;
             structDec.setStructName(new Identifier(newName));
-            try {
-                StructSymbolTableItem newStructSym = new StructSymbolTableItem(structDec);
-                newStructSym.setStructSymbolTable(newSymbolTable);
-                SymbolTable.root.put(newStructSym);
-            } catch (ItemAlreadyExistsException e1) { //Unreachable
-            }
+            StructSymbolTableItem newStructSym = new StructSymbolTableItem(structDec);
+            newStructSym.setStructSymbolTable(newSymbolTable);
+            context.getRoot().putIfAbsent(newStructSym);
         }
     }
 
     private void createFunctionSymbolTable(FunctionDeclaration funcDec) {
         FunctionSymbolTableItem newSymbolTableItem = new FunctionSymbolTableItem(funcDec);
-        try {
-            SymbolTable.root.put(newSymbolTableItem);
-
-        } catch (ItemAlreadyExistsException e) {
+        if (context.getRoot().putIfAbsent(newSymbolTableItem) != null) {
             DuplicateFunction exception = new DuplicateFunction(funcDec.getLine(), funcDec.getFunctionName().getName());
             funcDec.addError(exception);
             String newName = newId + "@";
             newId += 1;
             funcDec.setFunctionName(new Identifier(newName));
-            try {
-                FunctionSymbolTableItem newFuncSym = new FunctionSymbolTableItem(funcDec);
-                SymbolTable.root.put(newFuncSym);
-            } catch (ItemAlreadyExistsException e1) { //Unreachable
-            }
+            FunctionSymbolTableItem newFuncSym = new FunctionSymbolTableItem(funcDec);
+            context.getRoot().putIfAbsent(newFuncSym);
         }
     }
 
-    private boolean hasConflict(String key) {
-        try {
-            SymbolTable.root.getItem(key);
-            return true;
-        } catch (ItemNotFoundException exception) {
-            return false;
-        }
+    private boolean hasConflict(Namespace namespace, String name) {
+        return context.getRoot().lookup(namespace, name) != null;
     }
 
-    private void checkCycle(ArrayList<StructDeclaration> structs){
+    public void checkCycle(ArrayList<StructDeclaration> structs){
+        Set<String> onCycles = structHierarchy.getNodesOnCycles();
         for(StructDeclaration struct : structs){
             String structName = struct.getStructName().getName();
-            if(structHierarchy.isSecondNodeAncestorOf(structName, structName)){
+            if(onCycles.contains(structName)){
                 CyclicDependency exception = new CyclicDependency(struct.getLine(), structName);
                 struct.addError(exception);
             }
@@ -84,10 +98,17 @@ public class NameAnalyser extends Visitor<Void> {
     }
 
     @Override
-    public Void visit(Program program) {
-        SymbolTable root = new SymbolTable();
-        SymbolTable.root = root;
-        SymbolTable.push(root);
+    protected void enter(Program program, Frame<Void> frame) {
+        context.push(context.getRoot());
+        declareGlobals(program);
+        frame.visitAll(program.getStructs());
+        frame.visitAll(program.getFunctions());
+        frame.visit(program.getMain());
+    }
+
+    //Puts the structs and functions in the root table, renaming duplicates.
+    public void declareGlobals(Program program) {
+        types = program.getTypeTable();
         for (StructDeclaration structDec : program.getStructs()) {
             createStructSymbolTable(structDec);
             try {
@@ -98,185 +119,347 @@ public class NameAnalyser extends Visitor<Void> {
         }
 
         for (FunctionDeclaration funcDec : program.getFunctions()) {
-            if (hasConflict(StructSymbolTableItem.START_KEY + funcDec.getFunctionName().getName())) {
+            if (hasConflict(Namespace.STRUCT, funcDec.getFunctionName().getName())) {
                 FunctionStructConflict exception = new FunctionStructConflict(funcDec.getLine(), funcDec.getFunctionName().getName());
                 funcDec.addError(exception);
             }
             createFunctionSymbolTable(funcDec);
         }
+    }
 
-        for (StructDeclaration structDec : program.getStructs()) {
-            try {
-                String key = StructSymbolTableItem.START_KEY + structDec.getStructName().getName();
-                StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem) SymbolTable.root.getItem(key);
-                SymbolTable.push(structSymbolTableItem.getStructSymbolTable());
-                isInStruct = true;
-                curStructName = structDec.getStructName().getName();
-                structDec.accept(this);
-                isInStruct = false;
-                SymbolTable.pop();
-            } catch (ItemNotFoundException e) { //Unreachable
-            }
+    //Walks one struct, function or main as the walk of the program would, under the root scope.
+    public void analyseDeclaration(Node declaration, IterativeVisitor<?>... followers) {
+        context.push(context.getRoot());
+        if (enterDeclaration(declaration)) {
+            declaration.accept(new FusedVisitor<>(this, followers));
+            exitDeclaration(declaration);
         }
+        context.pop();
+        context.checkDepth(0);
+    }
 
-        checkCycle(program.getStructs());
-
-        for (FunctionDeclaration funcDec : program.getFunctions()) {
-            SymbolTable.push(new SymbolTable());
-            funcDec.accept(this);
-            SymbolTable.pop();
+    private boolean enterDeclaration(Node declaration) {
+        if (declaration instanceof StructDeclaration) {
+            StructDeclaration structDec = (StructDeclaration) declaration;
+            StructSymbolTableItem structSymbolTableItem = (StructSymbolTableItem)
+                    context.getRoot().lookup(Namespace.STRUCT, structDec.getStructName().getName());
+            if (structSymbolTableItem == null) //Unreachable
+                return false;
+            curStructTable = structSymbolTableItem.getStructSymbolTable();
+            context.push(curStructTable);
+            isInStruct = true;
+            curStructName = structDec.getStructName().getName();
+            return true;
         }
+        context.push(new SymbolTable());
+        return true;
+    }
 
-        SymbolTable.push(new SymbolTable());
-        program.getMain().accept(this);
-        SymbolTable.pop();
+    private void exitDeclaration(Node declaration) {
+        if (declaration instanceof StructDeclaration)
+            isInStruct = false;
+        context.pop();
+        context.checkDepth(1);
+    }
 
+    @Override
+    protected Void exit(Program program, Frame<Void> frame) {
+        context.pop();
+        context.checkDepth(0);
         return null;
     }
 
     @Override
-    public Void visit(FunctionDeclaration funcDec) {
-        for (VariableDeclaration arg: funcDec.getArgs())
-            arg.accept(this);
-        funcDec.getBody().accept(this);
-        return null;
+    protected boolean beforeChild(Node node, Frame<Void> frame, int index) {
+        Node child = frame.getChild(index);
+        if (node instanceof Program) {
+            Program program = (Program) node;
+            if (index == program.getStructs().size())
+                checkCycle(program.getStructs());
+            return enterDeclaration(child);
+        }
+        else if (node instanceof StructDeclaration) {
+            if (index == 1)
+                firstVisit = false;
+            else if (index == 2)
+                resolvePass = true;
+        }
+        else if ((node instanceof ConditionalStmt || node instanceof LoopStmt) && child instanceof Statement) {
+            SymbolTable scope = new SymbolTable(context.getTop());
+            context.push(scope);
+        }
+        return true;
     }
 
     @Override
-    public Void visit(StructDeclaration structDeclaration) {
-        structDeclaration.getBody().accept(this);
-        firstVisit = false;
-        structDeclaration.getBody().accept(this);
+    protected void afterChild(Node node, Frame<Void> frame, int index, Void result) {
+        if (node instanceof Program)
+            exitDeclaration(frame.getChild(index));
+        else if ((node instanceof ConditionalStmt || node instanceof LoopStmt)
+                && frame.getChild(index) instanceof Statement)
+            context.pop();
+        else if (node instanceof SetGetVarDeclaration && frame.getValue() == 2
+                && frame.getChild(index) == ((SetGetVarDeclaration) node).getSetterBody())
+            context.pop();
+    }
+
+    @Override
+    protected void enter(FunctionDeclaration funcDec, Frame<Void> frame) {
+        frame.visitAll(funcDec.getArgs());
+        frame.visit(funcDec.getBody());
+    }
+
+    @Override
+    protected void enter(StructDeclaration structDeclaration, Frame<Void> frame) {
+        //Members first, then the setter arguments, then the names used in the bodies
+        frame.visit(structDeclaration.getBody());
+        frame.visit(structDeclaration.getBody());
+        frame.visit(structDeclaration.getBody());
+    }
+
+    @Override
+    protected Void exit(StructDeclaration structDeclaration, Frame<Void> frame) {
         firstVisit = true;
+        resolvePass = false;
+        Statement body = structDeclaration.getBody();
+        Set<SymbolTableItem> accessors = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Statement stmt : body instanceof BlockStmt ? ((BlockStmt) body).getStatements() : List.of(body))
+            if (stmt instanceof SetGetVarDeclaration && ((SetGetVarDeclaration) stmt).getVarName().getBinding() != null)
+                accessors.add(((SetGetVarDeclaration) stmt).getVarName().getBinding());
+        context.setLayout(types.struct(structDeclaration.getStructName().getName()), new StructLayout(structFields, accessors));
+        structFields.clear();
         return null;
     }
 
+    //Variables landing in the struct's own table are its fields, getter locals included
+    private void addStructField(VariableSymbolTableItem item) {
+        if (isInStruct && context.getTop() == curStructTable)
+            structFields.add(item);
+    }
+
     @Override
-    public Void visit(MainDeclaration mainDeclaration) {
-        mainDeclaration.getBody().accept(this);
-        return null;
+    protected void enter(MainDeclaration mainDeclaration, Frame<Void> frame) {
+        frame.visit(mainDeclaration.getBody());
     }
 
     @Override
-    public Void visit(BlockStmt blockStmt) {
+    protected void enter(BlockStmt blockStmt, Frame<Void> frame) {
         for (Statement stmt : blockStmt.getStatements()) {
-            if (firstVisit)
-                stmt.accept(this);
-            if (!firstVisit && stmt instanceof SetGetVarDeclaration)
-                stmt.accept(this);
+            if (firstVisit || resolvePass)
+                frame.visit(stmt);
+            else if (stmt instanceof SetGetVarDeclaration)
+                frame.visit(stmt);
         }
-        return null;
     }
 
     @Override
-    public Void visit(ConditionalStmt conditionalStmt) {
-        SymbolTable ifScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(ifScope);
-        conditionalStmt.getThenBody().accept(this);
-        SymbolTable.pop();
-        if (conditionalStmt.getElseBody() != null) {
-            SymbolTable elseScope = new SymbolTable(SymbolTable.top);
-            SymbolTable.push(elseScope);
-            conditionalStmt.getElseBody().accept(this);
-            SymbolTable.pop();
+    protected void enter(ConditionalStmt conditionalStmt, Frame<Void> frame) {
+        frame.visit(conditionalStmt.getCondition());
+        frame.visit(conditionalStmt.getThenBody());
+        frame.visit(conditionalStmt.getElseBody());
+    }
+
+    @Override
+    protected void enter(LoopStmt loopStmt, Frame<Void> frame) {
+        frame.visit(loopStmt.getCondition());
+        frame.visit(loopStmt.getBody());
+    }
+
+    @Override
+    protected void enter(VarDecStmt varDecStmt, Frame<Void> frame) {
+        if (!firstVisit && !resolvePass)
+            return;
+        for (VariableDeclaration var : varDecStmt.getVars()) {
+            frame.visit(var);
+            if (inAccessor) //The type checker skips the rest
+                break;
         }
-        return null;
     }
 
     @Override
-    public Void visit(LoopStmt loopStmt) {
-        SymbolTable loopScope = new SymbolTable(SymbolTable.top);
-        SymbolTable.push(loopScope);
-        loopStmt.getBody().accept(this);
-        SymbolTable.pop();
-        return null;
+    protected void enter(AssignmentStmt assignmentStmt, Frame<Void> frame) {
+        frame.visit(assignmentStmt.getLValue());
+        frame.visit(assignmentStmt.getRValue());
     }
 
     @Override
-    public Void visit(VarDecStmt varDecStmt) {
-        for (VariableDeclaration var : varDecStmt.getVars())
-            if(firstVisit)
-                var.accept(this);
-        return null;
+    protected void enter(FunctionCallStmt functionCallStmt, Frame<Void> frame) {
+        frame.visit(functionCallStmt.getFunctionCall());
     }
 
     @Override
-    public Void visit(SetGetVarDeclaration setGetVarDeclaration) {
-        String name = setGetVarDeclaration.getVarName().getName();
+    protected void enter(DisplayStmt displayStmt, Frame<Void> frame) {
+        frame.visit(displayStmt.getArg());
+    }
+
+    @Override
+    protected void enter(ReturnStmt returnStmt, Frame<Void> frame) {
+        frame.visit(returnStmt.getReturnedExpr());
+    }
+
+    @Override
+    protected void enter(ListAppendStmt listAppendStmt, Frame<Void> frame) {
+        frame.visit(listAppendStmt.getListAppendExpr());
+    }
+
+    @Override
+    protected void enter(ListSizeStmt listSizeStmt, Frame<Void> frame) {
+        frame.visit(listSizeStmt.getListSizeExpr());
+    }
+
+    @Override
+    protected void enter(BinaryExpression binaryExpression, Frame<Void> frame) {
+        visitChildren(binaryExpression, frame);
+    }
+
+    @Override
+    protected void enter(UnaryExpression unaryExpression, Frame<Void> frame) {
+        visitChildren(unaryExpression, frame);
+    }
+
+    @Override
+    protected void enter(FunctionCall funcCall, Frame<Void> frame) {
+        visitChildren(funcCall, frame);
+    }
+
+    @Override
+    protected void enter(ListAccessByIndex listAccessByIndex, Frame<Void> frame) {
+        visitChildren(listAccessByIndex, frame);
+    }
+
+    @Override
+    protected void enter(StructAccess structAccess, Frame<Void> frame) {
+        frame.visit(structAccess.getInstance());
+    }
+
+    @Override
+    protected void enter(ListSize listSize, Frame<Void> frame) {
+        visitChildren(listSize, frame);
+    }
+
+    @Override
+    protected void enter(ListAppend listAppend, Frame<Void> frame) {
+        visitChildren(listAppend, frame);
+    }
+
+    @Override
+    protected void enter(ExprInPar exprInPar, Frame<Void> frame) {
+        visitChildren(exprInPar, frame);
+    }
+
+    @Override
+    protected void enter(Identifier identifier, Frame<Void> frame) {
+        identifier.setBinding(context.resolve(identifier.getName()));
+    }
+
+    @Override
+    protected void enter(SetGetVarDeclaration setGetVarDeclaration, Frame<Void> frame) {
         if (firstVisit) {
-            setGetVarDeclaration.getVarDec().accept(this);
-            SymbolTable newSym = new SymbolTable();
-            FunctionDeclaration funcDec = new FunctionDeclaration();
-
-            funcDec.setFunctionName(new Identifier(name));
-            funcDec.setReturnType(setGetVarDeclaration.getVarType());
-            funcDec.setArgs(setGetVarDeclaration.getArgs());
-            FunctionSymbolTableItem newItem = new FunctionSymbolTableItem(funcDec);
-            newItem.setFunctionSymbolTable(newSym);
-            try {
-                SymbolTable.top.put(newItem);
-            } catch (ItemAlreadyExistsException e) {
-                setGetVarDeclaration.setVarName(new Identifier(name + "@" + newId));
-                funcDec.setFunctionName(new Identifier(name + "@" + newId));
-                newId += 1;
-                FunctionSymbolTableItem fSym = new FunctionSymbolTableItem(funcDec);
-                fSym.setFunctionSymbolTable(newSym);
-                try{
-                    SymbolTable.top.put(fSym);
-                }catch (ItemAlreadyExistsException e2) {//unreachable
-                }
-            }
+            frame.visit(setGetVarDeclaration.getVarDec());
+            return;
         }
-        else {
-            try {
-                String key = FunctionSymbolTableItem.START_KEY + name;
-                FunctionSymbolTableItem fItem = (FunctionSymbolTableItem) SymbolTable.top.getItem(key);
-                SymbolTable sym = fItem.getFunctionSymbolTable();
-                sym.pre = SymbolTable.top;
-                SymbolTable.push(sym);
-                for (VariableDeclaration arg : setGetVarDeclaration.getArgs())
-                    arg.accept(this);
-                SymbolTable.pop();
-            } catch (ItemNotFoundException e) {//unreachable
-            }
+        FunctionSymbolTableItem fItem = (FunctionSymbolTableItem)
+                context.getTop().lookup(Namespace.FUNCTION, setGetVarDeclaration.getVarName().getName());
+        if (fItem == null) //unreachable
+            return;
+        context.push(fItem.getFunctionSymbolTable());
+        if (resolvePass) {
+            //The getter only sees the struct, the setter's scope is popped after its body
+            inAccessor = true;
+            frame.setValue(2);
+            frame.visit(setGetVarDeclaration.getSetterBody());
+            frame.visit(setGetVarDeclaration.getGetterBody());
+            return;
+        }
+        frame.setValue(1);
+        frame.visitAll(setGetVarDeclaration.getArgs());
+    }
+
+    @Override
+    protected Void exit(SetGetVarDeclaration setGetVarDeclaration, Frame<Void> frame) {
+        if (!firstVisit) {
+            if (frame.getValue() == 1)
+                context.pop();
+            inAccessor = false;
+            return null;
+        }
+        String name = setGetVarDeclaration.getVarName().getName();
+        SymbolTable newSym = new SymbolTable(context.getTop());
+        FunctionDeclaration funcDec = new FunctionDeclaration();
+
+        funcDec.setFunctionName(new Identifier(name));
+        funcDec.setReturnType(setGetVarDeclaration.getVarType());
+        funcDec.setArgs(setGetVarDeclaration.getArgs());
+        FunctionSymbolTableItem newItem = new FunctionSymbolTableItem(funcDec);
+        newItem.setFunctionSymbolTable(newSym);
+        if (context.declare(newItem) != null) {
+            setGetVarDeclaration.setVarName(new Identifier(name + "@" + newId));
+            funcDec.setFunctionName(new Identifier(name + "@" + newId));
+            newId += 1;
+            FunctionSymbolTableItem fSym = new FunctionSymbolTableItem(funcDec);
+            fSym.setFunctionSymbolTable(newSym);
+            context.declare(fSym);
         }
         return null;
     }
 
     @Override
-    public Void visit(VariableDeclaration variableDeclaration) {
-        String name = variableDeclaration.getVarName().getName();
+    protected void enter(VariableDeclaration variableDeclaration, Frame<Void> frame) {
+        if (resolvePass && !inAccessor) { //a struct member, declared by the first pass
+            frame.visit(variableDeclaration.getDefaultValue());
+            return;
+        }
+        if (inAccessor) {
+            //Not a declaration the checks accept, but the type checker keeps it in scope,
+            //taking over a variable of the same name in this scope
+            VariableSymbolTableItem item = new VariableSymbolTableItem(variableDeclaration.getVarName());
+            SymbolTableItem existing = context.declare(item);
+            if (existing == null)
+                addStructField(item);
+            variableDeclaration.getVarName().setBinding(existing != null ? existing : item);
+            frame.visit(variableDeclaration.getDefaultValue());
+            return;
+        }
 
         if(isInStruct && variableDeclaration.getVarType() instanceof StructType){
             StructType structType = (StructType) variableDeclaration.getVarType();
-            try {
-                structHierarchy.addNodeAsParentOf(structType.getStructName().getName(), curStructName);
-            }
-            catch (Exception e){//unreachable
+            synchronized (structHierarchy) { //Structs may be analysed side by side
+                try {
+                    structHierarchy.addNodeAsParentOf(structType.getStructName(), curStructName);
+                }
+                catch (Exception e){//unreachable
+                }
             }
         }
 
-        if (hasConflict(StructSymbolTableItem.START_KEY + name)) {
+        declareVariable(variableDeclaration);
+        if (!isInStruct)
+            frame.visit(variableDeclaration.getDefaultValue());
+    }
+
+    //Declares the variable in the current scope and binds its name to it, reporting
+    //conflicts and duplicates.
+    public void declareVariable(VariableDeclaration variableDeclaration) {
+        String name = variableDeclaration.getVarName().getName();
+        if (hasConflict(Namespace.STRUCT, name)) {
             VarStructConflict exception = new VarStructConflict(variableDeclaration.getLine(), name);
             variableDeclaration.addError(exception);
         }
 
-        if (hasConflict(FunctionSymbolTableItem.START_KEY + name)) {
+        if (hasConflict(Namespace.FUNCTION, name)) {
             VarFunctionConflict exception = new VarFunctionConflict(variableDeclaration.getLine(), name);
             variableDeclaration.addError(exception);
         }
 
         VariableSymbolTableItem variableSymbolTableItem = new VariableSymbolTableItem(variableDeclaration.getVarName());
-        try {
-            SymbolTable.top.getItem(variableSymbolTableItem.getKey());
+        if (context.getTop().lookup(Namespace.VARIABLE, variableSymbolTableItem.getName()) != null) {
             DuplicateVar exception = new DuplicateVar(variableDeclaration.getLine(), name);
             variableDeclaration.addError(exception);
-        } catch (ItemNotFoundException exception2) {
-            try {
-                SymbolTable.top.put(variableSymbolTableItem);
-            } catch (ItemAlreadyExistsException exception3) { //unreachable
-            }
         }
-        return null;
+        else {
+            context.declare(variableSymbolTableItem);
+            addStructField(variableSymbolTableItem);
+            variableDeclaration.getVarName().setBinding(variableSymbolTableItem);
+        }
     }
 }
@@ -0,0 +1,73 @@
+package main.visitor.name;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.ast.nodes.statement.BlockStmt;
+import main.ast.nodes.statement.SetGetVarDeclaration;
+import main.ast.nodes.statement.Statement;
+import main.symbolTable.AnalysisContext;
+import main.visitor.DiagnosticCollector;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+//Does what a NameAnalyser walk of the whole program does, with the bodies analysed as
+//fork-join tasks once the structs and functions are in the root table. Each struct,
+//function and main gets an analyser over a fork of the context: it reads the frozen root
+//and writes its own scopes, or its struct's table. Struct hierarchy edges go to one
+//shared graph under its lock, and the cycle check runs once all tasks are done.
+//A struct renames its duplicate accessors with ids counted out beforehand, so the names
+//match the sequential walk. Diagnostics are merged and reported in tree order as usual.
+public class ParallelNameAnalyser {
+    private final AnalysisContext context;
+    private final ForkJoinPool pool;
+
+    public ParallelNameAnalyser(AnalysisContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    public void analyse(Program program, DiagnosticCollector diagnosticCollector) {
+        NameAnalyser globals = new NameAnalyser(context);
+        globals.declareGlobals(program);
+
+        List<ForkJoinTask<DiagnosticCollector>> tasks = new ArrayList<>();
+        int nextId = globals.getNewId();
+        for (StructDeclaration structDec : program.getStructs()) {
+            int firstId = nextId;
+            nextId += countRenamedAccessors(structDec);
+            tasks.add(pool.submit(() -> analyseDeclaration(globals, structDec, firstId)));
+        }
+        int lastId = nextId;
+        for (FunctionDeclaration funcDec : program.getFunctions())
+            tasks.add(pool.submit(() -> analyseDeclaration(globals, funcDec, lastId)));
+        if (program.getMain() != null)
+            tasks.add(pool.submit(() -> analyseDeclaration(globals, program.getMain(), lastId)));
+        for (ForkJoinTask<DiagnosticCollector> task : tasks)
+            diagnosticCollector.addAll(task.join());
+
+        globals.checkCycle(program.getStructs());
+        for (StructDeclaration structDec : program.getStructs())
+            diagnosticCollector.collect(structDec);
+    }
+
+    private DiagnosticCollector analyseDeclaration(NameAnalyser globals, Node declaration, int firstId) {
+        DiagnosticCollector diagnostics = new DiagnosticCollector();
+        new NameAnalyser(globals, context.fork(), firstId).analyseDeclaration(declaration, diagnostics);
+        return diagnostics;
+    }
+
+    //An accessor is renamed when an earlier one of the struct has the same name.
+    private static int countRenamedAccessors(StructDeclaration structDec) {
+        Statement body = structDec.getBody();
+        Set<String> names = new HashSet<>();
+        int renamed = 0;
+        for (Statement stmt : body instanceof BlockStmt ? ((BlockStmt) body).getStatements() : List.of(body))
+            if (stmt instanceof SetGetVarDeclaration && !names.add(((SetGetVarDeclaration) stmt).getVarName().getName()))
+                renamed++;
+        return renamed;
+    }
+}
@@ -11,147 +11,184 @@ import main.ast.types.NoType;
 import main.ast.types.FptrType;
 import main.ast.types.ListType;
 import main.ast.types.StructType;
+import main.ast.types.TypeTable;
 import main.ast.types.primitives.BoolType;
 import main.ast.types.primitives.IntType;
 import main.ast.types.primitives.VoidType;
 import main.compileError.typeError.*;
-import main.symbolTable.SymbolTable;
+import main.symbolTable.AnalysisContext;
+import main.symbolTable.StructLayout;
 import main.symbolTable.items.FunctionSymbolTableItem;
 import main.symbolTable.items.StructSymbolTableItem;
+import main.symbolTable.items.SymbolTableItem;
 import main.symbolTable.items.VariableSymbolTableItem;
-import main.symbolTable.exceptions.ItemNotFoundException;
-import main.visitor.Visitor;
+import main.visitor.Frame;
+import main.visitor.IterativeVisitor;
 
-import java.util.ArrayList;
+public class ExpressionTypeChecker extends IterativeVisitor<Type> {
 
-public class ExpressionTypeChecker extends Visitor<Type> {
+    //Frame value: the call flags, then whether the expression seen so far is an lvalue.
+    //Neither LVALUE nor NOT_LVALUE means an access path.
+    private static final int STOPPED = 1;
+    private static final int VOID_VALUE = 2;
+    private static final int LVALUE = 4;
+    private static final int NOT_LVALUE = 8;
 
     private boolean isInFunctionCallStmt;
-    private boolean seenNoneLvalue = false;
+    private boolean resolvesNames;
+    private TypeTable types = new TypeTable();
+    private final AnalysisContext context;
+
+    public ExpressionTypeChecker(AnalysisContext context) {
+        this.context = context;
+    }
 
     public void setIsInFunctionCallStmt(boolean _isInFunctionCallStmt) {
         this.isInFunctionCallStmt = _isInFunctionCallStmt;
     }
 
+    //Binds the identifiers from the current scope of the context, instead of relying on NameAnalyser.
+    public void setResolvesNames(boolean resolvesNames) {
+        this.resolvesNames = resolvesNames;
+    }
+
+    public void setTypeTable(TypeTable types) {
+        this.types = types;
+    }
+
     public boolean isSameType(Type element1, Type element2) {
-        if (element1 instanceof NoType || element2 instanceof NoType)
-            return true;
-        if (element1 instanceof BoolType && element2 instanceof BoolType)
-            return true;
-        if (element1 instanceof IntType && element2 instanceof IntType)
-            return true;
-        if (element1 instanceof VoidType && element2 instanceof VoidType)
-            return true;
-        if (element1 instanceof StructType && element2 instanceof StructType) {
-            StructType s1 = (StructType) element1;
-            StructType s2 = (StructType) element2;
-            return s1.getStructName().getName().equals(s2.getStructName().getName());
-        }
-        if (element1 instanceof ListType && element2 instanceof ListType) {
-            return isSameType(((ListType) element1).getType(), ((ListType) element2).getType());
+        return types.isSameType(element1, element2);
+    }
+
+    public boolean isLvalue(Expression expression) {
+        return expression.isLvalue();
+    }
+
+    private static void setLvalueState(Frame<Type> frame, int state) {
+        frame.setValue((frame.getValue() & ~(LVALUE | NOT_LVALUE)) | state);
+    }
+
+    @Override
+    protected void enter(Node node, Frame<Type> frame) {
+        if (((Expression) node).getType() == null)
+            super.enter(node, frame);
+    }
+
+    @Override
+    protected Type exit(Node node, Frame<Type> frame) {
+        Expression expression = (Expression) node;
+        if (expression.getType() != null)
+            return expression.getType();
+        Type type = super.exit(node, frame);
+        int state = frame.getValue() & (LVALUE | NOT_LVALUE);
+        expression.setType(type);
+        expression.setLvalue(state != NOT_LVALUE);
+        expression.setAccessPath(state == 0);
+        return type;
+    }
+
+    @Override
+    protected boolean beforeChild(Node node, Frame<Type> frame, int index) {
+        if (node instanceof FunctionCall && index > 0)
+            return (frame.getValue() & STOPPED) == 0;
+        else if (node instanceof ListAppend && index == 1) {
+            Type listArgType = frame.getResult(0);
+            return (listArgType instanceof ListType) || (listArgType instanceof NoType);
         }
-        if (element1 instanceof FptrType && element2 instanceof FptrType) {
-            Type element1ReturnType = (((FptrType) element1).getReturnType());
-            Type element2ReturnType = (((FptrType) element2).getReturnType());
-            if (!isSameType(element1ReturnType, element2ReturnType))
-                return false;
-            ArrayList<Type> element1ArgsTypes = new ArrayList<>(((FptrType) element1).getArgsType());
-            ArrayList<Type> element2ArgsTypes = new ArrayList<>(((FptrType) element2).getArgsType());
-            if (element1ArgsTypes.size() == 1)
-                if (element1ArgsTypes.get(0) instanceof VoidType) element1ArgsTypes.clear();
-            if (element2ArgsTypes.size() == 1)
-                if (element2ArgsTypes.get(0) instanceof VoidType) element2ArgsTypes.clear();
-            if (element1ArgsTypes.size() != element2ArgsTypes.size())
-                return false;
+        return true;
+    }
+
+    @Override
+    protected void afterChild(Node node, Frame<Type> frame, int index, Type result) {
+        //The index does not change whether a list access is an lvalue
+        Expression child = (Expression) frame.getChild(index);
+        if (!child.isAccessPath() && !(node instanceof ListAccessByIndex && index == 1))
+            setLvalueState(frame, child.isLvalue() ? LVALUE : NOT_LVALUE);
+        if (node instanceof FunctionCall) {
+            FunctionCall funcCall = (FunctionCall) node;
+            if (index == 0)
+                checkCallee(funcCall, frame, result);
             else {
-                for (int i = 0; i < element1ArgsTypes.size(); i++) {
-                    if (!isSameType(element1ArgsTypes.get(i), element2ArgsTypes.get(i)))
-                        return false;
+                FptrType fptr = (FptrType) frame.getState();
+                if (!isSameType(fptr.getArgsType().get(index - 1), result)) {
+                    funcCall.addError(new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
+                    frame.setValue(frame.getValue() | STOPPED);
                 }
             }
-            return true;
         }
-        return false;
     }
 
-    public boolean isLvalue(Expression expression) {
-        boolean previousSeenNoneLvalue = this.seenNoneLvalue;
-        boolean previousIsCatchErrorsActive = Node.isCatchErrorsActive;
-        this.seenNoneLvalue = false;
-        Node.isCatchErrorsActive = false;
-        expression.accept(this);
-        boolean isLvalue = !this.seenNoneLvalue;
-        Node.isCatchErrorsActive = previousIsCatchErrorsActive;
-        this.seenNoneLvalue = previousSeenNoneLvalue;
-        return isLvalue;
+    @Override
+    protected void enter(BinaryExpression binaryExpression, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+        visitChildren(binaryExpression, frame);
     }
 
     @Override
-    public Type visit(BinaryExpression binaryExpression) {
-        this.seenNoneLvalue = true;
+    protected Type exit(BinaryExpression binaryExpression, Frame<Type> frame) {
         BinaryOperator operator = binaryExpression.getBinaryOperator();
         Expression leftOperand = binaryExpression.getFirstOperand();
         Expression rightOperand = binaryExpression.getSecondOperand();
-        Type typeLeft = leftOperand.accept(this);
-        Type typeRight = rightOperand.accept(this);
+        Type typeLeft = frame.getResult(0);
+        Type typeRight = frame.getResult(1);
         if (operator.equals(BinaryOperator.eq)) {
             if (typeLeft instanceof ListType || typeRight instanceof ListType) {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(leftOperand.getLine(), operator.name());
                 binaryExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             }
             if (!isSameType(typeLeft, typeRight)) {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(rightOperand.getLine(), operator.name());
                 binaryExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             } else {
                 if (typeLeft instanceof NoType || typeRight instanceof NoType)
-                    return new NoType();
+                    return NoType.getInstance();
                 else
-                    return new BoolType();
+                    return BoolType.getInstance();
             }
         } else if (operator.equals(BinaryOperator.gt) || operator.equals(BinaryOperator.lt)) {
             if (typeLeft instanceof NoType && typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             else if ((typeLeft instanceof NoType && !(typeRight instanceof IntType))
                     || (typeRight instanceof NoType && !(typeLeft instanceof IntType))) {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(binaryExpression.getLine(), operator.name());
                 binaryExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             } else if (typeLeft instanceof NoType || typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             if ((typeLeft instanceof IntType) && (typeRight instanceof IntType))
-                return new BoolType();
+                return BoolType.getInstance();
         } else if (operator.equals(BinaryOperator.and) || operator.equals(BinaryOperator.or)) {
             if (typeLeft instanceof NoType && typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             else if ((typeLeft instanceof NoType && !(typeRight instanceof BoolType))
                     || (typeRight instanceof NoType && !(typeLeft instanceof BoolType))) {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(binaryExpression.getLine(), operator.name());
                 binaryExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             } else if (typeLeft instanceof NoType || typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             if ((typeLeft instanceof BoolType) && (typeRight instanceof BoolType))
-                return new BoolType();
+                return BoolType.getInstance();
         } else if (operator.equals(BinaryOperator.add) || operator.equals(BinaryOperator.sub)
                 || operator.equals(BinaryOperator.mult) || operator.equals(BinaryOperator.div)) {
             if (typeLeft instanceof NoType && typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             else if ((typeLeft instanceof NoType && !(typeRight instanceof IntType)) ||
                     (typeRight instanceof NoType && !(typeLeft instanceof IntType))) {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(binaryExpression.getLine(), operator.name());
                 binaryExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             } else if (typeLeft instanceof NoType || typeRight instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             if ((typeLeft instanceof IntType) && (typeRight instanceof IntType))
-                return new IntType();
+                return IntType.getInstance();
         } else if (operator.equals(BinaryOperator.assign)) {
             boolean isFirstLvalue = this.isLvalue(binaryExpression.getFirstOperand());
             if (!isFirstLvalue) {
@@ -159,243 +196,268 @@ public class ExpressionTypeChecker extends Visitor<Type> {
                 binaryExpression.addError(exception);
             }
             if (typeLeft instanceof NoType || typeRight instanceof NoType) {
-                return new NoType();
+                return NoType.getInstance();
             }
             boolean isSubtype = this.isSameType(typeRight, typeLeft);
             if (isSubtype) {
                 if (isFirstLvalue)
                     return typeLeft;
-                return new NoType();
+                return NoType.getInstance();
             }
             UnsupportedOperandType exception =
                     new UnsupportedOperandType(binaryExpression.getLine(), operator.name());
             binaryExpression.addError(exception);
-            return new NoType();
+            return NoType.getInstance();
         }
         UnsupportedOperandType exception = new UnsupportedOperandType(leftOperand.getLine(), operator.name());
         leftOperand.addError(exception);
-        return new NoType();
+        return NoType.getInstance();
+    }
+
+    @Override
+    protected void enter(UnaryExpression unaryExpression, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+        visitChildren(unaryExpression, frame);
     }
 
     @Override
-    public Type visit(UnaryExpression unaryExpression) {
-        this.seenNoneLvalue = true;
+    protected Type exit(UnaryExpression unaryExpression, Frame<Type> frame) {
         UnaryOperator operator = unaryExpression.getOperator();
         Expression operandExpression = unaryExpression.getOperand();
-        Type unaryType = operandExpression.accept(this);
+        Type unaryType = frame.getResult(0);
         if (operator.equals(UnaryOperator.minus)) {
             if (unaryType instanceof IntType)
                 return unaryType;
             if (unaryType instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             else {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(operandExpression.getLine(), operator.name());
                 operandExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             }
         } else if (operator.equals(UnaryOperator.not)) {
             if (unaryType instanceof BoolType)
                 return unaryType;
             if (unaryType instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             else {
                 UnsupportedOperandType exception =
                         new UnsupportedOperandType(operandExpression.getLine(), operator.name());
                 operandExpression.addError(exception);
-                return new NoType();
+                return NoType.getInstance();
             }
         } else {
             boolean isOperandLvalue = this.isLvalue(unaryExpression.getOperand());
             if (unaryType instanceof NoType)
-                return new NoType();
+                return NoType.getInstance();
             if (unaryType instanceof IntType) {
                 if (isOperandLvalue)
                     return unaryType;
-                return new NoType();
+                return NoType.getInstance();
             }
             UnsupportedOperandType exception = new UnsupportedOperandType(unaryExpression.getLine(), operator.name());
             unaryExpression.addError(exception);
-            return new NoType();
+            return NoType.getInstance();
         }
     }
 
     @Override
-    public Type visit(FunctionCall funcCall) {
-        seenNoneLvalue = true;
-        Type retType = funcCall.getInstance().accept(this);
+    protected void enter(FunctionCall funcCall, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+        visitChildren(funcCall, frame);
+    }
+
+    private void checkCallee(FunctionCall funcCall, Frame<Type> frame, Type retType) {
         if (!((retType instanceof FptrType) || (retType instanceof NoType))) {
             funcCall.addError(new CallOnNoneFptrType(funcCall.getLine()));
-            return new NoType();
+            frame.setValue(frame.getValue() | STOPPED);
+            return;
         }
         if (retType instanceof FptrType) {
             FptrType fptr = (FptrType) retType;
-            if (fptr.getArgsType().size() == 1)
-                if (fptr.getArgsType().get(0) instanceof VoidType) fptr.setArgsType(new ArrayList<>());
-            boolean noType = false;
             if ((fptr.getReturnType() instanceof VoidType) && !isInFunctionCallStmt) {
                 funcCall.addError(new CantUseValueOfVoidFunction(funcCall.getLine()));
-                noType = true;
+                frame.setValue(frame.getValue() | VOID_VALUE);
             }
             if (funcCall.getArgs().size() != fptr.getArgsType().size()) {
                 funcCall.addError(new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
-                return new NoType();
+                frame.setValue(frame.getValue() | STOPPED);
+                return;
             }
-            for (int i = 0; (i < fptr.getArgsType().size()) && (i < funcCall.getArgs().size()); i++) {
-                if (!isSameType(fptr.getArgsType().get(i), funcCall.getArgs().get(i).accept(this))) {
-                    funcCall.addError(new ArgsInFunctionCallNotMatchDefinition(funcCall.getLine()));
-                    return new NoType();
-                }
-            }
-            return noType ? new NoType() : fptr.getReturnType();
+            frame.setState(fptr);
+            return;
         }
-        return new NoType();
+        frame.setValue(frame.getValue() | STOPPED);
     }
 
     @Override
-    public Type visit(Identifier identifier) {
-        try {
-            SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + identifier.getName());
-            return new StructType(identifier);
-        } catch (ItemNotFoundException exception1) {
-            try {
-                FunctionSymbolTableItem funcSym = (FunctionSymbolTableItem)
-                        SymbolTable.root.getItem(FunctionSymbolTableItem.START_KEY + identifier.getName());
-                ArrayList<Type> args = funcSym.getArgTypes();
-                if (args.size() == 1) if (args.get(0) instanceof VoidType) args = new ArrayList<>();
-                return new FptrType(args, funcSym.getReturnType());
-            } catch (ItemNotFoundException exception2) {
-                try {
-                    SymbolTable.top.getItem(VariableSymbolTableItem.START_KEY + identifier.getName());
-                    VariableSymbolTableItem varSym = (VariableSymbolTableItem)
-                            SymbolTable.top.getItem(VariableSymbolTableItem.START_KEY + identifier.getName());
-                    return varSym.getType();
-                } catch (ItemNotFoundException exception3) {
-                    VarNotDeclared exception = new VarNotDeclared(identifier.getLine(), identifier.getName());
-                    identifier.addError(exception);
-                    return new NoType();
-                }
-            }
+    protected Type exit(FunctionCall funcCall, Frame<Type> frame) {
+        FptrType fptr = (FptrType) frame.getState();
+        if (fptr == null || (frame.getValue() & (STOPPED | VOID_VALUE)) != 0)
+            return NoType.getInstance();
+        return fptr.getReturnType();
+    }
+
+    @Override
+    protected Type exit(Identifier identifier, Frame<Type> frame) {
+        if (resolvesNames)
+            identifier.setBinding(context.resolve(identifier.getName()));
+        SymbolTableItem binding = identifier.getBinding();
+        if (binding instanceof StructSymbolTableItem)
+            return types.struct(identifier.getName());
+        if (binding instanceof FunctionSymbolTableItem) {
+            FunctionSymbolTableItem funcSym = (FunctionSymbolTableItem) binding;
+            return types.fptr(funcSym.getArgTypes(), funcSym.getReturnType());
         }
+        if (binding instanceof VariableSymbolTableItem)
+            return ((VariableSymbolTableItem) binding).getType();
+        VarNotDeclared exception = new VarNotDeclared(identifier.getLine(), identifier.getName());
+        identifier.addError(exception);
+        return NoType.getInstance();
     }
 
     @Override
-    public Type visit(ListAccessByIndex listAccessByIndex) {
-        Type instanceType = listAccessByIndex.getInstance().accept(this);
-        boolean previousSeenNoneLvalue = this.seenNoneLvalue;
-        Type indexType = listAccessByIndex.getIndex().accept(this);
-        this.seenNoneLvalue = previousSeenNoneLvalue;
+    protected void enter(ListAccessByIndex listAccessByIndex, Frame<Type> frame) {
+        visitChildren(listAccessByIndex, frame);
+    }
+
+    @Override
+    protected Type exit(ListAccessByIndex listAccessByIndex, Frame<Type> frame) {
+        Type instanceType = frame.getResult(0);
+        Type indexType = frame.getResult(1);
         if (!(indexType instanceof IntType || indexType instanceof NoType)) {
             ListIndexNotInt exception = new ListIndexNotInt(listAccessByIndex.getLine());
             listAccessByIndex.addError(exception);
         }
         if (instanceType instanceof NoType)
-            return new NoType();
+            return NoType.getInstance();
         if (!(instanceType instanceof ListType)) {
             AccessByIndexOnNonList exception = new AccessByIndexOnNonList(listAccessByIndex.getLine());
             listAccessByIndex.addError(exception);
-            return new NoType();
+            return NoType.getInstance();
         } else {
             if (indexType instanceof IntType)
                 return ((ListType) instanceType).getType();
             else
-                return new NoType();
+                return NoType.getInstance();
         }
     }
 
     @Override
-    public Type visit(StructAccess structAccess) {
-        Type instanceType = structAccess.getInstance().accept(this);
+    protected void enter(StructAccess structAccess, Frame<Type> frame) {
+        frame.visit(structAccess.getInstance());
+    }
+
+    @Override
+    protected Type exit(StructAccess structAccess, Frame<Type> frame) {
+        Type instanceType = frame.getResult(0);
         if (instanceType instanceof StructType) {
-            try {
-                StructSymbolTableItem ss = (StructSymbolTableItem) SymbolTable
-                        .root.getItem(StructSymbolTableItem.START_KEY
-                                + ((StructType) instanceType).getStructName().getName());
-                try {
-                    VariableSymbolTableItem vs = (VariableSymbolTableItem)
-                            ss.getStructSymbolTable().getItem(VariableSymbolTableItem.START_KEY
-                                    + structAccess.getElement().getName());
-                    return vs.getType();
-                } catch (ItemNotFoundException exception) {
-                    StructMemberNotFound ex = new StructMemberNotFound(structAccess.getLine(),
-                            ((StructType) instanceType).getStructName().getName(),
-                            structAccess.getElement().getName());
-                    structAccess.addError(ex);
-                    return new NoType();
-                }
-            } catch (ItemNotFoundException ignored) {
+            StructLayout layout = context.getLayout((StructType) types.intern(instanceType));
+            if (layout != null) {
+                int index = layout.indexOf(structAccess.getElement().getName());
+                if (index >= 0)
+                    return layout.getFieldType(index);
+                StructMemberNotFound ex = new StructMemberNotFound(structAccess.getLine(),
+                        ((StructType) instanceType).getStructName(),
+                        structAccess.getElement().getName());
+                structAccess.addError(ex);
+                return NoType.getInstance();
             }
-
         } else {
             if (!(instanceType instanceof NoType)) {
                 AccessOnNonStruct exception = new AccessOnNonStruct(structAccess.getLine());
                 structAccess.addError(exception);
             }
-            return new NoType();
+            return NoType.getInstance();
         }
-        return new NoType();
+        return NoType.getInstance();
     }
 
     @Override
-    public Type visit(ListSize listSize) {
-        this.seenNoneLvalue = true;
-        Type argType = listSize.getArg().accept(this);
+    protected void enter(ListSize listSize, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+        visitChildren(listSize, frame);
+    }
+
+    @Override
+    protected Type exit(ListSize listSize, Frame<Type> frame) {
+        Type argType = frame.getResult(0);
         if (argType instanceof ListType)
-            return new IntType();
+            return IntType.getInstance();
         else {
             if (!(argType instanceof NoType)) {
                 GetSizeOfNonList exception = new GetSizeOfNonList(listSize.getLine());
                 listSize.addError(exception);
             }
-            return new NoType();
+            return NoType.getInstance();
         }
     }
 
     @Override
-    public Type visit(ListAppend listAppend) {
-        this.seenNoneLvalue = true;
-        Type listArgType = listAppend.getListArg().accept(this);
+    protected void enter(ListAppend listAppend, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+        visitChildren(listAppend, frame);
+    }
+
+    @Override
+    protected Type exit(ListAppend listAppend, Frame<Type> frame) {
+        Type listArgType = frame.getResult(0);
         if (listArgType instanceof ListType) {
-            Type elementArgType = listAppend.getElementArg().accept(this);
+            Type elementArgType = frame.getResult(1);
             if (isSameType(((ListType) listArgType).getType(), elementArgType))
-                return new VoidType();
+                return VoidType.getInstance();
             else {
                 if (!(elementArgType instanceof NoType)) {
                     NewElementTypeNotMatchListType exception =
                             new NewElementTypeNotMatchListType(listAppend.getLine());
                     listAppend.addError(exception);
                 }
-                return new NoType();
+                return NoType.getInstance();
             }
         } else {
             if (!(listArgType instanceof NoType)) {
                 AppendToNonList exception = new AppendToNonList(listAppend.getLine());
                 listAppend.addError(exception);
-            } else
-                listAppend.getElementArg().accept(this);
-            return new NoType();
+            }
+            return NoType.getInstance();
         }
     }
 
     @Override
-    public Type visit(ExprInPar exprInPar) {
-        seenNoneLvalue = true;
+    protected void enter(ExprInPar exprInPar, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
         for (Expression input : exprInPar.getInputs()) {
-            if (input instanceof Identifier) seenNoneLvalue = false;
-            return input.accept(this);
+            if (input instanceof Identifier) setLvalueState(frame, LVALUE);
+            frame.visit(input);
+            return;
         }
-        return new NoType();
     }
 
     @Override
-    public Type visit(IntValue intValue) {
-        this.seenNoneLvalue = true;
-        return new IntType();
+    protected Type exit(ExprInPar exprInPar, Frame<Type> frame) {
+        if (frame.getChildCount() == 0)
+            return NoType.getInstance();
+        return frame.getResult(0);
+    }
+
+    @Override
+    protected void enter(IntValue intValue, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
+    }
+
+    @Override
+    protected Type exit(IntValue intValue, Frame<Type> frame) {
+        return IntType.getInstance();
+    }
+
+    @Override
+    protected void enter(BoolValue boolValue, Frame<Type> frame) {
+        setLvalueState(frame, NOT_LVALUE);
     }
 
     @Override
-    public Type visit(BoolValue boolValue) {
-        this.seenNoneLvalue = true;
-        return new BoolType();
+    protected Type exit(BoolValue boolValue, Frame<Type> frame) {
+        return BoolType.getInstance();
     }
-}
\ No newline at end of file
+}
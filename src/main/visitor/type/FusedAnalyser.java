@@ -0,0 +1,56 @@
+package main.visitor.type;
+
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.compileError.nameError.NameError;
+import main.symbolTable.AnalysisContext;
+import main.visitor.DiagnosticCollector;
+import main.visitor.FusedVisitor;
+import main.visitor.name.NameAnalyser;
+
+//Name analysis and type checking with a single walk of each function and main, leaving
+//the same errors on the tree as the two passes. The structs and functions are declared
+//first, then the structs are analysed and checked as usual, since their bodies may read
+//each other's members. If that left name errors, the rest only gets its names analysed.
+//Type errors found next to name errors must be dropped: report NameError first.
+public class FusedAnalyser {
+    private final AnalysisContext context;
+
+    public FusedAnalyser(AnalysisContext context) {
+        this.context = context;
+    }
+
+    public void analyse(Program program, DiagnosticCollector diagnosticCollector) {
+        NameAnalyser nameAnalyser = new NameAnalyser(context);
+        nameAnalyser.declareGlobals(program);
+        for (StructDeclaration structDec : program.getStructs())
+            nameAnalyser.analyseDeclaration(structDec, diagnosticCollector);
+        nameAnalyser.checkCycle(program.getStructs());
+        for (StructDeclaration structDec : program.getStructs())
+            diagnosticCollector.collect(structDec);
+        for (FunctionDeclaration funcDec : program.getFunctions())
+            diagnosticCollector.collect(funcDec);
+
+        if (diagnosticCollector.hasErrors(NameError.class)) {
+            for (FunctionDeclaration funcDec : program.getFunctions())
+                nameAnalyser.analyseDeclaration(funcDec, diagnosticCollector);
+            if (program.getMain() != null)
+                nameAnalyser.analyseDeclaration(program.getMain(), diagnosticCollector);
+            return;
+        }
+
+        TypeChecker structChecker = new TypeChecker(context, diagnosticCollector);
+        structChecker.startDeclaration(program.getTypeTable(), null);
+        FusedVisitor<Void> structWalk = new FusedVisitor<>(structChecker, diagnosticCollector);
+        for (StructDeclaration structDec : program.getStructs())
+            structDec.accept(structWalk);
+
+        FusedChecker fusedChecker = new FusedChecker(context, nameAnalyser, program.getTypeTable(), diagnosticCollector);
+        FusedVisitor<Void> walk = new FusedVisitor<>(fusedChecker, diagnosticCollector);
+        for (FunctionDeclaration funcDec : program.getFunctions())
+            funcDec.accept(walk);
+        if (program.getMain() != null)
+            program.getMain().accept(walk);
+    }
+}
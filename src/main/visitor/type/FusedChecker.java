@@ -0,0 +1,88 @@
+package main.visitor.type;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.MainDeclaration;
+import main.ast.nodes.declaration.VariableDeclaration;
+import main.ast.nodes.statement.ConditionalStmt;
+import main.ast.nodes.statement.LoopStmt;
+import main.ast.nodes.statement.Statement;
+import main.ast.types.TypeTable;
+import main.symbolTable.AnalysisContext;
+import main.symbolTable.SymbolTable;
+import main.visitor.Frame;
+import main.visitor.IterativeVisitor;
+import main.visitor.name.NameAnalyser;
+
+//Type checks functions and main while building their scopes, in place of a NameAnalyser
+//walk followed by a TypeChecker walk. Each scope is pushed where NameAnalyser pushes it,
+//declarations go through the name analyser, and the expression walks bind the names.
+//The structs and functions must be declared and the structs analysed and checked.
+public class FusedChecker extends TypeChecker {
+    private final AnalysisContext context;
+    private final NameAnalyser nameAnalyser;
+    private final TypeTable types;
+
+    public FusedChecker(AnalysisContext context, NameAnalyser nameAnalyser, TypeTable types,
+                        IterativeVisitor<?>... followers) {
+        super(context, followers);
+        this.context = context;
+        this.nameAnalyser = nameAnalyser;
+        this.types = types;
+        expressionTypeChecker.setResolvesNames(true);
+    }
+
+    private static boolean isScope(Node node, Node child) {
+        return (node instanceof ConditionalStmt || node instanceof LoopStmt) && child instanceof Statement;
+    }
+
+    @Override
+    protected boolean beforeChild(Node node, Frame<Void> frame, int index) {
+        if (isScope(node, frame.getChild(index)))
+            context.push(new SymbolTable(context.getTop()));
+        return super.beforeChild(node, frame, index);
+    }
+
+    @Override
+    protected void afterChild(Node node, Frame<Void> frame, int index, Void result) {
+        super.afterChild(node, frame, index, result);
+        if (isScope(node, frame.getChild(index)))
+            context.pop();
+    }
+
+    @Override
+    protected void enter(FunctionDeclaration functionDec, Frame<Void> frame) {
+        startDeclaration(types, functionDec);
+        context.push(new SymbolTable());
+        super.enter(functionDec, frame);
+    }
+
+    @Override
+    protected Void exit(FunctionDeclaration functionDec, Frame<Void> frame) {
+        super.exit(functionDec, frame);
+        context.pop();
+        context.checkDepth(0);
+        return null;
+    }
+
+    @Override
+    protected void enter(MainDeclaration mainDec, Frame<Void> frame) {
+        startDeclaration(types, mainDec);
+        context.push(new SymbolTable());
+        super.enter(mainDec, frame);
+    }
+
+    @Override
+    protected Void exit(MainDeclaration mainDec, Frame<Void> frame) {
+        super.exit(mainDec, frame);
+        context.pop();
+        context.checkDepth(0);
+        return null;
+    }
+
+    @Override
+    protected void enter(VariableDeclaration variableDec, Frame<Void> frame) {
+        nameAnalyser.declareVariable(variableDec);
+        super.enter(variableDec, frame);
+    }
+}
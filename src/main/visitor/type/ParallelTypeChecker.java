@@ -0,0 +1,54 @@
+package main.visitor.type;
+
+import main.ast.nodes.Node;
+import main.ast.nodes.Program;
+import main.ast.nodes.declaration.FunctionDeclaration;
+import main.ast.nodes.declaration.struct.StructDeclaration;
+import main.symbolTable.AnalysisContext;
+import main.visitor.DiagnosticCollector;
+import main.visitor.FusedVisitor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+//Does what a TypeChecker walk of the whole program does, with the function bodies and main
+//checked as fork-join tasks, each by checkers of its own over a fork of the context.
+//The structs go first, in order, as they type their members for everyone, and may read
+//each other's while doing it. After that the bodies only write their own nodes and
+//locals, besides the type table, which is thread-safe. Each task gathers its diagnostics
+//apart; merged into the caller's collector they are reported in tree order as usual.
+public class ParallelTypeChecker {
+    private final AnalysisContext context;
+    private final ForkJoinPool pool;
+
+    public ParallelTypeChecker(AnalysisContext context, ForkJoinPool pool) {
+        this.context = context;
+        this.pool = pool;
+    }
+
+    public void check(Program program, DiagnosticCollector diagnosticCollector) {
+        TypeChecker structChecker = new TypeChecker(context, diagnosticCollector);
+        structChecker.startDeclaration(program.getTypeTable(), null);
+        FusedVisitor<Void> structWalk = new FusedVisitor<>(structChecker, diagnosticCollector);
+        for (StructDeclaration structDec : program.getStructs())
+            structDec.accept(structWalk);
+
+        List<ForkJoinTask<DiagnosticCollector>> tasks = new ArrayList<>();
+        for (FunctionDeclaration funcDec : program.getFunctions())
+            tasks.add(pool.submit(() -> checkDeclaration(program, funcDec)));
+        if (program.getMain() != null)
+            tasks.add(pool.submit(() -> checkDeclaration(program, program.getMain())));
+        for (ForkJoinTask<DiagnosticCollector> task : tasks)
+            diagnosticCollector.addAll(task.join());
+    }
+
+    private DiagnosticCollector checkDeclaration(Program program, Node declaration) {
+        DiagnosticCollector diagnostics = new DiagnosticCollector();
+        TypeChecker typeChecker = new TypeChecker(context.fork(), diagnostics);
+        typeChecker.startDeclaration(program.getTypeTable(), declaration);
+        declaration.accept(new FusedVisitor<>(typeChecker, diagnostics));
+        return diagnostics;
+    }
+}
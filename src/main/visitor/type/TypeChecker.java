@@ -1,5 +1,6 @@
 package main.visitor.type;
 
+import main.ast.nodes.Node;
 import main.ast.nodes.Program;
 import main.ast.nodes.declaration.*;
 import main.ast.nodes.declaration.struct.*;
@@ -10,65 +11,104 @@ import main.ast.types.FptrType;
 import main.ast.types.NoType;
 import main.ast.types.StructType;
 import main.ast.types.Type;
+import main.ast.types.TypeTable;
 import main.ast.types.primitives.BoolType;
 import main.ast.types.primitives.IntType;
 import main.ast.types.primitives.VoidType;
 import main.compileError.typeError.*;
-import main.symbolTable.SymbolTable;
-import main.symbolTable.exceptions.ItemAlreadyExistsException;
-import main.symbolTable.exceptions.ItemNotFoundException;
-import main.symbolTable.items.FunctionSymbolTableItem;
-import main.symbolTable.items.StructSymbolTableItem;
+import main.symbolTable.Namespace;
+import main.symbolTable.AnalysisContext;
 import main.symbolTable.items.VariableSymbolTableItem;
-import main.visitor.Visitor;
+import main.visitor.Frame;
+import main.visitor.FusedVisitor;
+import main.visitor.IVisitor;
+import main.visitor.IterativeVisitor;
 
 import java.util.Stack;
 
-public class TypeChecker extends Visitor<Void> {
+public class TypeChecker extends IterativeVisitor<Void> {
 
     private boolean inMain;
     private boolean inSetter;
     private boolean inSetterGetter;
     ExpressionTypeChecker expressionTypeChecker;
+    private final IVisitor<Type> expressionChecker;
     private final Stack<Type> retType = new Stack<>();
+    private final AnalysisContext context;
 
-    public TypeChecker() {
-        this.expressionTypeChecker = new ExpressionTypeChecker();
+    public TypeChecker(AnalysisContext context) {
+        this.context = context;
+        this.expressionTypeChecker = new ExpressionTypeChecker(context);
+        this.expressionChecker = expressionTypeChecker;
+    }
+
+    //Expressions are checked by their own walks; the followers ride those as well.
+    public TypeChecker(AnalysisContext context, IterativeVisitor<?>... followers) {
+        this.context = context;
+        this.expressionTypeChecker = new ExpressionTypeChecker(context);
+        this.expressionChecker = new FusedVisitor<>(expressionTypeChecker, followers);
+    }
+
+    //Readies the checker to walk declarations of the program one at a time, as enter(Program)
+    //and beforeChild() would on the way to the given one.
+    void startDeclaration(TypeTable types, Node declaration) {
+        expressionTypeChecker.setTypeTable(types);
+        inMain = declaration instanceof MainDeclaration;
+        if (inMain)
+            retType.push(NoType.getInstance());
     }
 
     @Override
-    public Void visit(Program program) {
+    protected void enter(Program program, Frame<Void> frame) {
         inMain = false;
-        for (StructDeclaration structDeclaration : program.getStructs())
-            structDeclaration.accept(this);
-        for (FunctionDeclaration functionDeclaration : program.getFunctions())
-            functionDeclaration.accept(this);
-        inMain = true;
-        retType.push(new NoType());
-        program.getMain().accept(this);
-        return null;
+        expressionTypeChecker.setTypeTable(program.getTypeTable());
+        frame.visitAll(program.getStructs());
+        frame.visitAll(program.getFunctions());
+        frame.visit(program.getMain());
     }
 
     @Override
-    public Void visit(FunctionDeclaration functionDec) {
-        SymbolTable.push(new SymbolTable());
+    protected boolean beforeChild(Node node, Frame<Void> frame, int index) {
+        Node child = frame.getChild(index);
+        if (node instanceof Program && child instanceof MainDeclaration) {
+            inMain = true;
+            retType.push(NoType.getInstance());
+        }
+        else if (node instanceof SetGetVarDeclaration
+                && child == ((SetGetVarDeclaration) node).getSetterBody()) {
+            inSetter = true;
+            inSetterGetter = true;
+        }
+        return true;
+    }
+
+    @Override
+    protected void afterChild(Node node, Frame<Void> frame, int index, Void result) {
+        Node child = frame.getChild(index);
+        if (node instanceof SetGetVarDeclaration
+                && child == ((SetGetVarDeclaration) node).getSetterBody())
+            inSetter = false;
+    }
+
+    @Override
+    protected void enter(FunctionDeclaration functionDec, Frame<Void> frame) {
         retType.push(functionDec.getReturnType());
         StructType type = null;
         if (retType.peek() instanceof StructType) {
-            try {
-                type = (StructType) retType.peek();
-                SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + type.getStructName().getName());
-            } catch (ItemNotFoundException exception) {
-                functionDec.addError(new StructNotDeclared(functionDec.getLine(), type.getStructName().getName()));
-            }
+            type = (StructType) retType.peek();
+            if (context.getRoot().lookup(Namespace.STRUCT, type.getStructName()) == null)
+                functionDec.addError(new StructNotDeclared(functionDec.getLine(), type.getStructName()));
         }
-        for (VariableDeclaration arg : functionDec.getArgs()) arg.accept(this);
-        functionDec.getBody().accept(this);
+        frame.visitAll(functionDec.getArgs());
+        frame.visit(functionDec.getBody());
+    }
+
+    @Override
+    protected Void exit(FunctionDeclaration functionDec, Frame<Void> frame) {
         if (!haveReturn(functionDec.getBody()))
             functionDec.addError(new MissingReturnStatement
                     (functionDec.getLine(), functionDec.getFunctionName().getName()));
         retType.pop();
-        SymbolTable.pop();
         return null;
     }
 
@@ -104,158 +144,112 @@ public class TypeChecker extends Visitor<Void> {
     }
 
     @Override
-    public Void visit(MainDeclaration mainDec) {
-        SymbolTable.push(new SymbolTable(SymbolTable.root));
-        mainDec.getBody().accept(this);
-        SymbolTable.pop();
-        return null;
+    protected void enter(MainDeclaration mainDec, Frame<Void> frame) {
+        frame.visit(mainDec.getBody());
     }
 
     @Override
-    public Void visit(VariableDeclaration variableDec) {
+    protected void enter(VariableDeclaration variableDec, Frame<Void> frame) {
         if (inSetterGetter) variableDec.addError(new CannotUseDefineVar(variableDec.getLine()));
-        VariableSymbolTableItem variableSymbolTableItem = new VariableSymbolTableItem(variableDec.getVarName());
-        variableSymbolTableItem.setType(variableDec.getVarType());
+        Type varType = variableDec.getVarType();
         if (variableDec.getVarType() instanceof StructType) {
-            try {
-                StructType structType = (StructType) variableDec.getVarType();
-                Identifier structTypeName = structType.getStructName();
-                SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + structTypeName.getName());
-            } catch (ItemNotFoundException exception) {
-                StructType structType = (StructType) variableDec.getVarType();
-                variableSymbolTableItem.setType(new NoType());
+            StructType structType = (StructType) variableDec.getVarType();
+            if (context.getRoot().lookup(Namespace.STRUCT, structType.getStructName()) == null) {
+                varType = NoType.getInstance();
                 variableDec.addError(
-                        new StructNotDeclared(variableDec.getLine(), structType.getStructName().getName()));
+                        new StructNotDeclared(variableDec.getLine(), structType.getStructName()));
             }
         }
         if (variableDec.getVarType() instanceof FptrType)
             for (Type type : ((FptrType) variableDec.getVarType()).getArgsType())
-                if (type instanceof StructType) try {
-                    StructType structType = (StructType) type;
-                    Identifier structTypeName = structType.getStructName();
-                    SymbolTable.root.getItem(StructSymbolTableItem.START_KEY + structTypeName.getName());
-                } catch (ItemNotFoundException exception) {
+                if (type instanceof StructType) {
                     StructType structType = (StructType) type;
-                    variableSymbolTableItem.setType(new NoType());
-                    variableDec.addError(new StructNotDeclared(variableDec.getLine(), structType.getStructName().getName()));
+                    if (context.getRoot().lookup(Namespace.STRUCT, structType.getStructName()) == null) {
+                        varType = NoType.getInstance();
+                        variableDec.addError(new StructNotDeclared(variableDec.getLine(), structType.getStructName()));
+                    }
                 }
-        try {
-            SymbolTable.top.put(variableSymbolTableItem);
-        } catch (ItemAlreadyExistsException ignored) {
-            try {
-                VariableSymbolTableItem symbolTableItem =
-                        (VariableSymbolTableItem) SymbolTable.top.getItem(variableSymbolTableItem.getKey());
-                symbolTableItem.setType(variableSymbolTableItem.getType());
-            } catch (ItemNotFoundException ignored1) {
-            }
-        }
-        if (variableDec.getDefaultValue() != null) variableDec.getDefaultValue().accept(expressionTypeChecker);
-        return null;
+        setDeclaredType(variableDec.getVarName(), varType);
+        if (variableDec.getDefaultValue() != null) variableDec.getDefaultValue().accept(expressionChecker);
+    }
+
+    //The name analyser bound the declared name to the variable its uses resolve to.
+    private void setDeclaredType(Identifier varName, Type type) {
+        VariableSymbolTableItem item = (VariableSymbolTableItem) varName.getBinding();
+        if (item != null)
+            item.setType(type);
     }
 
     @Override
-    public Void visit(StructDeclaration structDec) {
-        try {
-            StructSymbolTableItem symbolTableItem = (StructSymbolTableItem)
-                    SymbolTable.root.getItem(
-                            StructSymbolTableItem.START_KEY + structDec.getStructName().getName());
-            SymbolTable.push(symbolTableItem.getStructSymbolTable());
-            structDec.getBody().accept(this);
-        } catch (ItemNotFoundException ignored) {
-        }
-        return null;
+    protected void enter(StructDeclaration structDec, Frame<Void> frame) {
+        frame.visit(structDec.getBody());
     }
 
     @Override
-    public Void visit(SetGetVarDeclaration setGetVarDec) {
-        try {
-            VariableSymbolTableItem variableSymbolTableItem = new VariableSymbolTableItem(setGetVarDec.getVarName());
-            variableSymbolTableItem.setType(setGetVarDec.getVarType());
-            try {
-                SymbolTable.top.put(variableSymbolTableItem);
-            } catch (ItemAlreadyExistsException ignored) {
-                try {
-                    VariableSymbolTableItem symbolTableItem =
-                            (VariableSymbolTableItem) SymbolTable.top.getItem(variableSymbolTableItem.getKey());
-                    symbolTableItem.setType(variableSymbolTableItem.getType());
-                } catch (ItemNotFoundException ignored1) {
-                }
-            }
-            FunctionSymbolTableItem symbolTableItem = (FunctionSymbolTableItem)
-                    SymbolTable.top.getItem(
-                            FunctionSymbolTableItem.START_KEY + setGetVarDec.getVarName().getName());
-            SymbolTable.push(symbolTableItem.getFunctionSymbolTable());
-            retType.push(setGetVarDec.getVarType());
-            for (VariableDeclaration arg : setGetVarDec.getArgs()) arg.accept(this);
-            inSetter = true;
-            inSetterGetter = true;
-            setGetVarDec.getSetterBody().accept(this);
-            inSetter = false;
-            SymbolTable.pop();
-            setGetVarDec.getGetterBody().accept(this);
-            if (!haveReturn(setGetVarDec.getGetterBody()))
-                setGetVarDec.addError(new MissingReturnStatement
-                        (setGetVarDec.getGetterBody().getLine(), setGetVarDec.getVarName().getName()));
-            inSetterGetter = false;
-            retType.pop();
-        } catch (ItemNotFoundException ignored) {
-        }
+    protected void enter(SetGetVarDeclaration setGetVarDec, Frame<Void> frame) {
+        setDeclaredType(setGetVarDec.getVarName(), setGetVarDec.getVarType());
+        retType.push(setGetVarDec.getVarType());
+        frame.visitAll(setGetVarDec.getArgs());
+        frame.visit(setGetVarDec.getSetterBody());
+        frame.visit(setGetVarDec.getGetterBody());
+    }
+
+    @Override
+    protected Void exit(SetGetVarDeclaration setGetVarDec, Frame<Void> frame) {
+        if (!haveReturn(setGetVarDec.getGetterBody()))
+            setGetVarDec.addError(new MissingReturnStatement
+                    (setGetVarDec.getGetterBody().getLine(), setGetVarDec.getVarName().getName()));
+        inSetterGetter = false;
+        retType.pop();
         return null;
     }
 
     @Override
-    public Void visit(AssignmentStmt assignmentStmt) {
-        Type lValueType = assignmentStmt.getLValue().accept(expressionTypeChecker);
-        Type rValueType = assignmentStmt.getRValue().accept(expressionTypeChecker);
+    protected void enter(AssignmentStmt assignmentStmt, Frame<Void> frame) {
+        Type lValueType = assignmentStmt.getLValue().accept(expressionChecker);
+        Type rValueType = assignmentStmt.getRValue().accept(expressionChecker);
         if (!expressionTypeChecker.isLvalue(assignmentStmt.getLValue()))
             assignmentStmt.addError(new LeftSideNotLvalue(assignmentStmt.getLine()));
         if (!this.expressionTypeChecker.isSameType(lValueType, rValueType))
             assignmentStmt.addError(new UnsupportedOperandType(assignmentStmt.getLine(),
                     BinaryOperator.assign.name()));
-        return null;
     }
 
     @Override
-    public Void visit(BlockStmt blockStmt) {
-        for (Statement stmt : blockStmt.getStatements()) stmt.accept(this);
-        return null;
+    protected void enter(BlockStmt blockStmt, Frame<Void> frame) {
+        frame.visitAll(blockStmt.getStatements());
     }
 
     @Override
-    public Void visit(ConditionalStmt conditionalStmt) {
-        Type conditionType = conditionalStmt.getCondition().accept(expressionTypeChecker);
+    protected void enter(ConditionalStmt conditionalStmt, Frame<Void> frame) {
+        Type conditionType = conditionalStmt.getCondition().accept(expressionChecker);
         if (!(conditionType instanceof BoolType) && !(conditionType instanceof NoType))
             conditionalStmt.addError(new ConditionNotBool(conditionalStmt.getCondition().getLine()));
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        conditionalStmt.getThenBody().accept(this);
-        SymbolTable.pop();
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        if (conditionalStmt.getElseBody() != null)
-            conditionalStmt.getElseBody().accept(this);
-        SymbolTable.pop();
-        return null;
+        frame.visit(conditionalStmt.getThenBody());
+        frame.visit(conditionalStmt.getElseBody());
     }
 
     @Override
-    public Void visit(FunctionCallStmt functionCallStmt) {
+    protected void enter(FunctionCallStmt functionCallStmt, Frame<Void> frame) {
         expressionTypeChecker.setIsInFunctionCallStmt(true);
-        functionCallStmt.getFunctionCall().accept(expressionTypeChecker);
+        functionCallStmt.getFunctionCall().accept(expressionChecker);
         expressionTypeChecker.setIsInFunctionCallStmt(false);
-        return null;
     }
 
     @Override
-    public Void visit(DisplayStmt displayStmt) {
-        Type argType = displayStmt.getArg().accept(expressionTypeChecker);
+    protected void enter(DisplayStmt displayStmt, Frame<Void> frame) {
+        Type argType = displayStmt.getArg().accept(expressionChecker);
         if (!(argType instanceof BoolType) && !(argType instanceof IntType) && !(argType instanceof NoType)) // ListType
             displayStmt.addError(new UnsupportedTypeForDisplay(displayStmt.getArg().getLine()));
-        return null;
     }
 
     @Override
-    public Void visit(ReturnStmt returnStmt) {
+    protected void enter(ReturnStmt returnStmt, Frame<Void> frame) {
         if (returnStmt.getReturnedExpr() != null) {
-            Type ret = returnStmt.getReturnedExpr().accept(expressionTypeChecker);
+            Type ret = returnStmt.getReturnedExpr().accept(expressionChecker);
+            //A member read before its declaration has been checked has no type yet
+            if (ret == null)
+                ret = NoType.getInstance();
             boolean result = ret.getClass().equals(retType.peek().getClass());
             if (ret instanceof FptrType) result = expressionTypeChecker.isSameType(((FptrType) ret), retType.peek());
             if (!result && !inSetter && !(ret instanceof NoType) && !inMain)
@@ -265,40 +259,33 @@ public class TypeChecker extends Visitor<Void> {
             if ((ret instanceof VoidType) && !(ret instanceof NoType))
                 returnStmt.addError(new CantUseValueOfVoidFunction(returnStmt.getLine()));
         }
-        return null;
     }
 
     @Override
-    public Void visit(LoopStmt loopStmt) {
-        Type conditionType = loopStmt.getCondition().accept(expressionTypeChecker);
+    protected void enter(LoopStmt loopStmt, Frame<Void> frame) {
+        Type conditionType = loopStmt.getCondition().accept(expressionChecker);
         if (!(conditionType instanceof BoolType) && !(conditionType instanceof NoType))
             loopStmt.addError(new ConditionNotBool(loopStmt.getCondition().getLine()));
-        SymbolTable.push(new SymbolTable(SymbolTable.top));
-        loopStmt.getBody().accept(this);
-        SymbolTable.pop();
-        return null;
+        frame.visit(loopStmt.getBody());
     }
 
     @Override
-    public Void visit(VarDecStmt varDecStmt) {
+    protected void enter(VarDecStmt varDecStmt, Frame<Void> frame) {
         int i = 0;
         for (VariableDeclaration varDec : varDecStmt.getVars()) {
-            if (inSetterGetter && (i == 1)) return null;
-            varDec.accept(this);
+            if (inSetterGetter && (i == 1)) return;
+            frame.visit(varDec);
             i++;
         }
-        return null;
     }
 
     @Override
-    public Void visit(ListAppendStmt listAppendStmt) {
-        listAppendStmt.getListAppendExpr().accept(expressionTypeChecker);
-        return null;
+    protected void enter(ListAppendStmt listAppendStmt, Frame<Void> frame) {
+        listAppendStmt.getListAppendExpr().accept(expressionChecker);
     }
 
     @Override
-    public Void visit(ListSizeStmt listSizeStmt) {
-        listSizeStmt.getListSizeExpr().accept(expressionTypeChecker);
-        return null;
+    protected void enter(ListSizeStmt listSizeStmt, Frame<Void> frame) {
+        listSizeStmt.getListSizeExpr().accept(expressionChecker);
     }
 }
@@ -1,4 +1,4 @@
-// Generated from D:/University/TA_Lessons/Compiler-1400-Fall/PLC-Fall2021-C--/src/main/grammar\Cmm.g4 by ANTLR 4.9.2
+// Generated from Cmm.g4 by ANTLR 4.9.2
 package parsers;
 
      import main.ast.nodes.*;
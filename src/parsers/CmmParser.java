@@ -1,4 +1,4 @@
-// Generated from D:/University/TA_Lessons/Compiler-1400-Fall/PLC-Fall2021-C--/src/main/grammar\Cmm.g4 by ANTLR 4.9.2
+// Generated from Cmm.g4 by ANTLR 4.9.2
 package parsers;
 
      import main.ast.nodes.*;
@@ -133,6 +133,19 @@ public class CmmParser extends Parser {
 	@Override
 	public ATN getATN() { return _ATN; }
 
+
+	    private final TypeTable types = new TypeTable();
+
+	    private void setSpan(Node node, Token start) {
+	        Token stop = _input.LT(-1);
+	        node.setSpan(start.getStartIndex(), stop.getStopIndex(), start.getCharPositionInLine());
+	    }
+
+	    private void setSpan(Node node, Node first) {
+	        Token stop = _input.LT(-1);
+	        node.setSpan(first.getStartOffset(), stop.getStopIndex(), first.getColumn());
+	    }
+
 	public CmmParser(TokenStream input) {
 		super(input);
 		_interp = new ParserATNSimulator(this,_ATN,_decisionToDFA,_sharedContextCache);
@@ -270,6 +283,7 @@ public class CmmParser extends Parser {
 			{
 			((ProgramContext)_localctx).programRet =  new Program();
 			     _localctx.programRet.setLine(1);
+			     _localctx.programRet.setTypeTable(types);
 			setState(108);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
@@ -305,6 +319,7 @@ public class CmmParser extends Parser {
 			setState(119);
 			((ProgramContext)_localctx).m = main();
 			_localctx.programRet.setMain(((ProgramContext)_localctx).m.mainRet);
+			    setSpan(_localctx.programRet, _localctx.start);
 			}
 		}
 		catch (RecognitionException re) {
@@ -364,6 +379,7 @@ public class CmmParser extends Parser {
 			((MainContext)_localctx).b = body();
 			_localctx.mainRet.setLine(((MainContext)_localctx).m.getLine());
 			     _localctx.mainRet.setBody(((MainContext)_localctx).b.bodyRet);
+			     setSpan(_localctx.mainRet, ((MainContext)_localctx).m);
 			}
 		}
 		catch (RecognitionException re) {
@@ -436,7 +452,7 @@ public class CmmParser extends Parser {
 			    _localctx.structDeclarationRet.setLine(((StructDeclarationContext)_localctx).s.getLine());
 			    _localctx.structDeclarationRet.setStructName(((StructDeclarationContext)_localctx).id.identifierRet);
 			    
-			setState(153);
+			setState(154);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
@@ -466,37 +482,38 @@ public class CmmParser extends Parser {
 				} while ( _la==NEWLINE );
 				setState(141);
 				match(END);
+				setSpan(((StructDeclarationContext)_localctx).sb.structBodyRet, ((StructDeclarationContext)_localctx).b);
 				}
 				}
 				break;
 			case NEWLINE:
 				{
 				{
-				setState(144); 
+				setState(145); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(143);
+					setState(144);
 					match(NEWLINE);
 					}
 					}
-					setState(146); 
+					setState(147); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(148);
+				setState(149);
 				((StructDeclarationContext)_localctx).sss = singleStatementStructBody();
 
 				    _localctx.structDeclarationRet.setBody(((StructDeclarationContext)_localctx).sss.stmt);
 				    
-				setState(151);
+				setState(152);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==SEMICOLON) {
 					{
-					setState(150);
+					setState(151);
 					match(SEMICOLON);
 					}
 				}
@@ -507,17 +524,18 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(156); 
+			setSpan(_localctx.structDeclarationRet, ((StructDeclarationContext)_localctx).s);
+			setState(158); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(155);
+				setState(157);
 				match(NEWLINE);
 				}
 				}
-				setState(158); 
+				setState(160); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -589,49 +607,50 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((SingleVarWithGetAndSetContext)_localctx).singleVarWithGetAndSetRet =  new SetGetVarDeclaration();
-			setState(161);
+			setState(163);
 			((SingleVarWithGetAndSetContext)_localctx).t = type();
-			setState(162);
+			setState(164);
 			((SingleVarWithGetAndSetContext)_localctx).id = identifier();
 
 			    _localctx.singleVarWithGetAndSetRet.setLine(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet.getLine());
 			    _localctx.singleVarWithGetAndSetRet.setVarName(((SingleVarWithGetAndSetContext)_localctx).id.identifierRet);
 			    _localctx.singleVarWithGetAndSetRet.setVarType(((SingleVarWithGetAndSetContext)_localctx).t.typeRet);
 			    
-			setState(164);
+			setState(166);
 			((SingleVarWithGetAndSetContext)_localctx).fa = functionArgsDec();
 
 			    ArrayList<VariableDeclaration> args = ((SingleVarWithGetAndSetContext)_localctx).fa.functionArgsDecRet;
 			    _localctx.singleVarWithGetAndSetRet.setArgs(args);
 			    
-			setState(166);
+			setState(168);
 			match(BEGIN);
-			setState(168); 
+			setState(170); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(167);
+				setState(169);
 				match(NEWLINE);
 				}
 				}
-				setState(170); 
+				setState(172); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
-			setState(172);
+			setState(174);
 			((SingleVarWithGetAndSetContext)_localctx).sb = setBody();
 
 			    _localctx.singleVarWithGetAndSetRet.setSetterBody(((SingleVarWithGetAndSetContext)_localctx).sb.setBodyRet);
 			    
-			setState(174);
+			setState(176);
 			((SingleVarWithGetAndSetContext)_localctx).gb = getBody();
 
 			    _localctx.singleVarWithGetAndSetRet.setGetterBody(((SingleVarWithGetAndSetContext)_localctx).gb.getBodyRet);
 			    
-			setState(176);
+			setState(178);
 			match(END);
+			setSpan(_localctx.singleVarWithGetAndSetRet, (((SingleVarWithGetAndSetContext)_localctx).t!=null?(((SingleVarWithGetAndSetContext)_localctx).t.start):null));
 			}
 		}
 		catch (RecognitionException re) {
@@ -678,13 +697,13 @@ public class CmmParser extends Parser {
 		SingleStatementStructBodyContext _localctx = new SingleStatementStructBodyContext(_ctx, getState());
 		enterRule(_localctx, 10, RULE_singleStatementStructBody);
 		try {
-			setState(184);
+			setState(187);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,10,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(178);
+				setState(181);
 				((SingleStatementStructBodyContext)_localctx).v = varDecStatement();
 				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).v.varDecStatementRet;
 				}
@@ -692,7 +711,7 @@ public class CmmParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(181);
+				setState(184);
 				((SingleStatementStructBodyContext)_localctx).s = singleVarWithGetAndSet();
 				((SingleStatementStructBodyContext)_localctx).stmt =  ((SingleStatementStructBodyContext)_localctx).s.singleVarWithGetAndSetRet;
 				}
@@ -758,7 +777,7 @@ public class CmmParser extends Parser {
 
 			     ((StructBodyContext)_localctx).structBodyRet =  new BlockStmt();
 			    
-			setState(206); 
+			setState(209); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -766,52 +785,52 @@ public class CmmParser extends Parser {
 				case 1:
 					{
 					{
-					setState(188); 
+					setState(191); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(187);
+						setState(190);
 						match(NEWLINE);
 						}
 						}
-						setState(190); 
+						setState(193); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
-					setState(198);
+					setState(201);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(192);
+							setState(195);
 							((StructBodyContext)_localctx).s1 = singleStatementStructBody();
 
 							    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s1.stmt);
 							    
-							setState(194);
+							setState(197);
 							match(SEMICOLON);
 							}
 							} 
 						}
-						setState(200);
+						setState(203);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,12,_ctx);
 					}
-					setState(201);
+					setState(204);
 					((StructBodyContext)_localctx).s2 = singleStatementStructBody();
 
 					    _localctx.structBodyRet.addStatement(((StructBodyContext)_localctx).s2.stmt);
 					    
-					setState(204);
+					setState(207);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==SEMICOLON) {
 						{
-						setState(203);
+						setState(206);
 						match(SEMICOLON);
 						}
 					}
@@ -822,7 +841,7 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(208); 
+				setState(211); 
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,14,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
@@ -876,22 +895,22 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(210);
+			setState(213);
 			match(GET);
-			setState(211);
+			setState(214);
 			((GetBodyContext)_localctx).b = body();
 			((GetBodyContext)_localctx).getBodyRet =  ((GetBodyContext)_localctx).b.bodyRet;
-			setState(214); 
+			setState(217); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(213);
+				setState(216);
 				match(NEWLINE);
 				}
 				}
-				setState(216); 
+				setState(219); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -945,22 +964,22 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(218);
+			setState(221);
 			match(SET);
-			setState(219);
+			setState(222);
 			((SetBodyContext)_localctx).b = body();
 			((SetBodyContext)_localctx).setBodyRet =  ((SetBodyContext)_localctx).b.bodyRet;
-			setState(222); 
+			setState(225); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(221);
+				setState(224);
 				match(NEWLINE);
 				}
 				}
-				setState(224); 
+				setState(227); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -1027,7 +1046,7 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionDeclarationContext)_localctx).functionDeclarationRet =  new FunctionDeclaration();
-			setState(232);
+			setState(235);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -1036,7 +1055,7 @@ public class CmmParser extends Parser {
 			case STRUCT:
 			case FPTR:
 				{
-				setState(227);
+				setState(230);
 				((FunctionDeclarationContext)_localctx).t = type();
 
 				    _localctx.functionDeclarationRet.setReturnType(((FunctionDeclarationContext)_localctx).t.typeRet);
@@ -1045,39 +1064,40 @@ public class CmmParser extends Parser {
 				break;
 			case VOID:
 				{
-				setState(230);
+				setState(233);
 				match(VOID);
 
-				    _localctx.functionDeclarationRet.setReturnType(new VoidType());
+				    _localctx.functionDeclarationRet.setReturnType(VoidType.getInstance());
 				    
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(234);
+			setState(237);
 			((FunctionDeclarationContext)_localctx).id = identifier();
-			setState(235);
+			setState(238);
 			((FunctionDeclarationContext)_localctx).f = functionArgsDec();
-			setState(236);
+			setState(239);
 			((FunctionDeclarationContext)_localctx).b = body();
 
 			    _localctx.functionDeclarationRet.setLine(((FunctionDeclarationContext)_localctx).id.identifierRet.getLine());
 			    _localctx.functionDeclarationRet.setFunctionName(((FunctionDeclarationContext)_localctx).id.identifierRet);
 			    _localctx.functionDeclarationRet.setArgs(((FunctionDeclarationContext)_localctx).f.functionArgsDecRet);
 			    _localctx.functionDeclarationRet.setBody(((FunctionDeclarationContext)_localctx).b.bodyRet);
+			    setSpan(_localctx.functionDeclarationRet, _localctx.start);
 			    
-			setState(239); 
+			setState(242); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(238);
+				setState(241);
 				match(NEWLINE);
 				}
 				}
-				setState(241); 
+				setState(244); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
@@ -1145,48 +1165,50 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionArgsDecContext)_localctx).functionArgsDecRet =  new ArrayList<>();
-			setState(244);
+			setState(247);
 			match(LPAR);
-			setState(258);
+			setState(261);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << INT) | (1L << BOOL) | (1L << LIST) | (1L << STRUCT) | (1L << FPTR))) != 0)) {
 				{
-				setState(245);
+				setState(248);
 				((FunctionArgsDecContext)_localctx).t1 = type();
-				setState(246);
+				setState(249);
 				((FunctionArgsDecContext)_localctx).id1 = identifier();
 
 				    VariableDeclaration newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id1.identifierRet, ((FunctionArgsDecContext)_localctx).t1.typeRet);
 				    newVarDec.setLine(((FunctionArgsDecContext)_localctx).id1.identifierRet.getLine());
+				    setSpan(newVarDec, (((FunctionArgsDecContext)_localctx).t1!=null?(((FunctionArgsDecContext)_localctx).t1.start):null));
 				    _localctx.functionArgsDecRet.add(newVarDec);
 				    
-				setState(255);
+				setState(258);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(248);
+					setState(251);
 					match(COMMA);
-					setState(249);
+					setState(252);
 					((FunctionArgsDecContext)_localctx).t2 = type();
-					setState(250);
+					setState(253);
 					((FunctionArgsDecContext)_localctx).id2 = identifier();
 
 					    newVarDec = new VariableDeclaration(((FunctionArgsDecContext)_localctx).id2.identifierRet, ((FunctionArgsDecContext)_localctx).t2.typeRet);
 					    newVarDec.setLine(((FunctionArgsDecContext)_localctx).id2.identifierRet.getLine());
+					    setSpan(newVarDec, (((FunctionArgsDecContext)_localctx).t2!=null?(((FunctionArgsDecContext)_localctx).t2.start):null));
 					    _localctx.functionArgsDecRet.add(newVarDec); 
 					}
 					}
-					setState(257);
+					setState(260);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
 				}
 			}
 
-			setState(260);
+			setState(263);
 			match(RPAR);
 			}
 		}
@@ -1242,28 +1264,28 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((FunctionArgumentsContext)_localctx).funcArgRet =  new ArrayList<>();
-			setState(274);
+			setState(277);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
 				{
-				setState(263);
+				setState(266);
 				((FunctionArgumentsContext)_localctx).exp1 = expression();
 				_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp1.exprRet);
-				setState(271);
+				setState(274);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(265);
+					setState(268);
 					match(COMMA);
-					setState(266);
+					setState(269);
 					((FunctionArgumentsContext)_localctx).exp2 = expression();
 					_localctx.funcArgRet.add(((FunctionArgumentsContext)_localctx).exp2.exprRet);
 					}
 					}
-					setState(273);
+					setState(276);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -1324,12 +1346,12 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(289);
+			setState(292);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				{
-				setState(276);
+				setState(279);
 				((BodyContext)_localctx).b = blockStatement();
 				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).b.blockStatementRet;
 				}
@@ -1337,29 +1359,29 @@ public class CmmParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(280); 
+				setState(283); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(279);
+					setState(282);
 					match(NEWLINE);
 					}
 					}
-					setState(282); 
+					setState(285); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(284);
+				setState(287);
 				((BodyContext)_localctx).s = singleStatement();
 				((BodyContext)_localctx).bodyRet =  ((BodyContext)_localctx).s.singleStatementRet;
-				setState(287);
+				setState(290);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==SEMICOLON) {
 					{
-					setState(286);
+					setState(289);
 					match(SEMICOLON);
 					}
 				}
@@ -1423,12 +1445,12 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(302);
+			setState(305);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case BEGIN:
 				{
-				setState(291);
+				setState(294);
 				((LoopCondBodyContext)_localctx).b = blockStatement();
 				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).b.blockStatementRet;
 				}
@@ -1436,21 +1458,21 @@ public class CmmParser extends Parser {
 			case NEWLINE:
 				{
 				{
-				setState(295); 
+				setState(298); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				do {
 					{
 					{
-					setState(294);
+					setState(297);
 					match(NEWLINE);
 					}
 					}
-					setState(297); 
+					setState(300); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				} while ( _la==NEWLINE );
-				setState(299);
+				setState(302);
 				((LoopCondBodyContext)_localctx).s = singleStatement();
 				((LoopCondBodyContext)_localctx).stmtRet =  ((LoopCondBodyContext)_localctx).s.singleStatementRet;
 				}
@@ -1521,12 +1543,12 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((BlockStatementContext)_localctx).blockStatementRet =  new BlockStmt();
-			setState(305);
+			setState(308);
 			((BlockStatementContext)_localctx).b = match(BEGIN);
 
 			    _localctx.blockStatementRet.setLine(((BlockStatementContext)_localctx).b.getLine());
 			    
-			setState(326); 
+			setState(329); 
 			_errHandler.sync(this);
 			_alt = 1;
 			do {
@@ -1534,52 +1556,52 @@ public class CmmParser extends Parser {
 				case 1:
 					{
 					{
-					setState(308); 
+					setState(311); 
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					do {
 						{
 						{
-						setState(307);
+						setState(310);
 						match(NEWLINE);
 						}
 						}
-						setState(310); 
+						setState(313); 
 						_errHandler.sync(this);
 						_la = _input.LA(1);
 					} while ( _la==NEWLINE );
-					setState(318);
+					setState(321);
 					_errHandler.sync(this);
 					_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 						if ( _alt==1 ) {
 							{
 							{
-							setState(312);
+							setState(315);
 							((BlockStatementContext)_localctx).s1 = singleStatement();
 
 							    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s1.singleStatementRet);
 							    
-							setState(314);
+							setState(317);
 							match(SEMICOLON);
 							}
 							} 
 						}
-						setState(320);
+						setState(323);
 						_errHandler.sync(this);
 						_alt = getInterpreter().adaptivePredict(_input,29,_ctx);
 					}
-					setState(321);
+					setState(324);
 					((BlockStatementContext)_localctx).s2 = singleStatement();
 
 					    _localctx.blockStatementRet.addStatement(((BlockStatementContext)_localctx).s2.singleStatementRet);
 					    
-					setState(324);
+					setState(327);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 					if (_la==SEMICOLON) {
 						{
-						setState(323);
+						setState(326);
 						match(SEMICOLON);
 						}
 					}
@@ -1590,26 +1612,27 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(328); 
+				setState(331); 
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
 			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
-			setState(331); 
+			setState(334); 
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			do {
 				{
 				{
-				setState(330);
+				setState(333);
 				match(NEWLINE);
 				}
 				}
-				setState(333); 
+				setState(336); 
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			} while ( _la==NEWLINE );
-			setState(335);
+			setState(338);
 			match(END);
+			setSpan(_localctx.blockStatementRet, ((BlockStatementContext)_localctx).b);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1680,63 +1703,66 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((VarDecStatementContext)_localctx).varDecStatementRet =  new VarDecStmt();
-			setState(338);
+			setState(342);
 			((VarDecStatementContext)_localctx).t = type();
-			setState(339);
+			setState(343);
 			((VarDecStatementContext)_localctx).id1 = identifier();
 
 			    VariableDeclaration newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id1.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
 			    newVarDec.setLine(((VarDecStatementContext)_localctx).id1.identifierRet.getLine());
 			    _localctx.varDecStatementRet.setLine(newVarDec.getLine());
 			    
-			setState(345);
+			setState(349);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if (_la==ASSIGN) {
 				{
-				setState(341);
+				setState(345);
 				match(ASSIGN);
-				setState(342);
+				setState(346);
 				((VarDecStatementContext)_localctx).exp1 = orExpression();
 				newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp1.orExprRet);
 				}
 			}
 
-			_localctx.varDecStatementRet.addVar(newVarDec);
-			setState(361);
+			setSpan(newVarDec, (((VarDecStatementContext)_localctx).t!=null?(((VarDecStatementContext)_localctx).t.start):null));
+			     _localctx.varDecStatementRet.addVar(newVarDec);
+			setState(365);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==COMMA) {
 				{
 				{
-				setState(348);
+				setState(352);
 				match(COMMA);
-				setState(349);
+				setState(353);
 				((VarDecStatementContext)_localctx).id2 = identifier();
 
 				    newVarDec = new VariableDeclaration(((VarDecStatementContext)_localctx).id2.identifierRet, ((VarDecStatementContext)_localctx).t.typeRet);
 				    newVarDec.setLine(((VarDecStatementContext)_localctx).id2.identifierRet.getLine());
 				    
-				setState(355);
+				setState(359);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				if (_la==ASSIGN) {
 					{
-					setState(351);
+					setState(355);
 					match(ASSIGN);
-					setState(352);
+					setState(356);
 					((VarDecStatementContext)_localctx).exp2 = orExpression();
 					newVarDec.setDefaultValue(((VarDecStatementContext)_localctx).exp2.orExprRet);
 					}
 				}
 
-				_localctx.varDecStatementRet.addVar(newVarDec);
+				setSpan(newVarDec, (((VarDecStatementContext)_localctx).id2!=null?(((VarDecStatementContext)_localctx).id2.start):null));
+				     _localctx.varDecStatementRet.addVar(newVarDec);
 				}
 				}
-				setState(363);
+				setState(367);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
+			setSpan(_localctx.varDecStatementRet, _localctx.start);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1813,41 +1839,43 @@ public class CmmParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(364);
+			setState(370);
 			((FunctionCallStmtContext)_localctx).oth = otherExpression();
 			((FunctionCallStmtContext)_localctx).expr =  ((FunctionCallStmtContext)_localctx).oth.expr;
-			setState(377);
+			setState(383);
 			_errHandler.sync(this);
 			_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(375);
+					setState(381);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case LPAR:
 						{
 						{
-						setState(366);
+						setState(372);
 						((FunctionCallStmtContext)_localctx).l = match(LPAR);
-						setState(367);
+						setState(373);
 						((FunctionCallStmtContext)_localctx).f = functionArguments();
-						setState(368);
+						setState(374);
 						match(RPAR);
 						((FunctionCallStmtContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).f.funcArgRet);
 						      _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).l.getLine());
+						      setSpan(_localctx.expr, _localctx.start);
 						}
 						}
 						break;
 					case DOT:
 						{
 						{
-						setState(371);
+						setState(377);
 						match(DOT);
-						setState(372);
+						setState(378);
 						((FunctionCallStmtContext)_localctx).i = identifier();
 						((FunctionCallStmtContext)_localctx).expr =  new StructAccess(_localctx.expr, ((FunctionCallStmtContext)_localctx).i.identifierRet);
 						       _localctx.expr.setLine(((FunctionCallStmtContext)_localctx).i.line);
+						       setSpan(_localctx.expr, _localctx.start);
 						}
 						}
 						break;
@@ -1856,22 +1884,24 @@ public class CmmParser extends Parser {
 					}
 					} 
 				}
-				setState(379);
+				setState(385);
 				_errHandler.sync(this);
 				_alt = getInterpreter().adaptivePredict(_input,37,_ctx);
 			}
 			{
-			setState(380);
+			setState(386);
 			((FunctionCallStmtContext)_localctx).ll = match(LPAR);
-			setState(381);
+			setState(387);
 			((FunctionCallStmtContext)_localctx).ff = functionArguments();
-			setState(382);
+			setState(388);
 			match(RPAR);
 			((FunctionCallStmtContext)_localctx).fcall =  new FunctionCall(_localctx.expr, ((FunctionCallStmtContext)_localctx).ff.funcArgRet);
 			      _localctx.fcall.setLine(((FunctionCallStmtContext)_localctx).ll.getLine());
+			      setSpan(_localctx.fcall, _localctx.start);
 			}
 			((FunctionCallStmtContext)_localctx).functionCallStmtRet =  new FunctionCallStmt(_localctx.fcall);
 			      _localctx.functionCallStmtRet.setLine(_localctx.fcall.getLine());
+			      _localctx.functionCallStmtRet.setSpan(_localctx.fcall.getSpan());
 			}
 		}
 		catch (RecognitionException re) {
@@ -1920,20 +1950,21 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((ReturnStatementContext)_localctx).returnStatementRet =  new ReturnStmt();
-			setState(388);
+			setState(394);
 			((ReturnStatementContext)_localctx).r = match(RETURN);
 			_localctx.returnStatementRet.setLine(((ReturnStatementContext)_localctx).r.getLine());
-			setState(393);
+			setState(399);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << SIZE) | (1L << APPEND) | (1L << MINUS) | (1L << NOT) | (1L << TRUE) | (1L << FALSE) | (1L << LPAR) | (1L << INT_VALUE) | (1L << IDENTIFIER))) != 0)) {
 				{
-				setState(390);
+				setState(396);
 				((ReturnStatementContext)_localctx).exp = expression();
 				_localctx.returnStatementRet.setReturnedExpr(((ReturnStatementContext)_localctx).exp.exprRet);
 				}
 			}
 
+			setSpan(_localctx.returnStatementRet, ((ReturnStatementContext)_localctx).r);
 			}
 		}
 		catch (RecognitionException re) {
@@ -1992,33 +2023,34 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(395);
+			setState(403);
 			((IfStatementContext)_localctx).cond = match(IF);
-			setState(396);
+			setState(404);
 			((IfStatementContext)_localctx).exp = expression();
 			((IfStatementContext)_localctx).ifStatementRet =  new ConditionalStmt(((IfStatementContext)_localctx).exp.exprRet);
 			     _localctx.ifStatementRet.setLine(((IfStatementContext)_localctx).cond.getLine());
-			setState(406);
+			setState(414);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,39,_ctx) ) {
 			case 1:
 				{
-				setState(398);
+				setState(406);
 				((IfStatementContext)_localctx).body1 = loopCondBody();
 				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).body1.stmtRet);
 				}
 				break;
 			case 2:
 				{
-				setState(401);
+				setState(409);
 				((IfStatementContext)_localctx).body2 = body();
 				_localctx.ifStatementRet.setThenBody(((IfStatementContext)_localctx).body2.bodyRet);
-				setState(403);
+				setState(411);
 				((IfStatementContext)_localctx).elsest = elseStatement();
 				_localctx.ifStatementRet.setElseBody(((IfStatementContext)_localctx).elsest.stmt);
 				}
 				break;
 			}
+			setSpan(_localctx.ifStatementRet, ((IfStatementContext)_localctx).cond);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2069,23 +2101,23 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(411);
+			setState(421);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(408);
+				setState(418);
 				match(NEWLINE);
 				}
 				}
-				setState(413);
+				setState(423);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(414);
+			setState(424);
 			match(ELSE);
-			setState(415);
+			setState(425);
 			((ElseStatementContext)_localctx).bd = loopCondBody();
 			((ElseStatementContext)_localctx).stmt =  ((ElseStatementContext)_localctx).bd.stmtRet;
 			}
@@ -2134,13 +2166,13 @@ public class CmmParser extends Parser {
 		LoopStatementContext _localctx = new LoopStatementContext(_ctx, getState());
 		enterRule(_localctx, 40, RULE_loopStatement);
 		try {
-			setState(424);
+			setState(434);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case WHILE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(418);
+				setState(428);
 				((LoopStatementContext)_localctx).st1 = whileLoopStatement();
 				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st1.stmt;
 				}
@@ -2148,7 +2180,7 @@ public class CmmParser extends Parser {
 			case DO:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(421);
+				setState(431);
 				((LoopStatementContext)_localctx).st2 = doWhileLoopStatement();
 				((LoopStatementContext)_localctx).loopStatementRet =  ((LoopStatementContext)_localctx).st2.stmt;
 				}
@@ -2206,15 +2238,16 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((WhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
-			setState(427);
+			setState(437);
 			((WhileLoopStatementContext)_localctx).w = match(WHILE);
-			setState(428);
+			setState(438);
 			((WhileLoopStatementContext)_localctx).exp = expression();
 			_localctx.stmt.setCondition(((WhileLoopStatementContext)_localctx).exp.exprRet);
 			     _localctx.stmt.setLine(((WhileLoopStatementContext)_localctx).w.getLine());
-			setState(430);
+			setState(440);
 			((WhileLoopStatementContext)_localctx).bd = loopCondBody();
 			_localctx.stmt.setBody(((WhileLoopStatementContext)_localctx).bd.stmtRet);
+			     setSpan(_localctx.stmt, ((WhileLoopStatementContext)_localctx).w);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2272,31 +2305,32 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			((DoWhileLoopStatementContext)_localctx).stmt =  new LoopStmt();
-			setState(434);
+			setState(444);
 			((DoWhileLoopStatementContext)_localctx).d = match(DO);
-			setState(435);
+			setState(445);
 			((DoWhileLoopStatementContext)_localctx).bd = body();
 			_localctx.stmt.setBody(((DoWhileLoopStatementContext)_localctx).bd.bodyRet);
 			     _localctx.stmt.setLine(((DoWhileLoopStatementContext)_localctx).d.getLine());
-			setState(440);
+			setState(450);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==NEWLINE) {
 				{
 				{
-				setState(437);
+				setState(447);
 				match(NEWLINE);
 				}
 				}
-				setState(442);
+				setState(452);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
-			setState(443);
+			setState(453);
 			match(WHILE);
-			setState(444);
+			setState(454);
 			((DoWhileLoopStatementContext)_localctx).exp = expression();
 			_localctx.stmt.setCondition(((DoWhileLoopStatementContext)_localctx).exp.exprRet);
+			     setSpan(_localctx.stmt, ((DoWhileLoopStatementContext)_localctx).d);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2345,16 +2379,17 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(447);
+			setState(457);
 			((DisplayStatementContext)_localctx).dis = match(DISPLAY);
-			setState(448);
+			setState(458);
 			match(LPAR);
-			setState(449);
+			setState(459);
 			((DisplayStatementContext)_localctx).exp = expression();
 			((DisplayStatementContext)_localctx).displayStatementRet =  new DisplayStmt(((DisplayStatementContext)_localctx).exp.exprRet);
 			   _localctx.displayStatementRet.setLine(((DisplayStatementContext)_localctx).dis.getLine());
-			setState(451);
+			setState(461);
 			match(RPAR);
+			setSpan(_localctx.displayStatementRet, ((DisplayStatementContext)_localctx).dis);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2405,14 +2440,15 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(453);
+			setState(464);
 			((AssignmentStatementContext)_localctx).left = orExpression();
-			setState(454);
+			setState(465);
 			((AssignmentStatementContext)_localctx).a = match(ASSIGN);
-			setState(455);
+			setState(466);
 			((AssignmentStatementContext)_localctx).right = expression();
 			((AssignmentStatementContext)_localctx).assignmentStatementRet =  new AssignmentStmt(((AssignmentStatementContext)_localctx).left.orExprRet, ((AssignmentStatementContext)_localctx).right.exprRet);
 			     _localctx.assignmentStatementRet.setLine(((AssignmentStatementContext)_localctx).a.getLine());
+			     setSpan(_localctx.assignmentStatementRet, _localctx.start);
 			}
 		}
 		catch (RecognitionException re) {
@@ -2487,13 +2523,13 @@ public class CmmParser extends Parser {
 		SingleStatementContext _localctx = new SingleStatementContext(_ctx, getState());
 		enterRule(_localctx, 50, RULE_singleStatement);
 		try {
-			setState(485);
+			setState(496);
 			_errHandler.sync(this);
 			switch ( getInterpreter().adaptivePredict(_input,43,_ctx) ) {
 			case 1:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(458);
+				setState(469);
 				((SingleStatementContext)_localctx).i = ifStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).i.ifStatementRet;
 				}
@@ -2501,7 +2537,7 @@ public class CmmParser extends Parser {
 			case 2:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(461);
+				setState(472);
 				((SingleStatementContext)_localctx).d = displayStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).d.displayStatementRet;
 				}
@@ -2509,7 +2545,7 @@ public class CmmParser extends Parser {
 			case 3:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(464);
+				setState(475);
 				((SingleStatementContext)_localctx).f = functionCallStmt();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).f.functionCallStmtRet;
 				}
@@ -2517,7 +2553,7 @@ public class CmmParser extends Parser {
 			case 4:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(467);
+				setState(478);
 				((SingleStatementContext)_localctx).r = returnStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).r.returnStatementRet;
 				}
@@ -2525,7 +2561,7 @@ public class CmmParser extends Parser {
 			case 5:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(470);
+				setState(481);
 				((SingleStatementContext)_localctx).a = assignmentStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).a.assignmentStatementRet;
 				}
@@ -2533,7 +2569,7 @@ public class CmmParser extends Parser {
 			case 6:
 				enterOuterAlt(_localctx, 6);
 				{
-				setState(473);
+				setState(484);
 				((SingleStatementContext)_localctx).v = varDecStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).v.varDecStatementRet;
 				}
@@ -2541,7 +2577,7 @@ public class CmmParser extends Parser {
 			case 7:
 				enterOuterAlt(_localctx, 7);
 				{
-				setState(476);
+				setState(487);
 				((SingleStatementContext)_localctx).l = loopStatement();
 				((SingleStatementContext)_localctx).singleStatementRet =  ((SingleStatementContext)_localctx).l.loopStatementRet;
 				}
@@ -2549,20 +2585,22 @@ public class CmmParser extends Parser {
 			case 8:
 				enterOuterAlt(_localctx, 8);
 				{
-				setState(479);
+				setState(490);
 				((SingleStatementContext)_localctx).ap = append();
 				ListAppendStmt listAppend = new ListAppendStmt(((SingleStatementContext)_localctx).ap.appendRet);
 				     listAppend.setLine(((SingleStatementContext)_localctx).ap.line);
+				     listAppend.setSpan(((SingleStatementContext)_localctx).ap.appendRet.getSpan());
 				     ((SingleStatementContext)_localctx).singleStatementRet =  listAppend;
 				}
 				break;
 			case 9:
 				enterOuterAlt(_localctx, 9);
 				{
-				setState(482);
+				setState(493);
 				((SingleStatementContext)_localctx).s = size();
 				ListSizeStmt listSize = new ListSizeStmt(((SingleStatementContext)_localctx).s.sizeRet);
 				     listSize.setLine(((SingleStatementContext)_localctx).s.line);
+				     listSize.setSpan(((SingleStatementContext)_localctx).s.sizeRet.getSpan());
 				     ((SingleStatementContext)_localctx).singleStatementRet =  listSize;
 				}
 				break;
@@ -2581,15 +2619,20 @@ public class CmmParser extends Parser {
 
 	public static class ExpressionContext extends ParserRuleContext {
 		public Expression exprRet;
+		public ArrayList<Expression> operands;
+		public ArrayList<Token> ops;
 		public OrExpressionContext expl;
 		public Token op;
-		public ExpressionContext expr;
-		public OrExpressionContext orExpression() {
-			return getRuleContext(OrExpressionContext.class,0);
+		public OrExpressionContext expr;
+		public List<OrExpressionContext> orExpression() {
+			return getRuleContexts(OrExpressionContext.class);
 		}
-		public TerminalNode ASSIGN() { return getToken(CmmParser.ASSIGN, 0); }
-		public ExpressionContext expression() {
-			return getRuleContext(ExpressionContext.class,0);
+		public OrExpressionContext orExpression(int i) {
+			return getRuleContext(OrExpressionContext.class,i);
+		}
+		public List<TerminalNode> ASSIGN() { return getTokens(CmmParser.ASSIGN); }
+		public TerminalNode ASSIGN(int i) {
+			return getToken(CmmParser.ASSIGN, i);
 		}
 		public ExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
@@ -2617,26 +2660,40 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(487);
+			((ExpressionContext)_localctx).operands =  new ArrayList<>();
+			     ((ExpressionContext)_localctx).ops =  new ArrayList<>();
+			setState(499);
 			((ExpressionContext)_localctx).expl = orExpression();
-			((ExpressionContext)_localctx).exprRet =  ((ExpressionContext)_localctx).expl.orExprRet;
-			setState(493);
+			_localctx.operands.add(((ExpressionContext)_localctx).expl.orExprRet);
+			setState(507);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
-			if (_la==ASSIGN) {
+			while (_la==ASSIGN) {
+				{
 				{
-				setState(489);
+				setState(501);
 				((ExpressionContext)_localctx).op = match(ASSIGN);
-				setState(490);
-				((ExpressionContext)_localctx).expr = expression();
+				setState(502);
+				((ExpressionContext)_localctx).expr = orExpression();
 
-				        BinaryOperator opr = BinaryOperator.assign;
-				        ((ExpressionContext)_localctx).exprRet =  new BinaryExpression(((ExpressionContext)_localctx).expl.orExprRet, ((ExpressionContext)_localctx).expr.exprRet, opr);
-				        _localctx.exprRet.setLine(((ExpressionContext)_localctx).op.getLine());
+				        _localctx.operands.add(((ExpressionContext)_localctx).expr.orExprRet);
+				        _localctx.ops.add(((ExpressionContext)_localctx).op);
 				    
 				}
+				}
+				setState(509);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
 			}
 
+			    ((ExpressionContext)_localctx).exprRet =  _localctx.operands.get(_localctx.operands.size() - 1);
+			    for (int i = _localctx.ops.size() - 1; i >= 0; i--) {
+			        BinaryOperator opr = BinaryOperator.assign;
+			        ((ExpressionContext)_localctx).exprRet =  new BinaryExpression(_localctx.operands.get(i), _localctx.exprRet, opr);
+			        _localctx.exprRet.setLine(_localctx.ops.get(i).getLine());
+			        setSpan(_localctx.exprRet, _localctx.operands.get(i));
+			    }
+			    
 			}
 		}
 		catch (RecognitionException re) {
@@ -2691,27 +2748,28 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(495);
+			setState(512);
 			((OrExpressionContext)_localctx).expl = andExpression();
 			((OrExpressionContext)_localctx).orExprRet =  ((OrExpressionContext)_localctx).expl.andExprRet;
-			setState(503);
+			setState(520);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==OR) {
 				{
 				{
-				setState(497);
+				setState(514);
 				((OrExpressionContext)_localctx).op = match(OR);
-				setState(498);
+				setState(515);
 				((OrExpressionContext)_localctx).expr = andExpression();
 
 				        BinaryOperator opr = BinaryOperator.or;
-				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(((OrExpressionContext)_localctx).expl.andExprRet, ((OrExpressionContext)_localctx).expr.andExprRet, opr);
+				        ((OrExpressionContext)_localctx).orExprRet =  new BinaryExpression(_localctx.orExprRet, ((OrExpressionContext)_localctx).expr.andExprRet, opr);
 				        _localctx.orExprRet.setLine(((OrExpressionContext)_localctx).op.getLine());
+				        setSpan(_localctx.orExprRet, _localctx.start);
 				    
 				}
 				}
-				setState(505);
+				setState(522);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2769,27 +2827,28 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(506);
+			setState(523);
 			((AndExpressionContext)_localctx).expl = equalityExpression();
 			((AndExpressionContext)_localctx).andExprRet =  ((AndExpressionContext)_localctx).expl.equalityExprRet;
-			setState(514);
+			setState(531);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==AND) {
 				{
 				{
-				setState(508);
+				setState(525);
 				((AndExpressionContext)_localctx).op = match(AND);
-				setState(509);
+				setState(526);
 				((AndExpressionContext)_localctx).expr = equalityExpression();
 
 				        BinaryOperator opr = BinaryOperator.and;
 				        ((AndExpressionContext)_localctx).andExprRet =  new BinaryExpression(_localctx.andExprRet, ((AndExpressionContext)_localctx).expr.equalityExprRet, opr);
 				        _localctx.andExprRet.setLine(((AndExpressionContext)_localctx).op.getLine());
+				        setSpan(_localctx.andExprRet, _localctx.start);
 				    
 				}
 				}
-				setState(516);
+				setState(533);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2847,27 +2906,28 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(517);
+			setState(534);
 			((EqualityExpressionContext)_localctx).expl = relationalExpression();
 			((EqualityExpressionContext)_localctx).equalityExprRet =  ((EqualityExpressionContext)_localctx).expl.relationalExprRet;
-			setState(525);
+			setState(542);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==EQUAL) {
 				{
 				{
-				setState(519);
+				setState(536);
 				((EqualityExpressionContext)_localctx).op = match(EQUAL);
-				setState(520);
+				setState(537);
 				((EqualityExpressionContext)_localctx).expr = relationalExpression();
 
 				        BinaryOperator opr = BinaryOperator.eq;
 				        ((EqualityExpressionContext)_localctx).equalityExprRet =  new BinaryExpression(_localctx.equalityExprRet, ((EqualityExpressionContext)_localctx).expr.relationalExprRet, opr);
 				        _localctx.equalityExprRet.setLine(((EqualityExpressionContext)_localctx).op.getLine());
+				        setSpan(_localctx.equalityExprRet, _localctx.start);
 				    
 				}
 				}
-				setState(527);
+				setState(544);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -2932,21 +2992,21 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(528);
+			setState(545);
 			((RelationalExpressionContext)_localctx).l = additiveExpression();
 			((RelationalExpressionContext)_localctx).relationalExprRet =  ((RelationalExpressionContext)_localctx).l.expr;
-			setState(541);
+			setState(558);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==GREATER_THAN || _la==LESS_THAN) {
 				{
 				{
-				setState(534);
+				setState(551);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case GREATER_THAN:
 					{
-					setState(530);
+					setState(547);
 					((RelationalExpressionContext)_localctx).op1 = match(GREATER_THAN);
 					((RelationalExpressionContext)_localctx).op =  BinaryOperator.gt;
 					    ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op1.getLine();
@@ -2954,7 +3014,7 @@ public class CmmParser extends Parser {
 					break;
 				case LESS_THAN:
 					{
-					setState(532);
+					setState(549);
 					((RelationalExpressionContext)_localctx).op2 = match(LESS_THAN);
 					((RelationalExpressionContext)_localctx).op =  BinaryOperator.lt;
 					     ((RelationalExpressionContext)_localctx).line =  ((RelationalExpressionContext)_localctx).op2.getLine();
@@ -2963,13 +3023,14 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(536);
+				setState(553);
 				((RelationalExpressionContext)_localctx).r = additiveExpression();
 				((RelationalExpressionContext)_localctx).relationalExprRet =  new BinaryExpression(_localctx.relationalExprRet,((RelationalExpressionContext)_localctx).r.expr,_localctx.op);
 				     _localctx.relationalExprRet.setLine(_localctx.line);
+				     setSpan(_localctx.relationalExprRet, _localctx.start);
 				}
 				}
-				setState(543);
+				setState(560);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3034,21 +3095,21 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(544);
+			setState(561);
 			((AdditiveExpressionContext)_localctx).l = multiplicativeExpression();
 			((AdditiveExpressionContext)_localctx).expr =  ((AdditiveExpressionContext)_localctx).l.expr;
-			setState(557);
+			setState(574);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==PLUS || _la==MINUS) {
 				{
 				{
-				setState(550);
+				setState(567);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case PLUS:
 					{
-					setState(546);
+					setState(563);
 					((AdditiveExpressionContext)_localctx).op1 = match(PLUS);
 					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.add;
 					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op1.getLine();
@@ -3056,7 +3117,7 @@ public class CmmParser extends Parser {
 					break;
 				case MINUS:
 					{
-					setState(548);
+					setState(565);
 					((AdditiveExpressionContext)_localctx).op2 = match(MINUS);
 					((AdditiveExpressionContext)_localctx).op =  BinaryOperator.sub;
 					     ((AdditiveExpressionContext)_localctx).line =  ((AdditiveExpressionContext)_localctx).op2.getLine();
@@ -3065,13 +3126,14 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(552);
+				setState(569);
 				((AdditiveExpressionContext)_localctx).r = multiplicativeExpression();
 				((AdditiveExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((AdditiveExpressionContext)_localctx).r.expr,_localctx.op);
 				     _localctx.expr.setLine(_localctx.line);
+				     setSpan(_localctx.expr, _localctx.start);
 				}
 				}
-				setState(559);
+				setState(576);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3136,21 +3198,21 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(560);
+			setState(577);
 			((MultiplicativeExpressionContext)_localctx).l = preUnaryExpression();
 			((MultiplicativeExpressionContext)_localctx).expr =  ((MultiplicativeExpressionContext)_localctx).l.expr;
-			setState(573);
+			setState(590);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==MULT || _la==DIVIDE) {
 				{
 				{
-				setState(566);
+				setState(583);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case MULT:
 					{
-					setState(562);
+					setState(579);
 					((MultiplicativeExpressionContext)_localctx).op1 = match(MULT);
 					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.mult;
 					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op1.getLine();
@@ -3158,7 +3220,7 @@ public class CmmParser extends Parser {
 					break;
 				case DIVIDE:
 					{
-					setState(564);
+					setState(581);
 					((MultiplicativeExpressionContext)_localctx).op2 = match(DIVIDE);
 					((MultiplicativeExpressionContext)_localctx).op =  BinaryOperator.div;
 					     ((MultiplicativeExpressionContext)_localctx).line =  ((MultiplicativeExpressionContext)_localctx).op2.getLine();
@@ -3167,13 +3229,14 @@ public class CmmParser extends Parser {
 				default:
 					throw new NoViableAltException(this);
 				}
-				setState(568);
+				setState(585);
 				((MultiplicativeExpressionContext)_localctx).r = preUnaryExpression();
 				((MultiplicativeExpressionContext)_localctx).expr =  new BinaryExpression(_localctx.expr,((MultiplicativeExpressionContext)_localctx).r.expr,_localctx.op);
 				    _localctx.expr.setLine(_localctx.line);
+				    setSpan(_localctx.expr, _localctx.start);
 				}
 				}
-				setState(575);
+				setState(592);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3192,20 +3255,20 @@ public class CmmParser extends Parser {
 
 	public static class PreUnaryExpressionContext extends ParserRuleContext {
 		public Expression expr;
-		public UnaryOperator op;
-		public int line;
-		public Token op1;
-		public Token op2;
-		public PreUnaryExpressionContext pre;
+		public ArrayList<Token> ops;
+		public Token op;
 		public AccessExpressionContext ac;
-		public PreUnaryExpressionContext preUnaryExpression() {
-			return getRuleContext(PreUnaryExpressionContext.class,0);
-		}
-		public TerminalNode NOT() { return getToken(CmmParser.NOT, 0); }
-		public TerminalNode MINUS() { return getToken(CmmParser.MINUS, 0); }
 		public AccessExpressionContext accessExpression() {
 			return getRuleContext(AccessExpressionContext.class,0);
 		}
+		public List<TerminalNode> NOT() { return getTokens(CmmParser.NOT); }
+		public TerminalNode NOT(int i) {
+			return getToken(CmmParser.NOT, i);
+		}
+		public List<TerminalNode> MINUS() { return getTokens(CmmParser.MINUS); }
+		public TerminalNode MINUS(int i) {
+			return getToken(CmmParser.MINUS, i);
+		}
 		public PreUnaryExpressionContext(ParserRuleContext parent, int invokingState) {
 			super(parent, invokingState);
 		}
@@ -3228,60 +3291,45 @@ public class CmmParser extends Parser {
 	public final PreUnaryExpressionContext preUnaryExpression() throws RecognitionException {
 		PreUnaryExpressionContext _localctx = new PreUnaryExpressionContext(_ctx, getState());
 		enterRule(_localctx, 66, RULE_preUnaryExpression);
+		int _la;
 		try {
-			setState(588);
+			enterOuterAlt(_localctx, 1);
+			{
+			((PreUnaryExpressionContext)_localctx).ops =  new ArrayList<>();
+			setState(598);
 			_errHandler.sync(this);
-			switch (_input.LA(1)) {
-			case MINUS:
-			case NOT:
-				enterOuterAlt(_localctx, 1);
+			_la = _input.LA(1);
+			while (_la==MINUS || _la==NOT) {
 				{
 				{
-				setState(580);
-				_errHandler.sync(this);
-				switch (_input.LA(1)) {
-				case NOT:
-					{
-					setState(576);
-					((PreUnaryExpressionContext)_localctx).op1 = match(NOT);
-					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.not;
-					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op1.getLine();
-					}
-					break;
-				case MINUS:
-					{
-					setState(578);
-					((PreUnaryExpressionContext)_localctx).op2 = match(MINUS);
-					((PreUnaryExpressionContext)_localctx).op =  UnaryOperator.minus;
-					     ((PreUnaryExpressionContext)_localctx).line =  ((PreUnaryExpressionContext)_localctx).op2.getLine();
-					}
-					break;
-				default:
-					throw new NoViableAltException(this);
+				setState(594);
+				((PreUnaryExpressionContext)_localctx).op = _input.LT(1);
+				_la = _input.LA(1);
+				if ( !(_la==MINUS || _la==NOT) ) {
+					((PreUnaryExpressionContext)_localctx).op = (Token)_errHandler.recoverInline(this);
 				}
-				setState(582);
-				((PreUnaryExpressionContext)_localctx).pre = preUnaryExpression();
-				((PreUnaryExpressionContext)_localctx).expr =  new UnaryExpression(((PreUnaryExpressionContext)_localctx).pre.expr, _localctx.op);
-				     _localctx.expr.setLine(_localctx.line);
+				else {
+					if ( _input.LA(1)==Token.EOF ) matchedEOF = true;
+					_errHandler.reportMatch(this);
+					consume();
 				}
+				_localctx.ops.add(((PreUnaryExpressionContext)_localctx).op);
 				}
-				break;
-			case SIZE:
-			case APPEND:
-			case TRUE:
-			case FALSE:
-			case LPAR:
-			case INT_VALUE:
-			case IDENTIFIER:
-				enterOuterAlt(_localctx, 2);
-				{
-				setState(585);
-				((PreUnaryExpressionContext)_localctx).ac = accessExpression();
-				((PreUnaryExpressionContext)_localctx).expr =  ((PreUnaryExpressionContext)_localctx).ac.expr;
 				}
-				break;
-			default:
-				throw new NoViableAltException(this);
+				setState(600);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(601);
+			((PreUnaryExpressionContext)_localctx).ac = accessExpression();
+			((PreUnaryExpressionContext)_localctx).expr =  ((PreUnaryExpressionContext)_localctx).ac.expr;
+			     for (int i = _localctx.ops.size() - 1; i >= 0; i--) {
+			         Token opToken = _localctx.ops.get(i);
+			         UnaryOperator opr = opToken.getType() == NOT ? UnaryOperator.not : UnaryOperator.minus;
+			         ((PreUnaryExpressionContext)_localctx).expr =  new UnaryExpression(_localctx.expr, opr);
+			         _localctx.expr.setLine(opToken.getLine());
+			         setSpan(_localctx.expr, opToken);
+			     }
 			}
 		}
 		catch (RecognitionException re) {
@@ -3370,41 +3418,43 @@ public class CmmParser extends Parser {
 			int _alt;
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(590);
+			setState(604);
 			((AccessExpressionContext)_localctx).oth = otherExpression();
 			((AccessExpressionContext)_localctx).expr =  ((AccessExpressionContext)_localctx).oth.expr;
-			setState(603);
+			setState(618);
 			_errHandler.sync(this);
-			_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+			_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
 				if ( _alt==1 ) {
 					{
-					setState(601);
+					setState(616);
 					_errHandler.sync(this);
 					switch (_input.LA(1)) {
 					case LPAR:
 						{
 						{
-						setState(592);
+						setState(606);
 						((AccessExpressionContext)_localctx).l = match(LPAR);
-						setState(593);
+						setState(607);
 						((AccessExpressionContext)_localctx).f = functionArguments();
 						((AccessExpressionContext)_localctx).expr =  new FunctionCall(_localctx.expr, ((AccessExpressionContext)_localctx).f.funcArgRet);
 						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
-						setState(595);
+						setState(609);
 						match(RPAR);
+						setSpan(_localctx.expr, _localctx.start);
 						}
 						}
 						break;
 					case DOT:
 						{
 						{
-						setState(597);
+						setState(612);
 						match(DOT);
-						setState(598);
+						setState(613);
 						((AccessExpressionContext)_localctx).i = identifier();
 						((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
 						     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
+						     setSpan(_localctx.expr, _localctx.start);
 						}
 						}
 						break;
@@ -3413,41 +3463,43 @@ public class CmmParser extends Parser {
 					}
 					} 
 				}
-				setState(605);
+				setState(620);
 				_errHandler.sync(this);
-				_alt = getInterpreter().adaptivePredict(_input,57,_ctx);
+				_alt = getInterpreter().adaptivePredict(_input,56,_ctx);
 			}
-			setState(617);
+			setState(633);
 			_errHandler.sync(this);
 			_la = _input.LA(1);
 			while (_la==LBRACK || _la==DOT) {
 				{
-				setState(615);
+				setState(631);
 				_errHandler.sync(this);
 				switch (_input.LA(1)) {
 				case LBRACK:
 					{
 					{
-					setState(606);
+					setState(621);
 					((AccessExpressionContext)_localctx).l = match(LBRACK);
-					setState(607);
+					setState(622);
 					((AccessExpressionContext)_localctx).ex = expression();
 					((AccessExpressionContext)_localctx).expr =  new ListAccessByIndex(_localctx.expr, ((AccessExpressionContext)_localctx).ex.exprRet);
 					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).l.getLine());
-					setState(609);
+					setState(624);
 					match(RBRACK);
+					setSpan(_localctx.expr, _localctx.start);
 					}
 					}
 					break;
 				case DOT:
 					{
 					{
-					setState(611);
+					setState(627);
 					match(DOT);
-					setState(612);
+					setState(628);
 					((AccessExpressionContext)_localctx).i = identifier();
 					((AccessExpressionContext)_localctx).expr =  new StructAccess(_localctx.expr, ((AccessExpressionContext)_localctx).i.identifierRet);
 					     _localctx.expr.setLine(((AccessExpressionContext)_localctx).i.line);
+					     setSpan(_localctx.expr, _localctx.start);
 					}
 					}
 					break;
@@ -3455,7 +3507,7 @@ public class CmmParser extends Parser {
 					throw new NoViableAltException(this);
 				}
 				}
-				setState(619);
+				setState(635);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 			}
@@ -3520,7 +3572,7 @@ public class CmmParser extends Parser {
 		OtherExpressionContext _localctx = new OtherExpressionContext(_ctx, getState());
 		enterRule(_localctx, 70, RULE_otherExpression);
 		try {
-			setState(637);
+			setState(653);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
@@ -3528,7 +3580,7 @@ public class CmmParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(620);
+				setState(636);
 				((OtherExpressionContext)_localctx).v = value();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).v.valueRet;
 				}
@@ -3536,7 +3588,7 @@ public class CmmParser extends Parser {
 			case IDENTIFIER:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(623);
+				setState(639);
 				((OtherExpressionContext)_localctx).id = identifier();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).id.identifierRet;
 				}
@@ -3544,23 +3596,24 @@ public class CmmParser extends Parser {
 			case LPAR:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(626);
+				setState(642);
 				((OtherExpressionContext)_localctx).l = match(LPAR);
 				{
-				setState(627);
+				setState(643);
 				((OtherExpressionContext)_localctx).f = functionArguments();
 				}
-				setState(628);
+				setState(644);
 				match(RPAR);
 				ExprInPar ex = new ExprInPar(((OtherExpressionContext)_localctx).f.funcArgRet);
 				     ex.setLine(((OtherExpressionContext)_localctx).l.getLine());
+				     setSpan(ex, ((OtherExpressionContext)_localctx).l);
 				     ((OtherExpressionContext)_localctx).expr =  ex;
 				}
 				break;
 			case SIZE:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(631);
+				setState(647);
 				((OtherExpressionContext)_localctx).s = size();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).s.sizeRet;
 				}
@@ -3568,7 +3621,7 @@ public class CmmParser extends Parser {
 			case APPEND:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(634);
+				setState(650);
 				((OtherExpressionContext)_localctx).ap = append();
 				((OtherExpressionContext)_localctx).expr =  ((OtherExpressionContext)_localctx).ap.appendRet;
 				}
@@ -3624,17 +3677,18 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(639);
+			setState(655);
 			((SizeContext)_localctx).s = match(SIZE);
-			setState(640);
+			setState(656);
 			match(LPAR);
-			setState(641);
+			setState(657);
 			((SizeContext)_localctx).ex = expression();
 			((SizeContext)_localctx).sizeRet =  new ListSize(((SizeContext)_localctx).ex.exprRet);
 			     _localctx.sizeRet.setLine(((SizeContext)_localctx).s.getLine());
 			     ((SizeContext)_localctx).line =  ((SizeContext)_localctx).s.getLine();
-			setState(643);
+			setState(659);
 			match(RPAR);
+			setSpan(_localctx.sizeRet, ((SizeContext)_localctx).s);
 			}
 		}
 		catch (RecognitionException re) {
@@ -3689,20 +3743,21 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(645);
+			setState(662);
 			((AppendContext)_localctx).ap = match(APPEND);
-			setState(646);
+			setState(663);
 			match(LPAR);
-			setState(647);
+			setState(664);
 			((AppendContext)_localctx).ex1 = expression();
-			setState(648);
+			setState(665);
 			match(COMMA);
-			setState(649);
+			setState(666);
 			((AppendContext)_localctx).ex2 = expression();
-			setState(650);
+			setState(667);
 			match(RPAR);
 			((AppendContext)_localctx).appendRet =  new ListAppend(((AppendContext)_localctx).ex1.exprRet, ((AppendContext)_localctx).ex2.exprRet);
 			     _localctx.appendRet.setLine(((AppendContext)_localctx).ap.getLine());
+			     setSpan(_localctx.appendRet, ((AppendContext)_localctx).ap);
 			     ((AppendContext)_localctx).line =  ((AppendContext)_localctx).ap.getLine();
 			}
 		}
@@ -3748,14 +3803,14 @@ public class CmmParser extends Parser {
 		ValueContext _localctx = new ValueContext(_ctx, getState());
 		enterRule(_localctx, 76, RULE_value);
 		try {
-			setState(658);
+			setState(675);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 			case FALSE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(653);
+				setState(670);
 				((ValueContext)_localctx).b = boolValue();
 				((ValueContext)_localctx).valueRet =  ((ValueContext)_localctx).b.boolValueRet;
 				}
@@ -3763,11 +3818,12 @@ public class CmmParser extends Parser {
 			case INT_VALUE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(656);
+				setState(673);
 				((ValueContext)_localctx).iv = match(INT_VALUE);
 
 				    ((ValueContext)_localctx).valueRet =  new IntValue((((ValueContext)_localctx).iv!=null?Integer.valueOf(((ValueContext)_localctx).iv.getText()):0));
 				    _localctx.valueRet.setLine(((ValueContext)_localctx).iv.getLine());
+				    setSpan(_localctx.valueRet, ((ValueContext)_localctx).iv);
 				}
 				break;
 			default:
@@ -3814,25 +3870,27 @@ public class CmmParser extends Parser {
 		BoolValueContext _localctx = new BoolValueContext(_ctx, getState());
 		enterRule(_localctx, 78, RULE_boolValue);
 		try {
-			setState(664);
+			setState(681);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case TRUE:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(660);
+				setState(677);
 				((BoolValueContext)_localctx).t = match(TRUE);
 				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(true);
 				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).t.getLine());
+				     setSpan(_localctx.boolValueRet, ((BoolValueContext)_localctx).t);
 				}
 				break;
 			case FALSE:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(662);
+				setState(679);
 				((BoolValueContext)_localctx).f = match(FALSE);
 				((BoolValueContext)_localctx).boolValueRet =  new BoolValue(false);
 				     _localctx.boolValueRet.setLine(((BoolValueContext)_localctx).f.getLine());
+				     setSpan(_localctx.boolValueRet, ((BoolValueContext)_localctx).f);
 				}
 				break;
 			default:
@@ -3880,11 +3938,12 @@ public class CmmParser extends Parser {
 		try {
 			enterOuterAlt(_localctx, 1);
 			{
-			setState(666);
+			setState(683);
 			((IdentifierContext)_localctx).id = match(IDENTIFIER);
 
 			    ((IdentifierContext)_localctx).identifierRet =  new Identifier((((IdentifierContext)_localctx).id!=null?((IdentifierContext)_localctx).id.getText():null));
 			    _localctx.identifierRet.setLine(((IdentifierContext)_localctx).id.getLine());
+			    setSpan(_localctx.identifierRet, ((IdentifierContext)_localctx).id);
 			    ((IdentifierContext)_localctx).line =  ((IdentifierContext)_localctx).id.getLine();
 			}
 		}
@@ -3941,51 +4000,51 @@ public class CmmParser extends Parser {
 		TypeContext _localctx = new TypeContext(_ctx, getState());
 		enterRule(_localctx, 82, RULE_type);
 		try {
-			setState(685);
+			setState(702);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
 				enterOuterAlt(_localctx, 1);
 				{
-				setState(669);
+				setState(686);
 				match(INT);
-				((TypeContext)_localctx).typeRet =  new IntType();
+				((TypeContext)_localctx).typeRet =  IntType.getInstance();
 				}
 				break;
 			case BOOL:
 				enterOuterAlt(_localctx, 2);
 				{
-				setState(671);
+				setState(688);
 				match(BOOL);
-				((TypeContext)_localctx).typeRet =  new BoolType();
+				((TypeContext)_localctx).typeRet =  BoolType.getInstance();
 				}
 				break;
 			case LIST:
 				enterOuterAlt(_localctx, 3);
 				{
-				setState(673);
+				setState(690);
 				match(LIST);
-				setState(674);
+				setState(691);
 				match(SHARP);
-				setState(675);
+				setState(692);
 				((TypeContext)_localctx).t = type();
-				((TypeContext)_localctx).typeRet =  new ListType(((TypeContext)_localctx).t.typeRet);
+				((TypeContext)_localctx).typeRet =  types.list(((TypeContext)_localctx).t.typeRet);
 				}
 				break;
 			case STRUCT:
 				enterOuterAlt(_localctx, 4);
 				{
-				setState(678);
+				setState(695);
 				match(STRUCT);
-				setState(679);
+				setState(696);
 				((TypeContext)_localctx).id = identifier();
-				((TypeContext)_localctx).typeRet =  new StructType(((TypeContext)_localctx).id.identifierRet);
+				((TypeContext)_localctx).typeRet =  types.struct(((TypeContext)_localctx).id.identifierRet.getName());
 				}
 				break;
 			case FPTR:
 				enterOuterAlt(_localctx, 5);
 				{
-				setState(682);
+				setState(699);
 				((TypeContext)_localctx).f = fptrType();
 				((TypeContext)_localctx).typeRet =  ((TypeContext)_localctx).f.fptrTypeRet;
 				}
@@ -4055,18 +4114,17 @@ public class CmmParser extends Parser {
 			enterOuterAlt(_localctx, 1);
 			{
 			 ArrayList<Type> args = new ArrayList<>(); 
-			setState(688);
+			setState(705);
 			match(FPTR);
-			setState(689);
+			setState(706);
 			match(LESS_THAN);
-			setState(703);
+			setState(719);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case VOID:
 				{
-				setState(690);
+				setState(707);
 				match(VOID);
-				 args.add(new VoidType()); 
 				}
 				break;
 			case INT:
@@ -4076,23 +4134,23 @@ public class CmmParser extends Parser {
 			case FPTR:
 				{
 				{
-				setState(692);
+				setState(708);
 				((FptrTypeContext)_localctx).t1 = type();
 				 args.add(((FptrTypeContext)_localctx).t1.typeRet); 
-				setState(700);
+				setState(716);
 				_errHandler.sync(this);
 				_la = _input.LA(1);
 				while (_la==COMMA) {
 					{
 					{
-					setState(694);
+					setState(710);
 					match(COMMA);
-					setState(695);
+					setState(711);
 					((FptrTypeContext)_localctx).t2 = type();
 					 args.add(((FptrTypeContext)_localctx).t2.typeRet); 
 					}
 					}
-					setState(702);
+					setState(718);
 					_errHandler.sync(this);
 					_la = _input.LA(1);
 				}
@@ -4102,9 +4160,9 @@ public class CmmParser extends Parser {
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(705);
+			setState(721);
 			match(ARROW);
-			setState(711);
+			setState(727);
 			_errHandler.sync(this);
 			switch (_input.LA(1)) {
 			case INT:
@@ -4113,22 +4171,22 @@ public class CmmParser extends Parser {
 			case STRUCT:
 			case FPTR:
 				{
-				setState(706);
+				setState(722);
 				((FptrTypeContext)_localctx).t3 = type();
-				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, ((FptrTypeContext)_localctx).t3.typeRet);
+				((FptrTypeContext)_localctx).fptrTypeRet =  types.fptr(args, ((FptrTypeContext)_localctx).t3.typeRet);
 				}
 				break;
 			case VOID:
 				{
-				setState(709);
+				setState(725);
 				match(VOID);
-				((FptrTypeContext)_localctx).fptrTypeRet =  new FptrType(args, new VoidType());
+				((FptrTypeContext)_localctx).fptrTypeRet =  types.fptr(args, VoidType.getInstance());
 				}
 				break;
 			default:
 				throw new NoViableAltException(this);
 			}
-			setState(713);
+			setState(729);
 			match(GREATER_THAN);
 			}
 		}
@@ -4144,7 +4202,7 @@ public class CmmParser extends Parser {
 	}
 
 	public static final String _serializedATN =
-		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\60\u02ce\4\2\t\2"+
+		"\3\u608b\ua72a\u8133\ub9ed\u417c\u3be7\u7786\u5964\3\60\u02de\4\2\t\2"+
 		"\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
 		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
 		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
@@ -4153,258 +4211,263 @@ public class CmmParser extends Parser {
 		",\t,\3\2\7\2Z\n\2\f\2\16\2]\13\2\3\2\3\2\3\2\7\2b\n\2\f\2\16\2e\13\2\3"+
 		"\2\3\2\3\3\3\3\3\3\3\3\7\3m\n\3\f\3\16\3p\13\3\3\3\3\3\3\3\7\3u\n\3\f"+
 		"\3\16\3x\13\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5\3\5\3\5"+
-		"\3\5\3\5\3\5\3\5\6\5\u008c\n\5\r\5\16\5\u008d\3\5\3\5\3\5\6\5\u0093\n"+
-		"\5\r\5\16\5\u0094\3\5\3\5\3\5\5\5\u009a\n\5\5\5\u009c\n\5\3\5\6\5\u009f"+
-		"\n\5\r\5\16\5\u00a0\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\6\6\u00ab\n\6\r\6"+
-		"\16\6\u00ac\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3\7\5\7\u00bb"+
-		"\n\7\3\b\3\b\6\b\u00bf\n\b\r\b\16\b\u00c0\3\b\3\b\3\b\3\b\7\b\u00c7\n"+
-		"\b\f\b\16\b\u00ca\13\b\3\b\3\b\3\b\5\b\u00cf\n\b\6\b\u00d1\n\b\r\b\16"+
-		"\b\u00d2\3\t\3\t\3\t\3\t\6\t\u00d9\n\t\r\t\16\t\u00da\3\n\3\n\3\n\3\n"+
-		"\6\n\u00e1\n\n\r\n\16\n\u00e2\3\13\3\13\3\13\3\13\3\13\3\13\5\13\u00eb"+
-		"\n\13\3\13\3\13\3\13\3\13\3\13\6\13\u00f2\n\13\r\13\16\13\u00f3\3\f\3"+
-		"\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\7\f\u0100\n\f\f\f\16\f\u0103\13\f\5"+
-		"\f\u0105\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0110\n\r\f\r\16"+
-		"\r\u0113\13\r\5\r\u0115\n\r\3\16\3\16\3\16\3\16\6\16\u011b\n\16\r\16\16"+
-		"\16\u011c\3\16\3\16\3\16\5\16\u0122\n\16\5\16\u0124\n\16\3\17\3\17\3\17"+
-		"\3\17\6\17\u012a\n\17\r\17\16\17\u012b\3\17\3\17\3\17\5\17\u0131\n\17"+
-		"\3\20\3\20\3\20\3\20\6\20\u0137\n\20\r\20\16\20\u0138\3\20\3\20\3\20\3"+
-		"\20\7\20\u013f\n\20\f\20\16\20\u0142\13\20\3\20\3\20\3\20\5\20\u0147\n"+
-		"\20\6\20\u0149\n\20\r\20\16\20\u014a\3\20\6\20\u014e\n\20\r\20\16\20\u014f"+
-		"\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u015c\n\21\3\21"+
-		"\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u0166\n\21\3\21\3\21\7\21\u016a"+
-		"\n\21\f\21\16\21\u016d\13\21\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3"+
-		"\22\3\22\3\22\7\22\u017a\n\22\f\22\16\22\u017d\13\22\3\22\3\22\3\22\3"+
-		"\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\5\23\u018c\n\23\3\24"+
-		"\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\5\24\u0199\n\24\3\25"+
-		"\7\25\u019c\n\25\f\25\16\25\u019f\13\25\3\25\3\25\3\25\3\25\3\26\3\26"+
-		"\3\26\3\26\3\26\3\26\5\26\u01ab\n\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27"+
-		"\3\30\3\30\3\30\3\30\3\30\7\30\u01b9\n\30\f\30\16\30\u01bc\13\30\3\30"+
-		"\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32"+
-		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33"+
-		"\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33"+
-		"\u01e8\n\33\3\34\3\34\3\34\3\34\3\34\3\34\5\34\u01f0\n\34\3\35\3\35\3"+
-		"\35\3\35\3\35\3\35\7\35\u01f8\n\35\f\35\16\35\u01fb\13\35\3\36\3\36\3"+
-		"\36\3\36\3\36\3\36\7\36\u0203\n\36\f\36\16\36\u0206\13\36\3\37\3\37\3"+
-		"\37\3\37\3\37\3\37\7\37\u020e\n\37\f\37\16\37\u0211\13\37\3 \3 \3 \3 "+
-		"\3 \3 \5 \u0219\n \3 \3 \3 \7 \u021e\n \f \16 \u0221\13 \3!\3!\3!\3!\3"+
-		"!\3!\5!\u0229\n!\3!\3!\3!\7!\u022e\n!\f!\16!\u0231\13!\3\"\3\"\3\"\3\""+
-		"\3\"\3\"\5\"\u0239\n\"\3\"\3\"\3\"\7\"\u023e\n\"\f\"\16\"\u0241\13\"\3"+
-		"#\3#\3#\3#\5#\u0247\n#\3#\3#\3#\3#\3#\3#\5#\u024f\n#\3$\3$\3$\3$\3$\3"+
-		"$\3$\3$\3$\3$\3$\7$\u025c\n$\f$\16$\u025f\13$\3$\3$\3$\3$\3$\3$\3$\3$"+
-		"\3$\7$\u026a\n$\f$\16$\u026d\13$\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3"+
-		"%\3%\3%\3%\3%\5%\u0280\n%\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3\'\3\'\3"+
-		"\'\3\'\3(\3(\3(\3(\3(\5(\u0295\n(\3)\3)\3)\3)\5)\u029b\n)\3*\3*\3*\3+"+
-		"\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\5+\u02b0\n+\3,\3,\3,\3,"+
-		"\3,\3,\3,\3,\3,\3,\3,\7,\u02bd\n,\f,\16,\u02c0\13,\5,\u02c2\n,\3,\3,\3"+
-		",\3,\3,\3,\5,\u02ca\n,\3,\3,\3,\2\2-\2\4\6\b\n\f\16\20\22\24\26\30\32"+
-		"\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\2\2\u02f2\2[\3\2\2\2\4h"+
-		"\3\2\2\2\6|\3\2\2\2\b\u0083\3\2\2\2\n\u00a2\3\2\2\2\f\u00ba\3\2\2\2\16"+
-		"\u00bc\3\2\2\2\20\u00d4\3\2\2\2\22\u00dc\3\2\2\2\24\u00e4\3\2\2\2\26\u00f5"+
-		"\3\2\2\2\30\u0108\3\2\2\2\32\u0123\3\2\2\2\34\u0130\3\2\2\2\36\u0132\3"+
-		"\2\2\2 \u0153\3\2\2\2\"\u016e\3\2\2\2$\u0185\3\2\2\2&\u018d\3\2\2\2(\u019d"+
-		"\3\2\2\2*\u01aa\3\2\2\2,\u01ac\3\2\2\2.\u01b3\3\2\2\2\60\u01c1\3\2\2\2"+
-		"\62\u01c7\3\2\2\2\64\u01e7\3\2\2\2\66\u01e9\3\2\2\28\u01f1\3\2\2\2:\u01fc"+
-		"\3\2\2\2<\u0207\3\2\2\2>\u0212\3\2\2\2@\u0222\3\2\2\2B\u0232\3\2\2\2D"+
-		"\u024e\3\2\2\2F\u0250\3\2\2\2H\u027f\3\2\2\2J\u0281\3\2\2\2L\u0287\3\2"+
-		"\2\2N\u0294\3\2\2\2P\u029a\3\2\2\2R\u029c\3\2\2\2T\u02af\3\2\2\2V\u02b1"+
-		"\3\2\2\2XZ\7,\2\2YX\3\2\2\2Z]\3\2\2\2[Y\3\2\2\2[\\\3\2\2\2\\^\3\2\2\2"+
-		"][\3\2\2\2^_\5\4\3\2_c\b\2\1\2`b\7,\2\2a`\3\2\2\2be\3\2\2\2ca\3\2\2\2"+
-		"cd\3\2\2\2df\3\2\2\2ec\3\2\2\2fg\7\2\2\3g\3\3\2\2\2hn\b\3\1\2ij\5\b\5"+
-		"\2jk\b\3\1\2km\3\2\2\2li\3\2\2\2mp\3\2\2\2nl\3\2\2\2no\3\2\2\2ov\3\2\2"+
-		"\2pn\3\2\2\2qr\5\24\13\2rs\b\3\1\2su\3\2\2\2tq\3\2\2\2ux\3\2\2\2vt\3\2"+
-		"\2\2vw\3\2\2\2wy\3\2\2\2xv\3\2\2\2yz\5\6\4\2z{\b\3\1\2{\5\3\2\2\2|}\b"+
-		"\4\1\2}~\7\3\2\2~\177\7%\2\2\177\u0080\7&\2\2\u0080\u0081\5\32\16\2\u0081"+
-		"\u0082\b\4\1\2\u0082\7\3\2\2\2\u0083\u0084\b\5\1\2\u0084\u0085\7\35\2"+
-		"\2\u0085\u0086\5R*\2\u0086\u009b\b\5\1\2\u0087\u0088\7\30\2\2\u0088\u0089"+
-		"\5\16\b\2\u0089\u008b\b\5\1\2\u008a\u008c\7,\2\2\u008b\u008a\3\2\2\2\u008c"+
-		"\u008d\3\2\2\2\u008d\u008b\3\2\2\2\u008d\u008e\3\2\2\2\u008e\u008f\3\2"+
-		"\2\2\u008f\u0090\7\31\2\2\u0090\u009c\3\2\2\2\u0091\u0093\7,\2\2\u0092"+
-		"\u0091\3\2\2\2\u0093\u0094\3\2\2\2\u0094\u0092\3\2\2\2\u0094\u0095\3\2"+
-		"\2\2\u0095\u0096\3\2\2\2\u0096\u0097\5\f\7\2\u0097\u0099\b\5\1\2\u0098"+
-		"\u009a\7+\2\2\u0099\u0098\3\2\2\2\u0099\u009a\3\2\2\2\u009a\u009c\3\2"+
-		"\2\2\u009b\u0087\3\2\2\2\u009b\u0092\3\2\2\2\u009c\u009e\3\2\2\2\u009d"+
-		"\u009f\7,\2\2\u009e\u009d\3\2\2\2\u009f\u00a0\3\2\2\2\u00a0\u009e\3\2"+
-		"\2\2\u00a0\u00a1\3\2\2\2\u00a1\t\3\2\2\2\u00a2\u00a3\b\6\1\2\u00a3\u00a4"+
-		"\5T+\2\u00a4\u00a5\5R*\2\u00a5\u00a6\b\6\1\2\u00a6\u00a7\5\26\f\2\u00a7"+
-		"\u00a8\b\6\1\2\u00a8\u00aa\7\30\2\2\u00a9\u00ab\7,\2\2\u00aa\u00a9\3\2"+
-		"\2\2\u00ab\u00ac\3\2\2\2\u00ac\u00aa\3\2\2\2\u00ac\u00ad\3\2\2\2\u00ad"+
-		"\u00ae\3\2\2\2\u00ae\u00af\5\22\n\2\u00af\u00b0\b\6\1\2\u00b0\u00b1\5"+
-		"\20\t\2\u00b1\u00b2\b\6\1\2\u00b2\u00b3\7\31\2\2\u00b3\13\3\2\2\2\u00b4"+
-		"\u00b5\5 \21\2\u00b5\u00b6\b\7\1\2\u00b6\u00bb\3\2\2\2\u00b7\u00b8\5\n"+
-		"\6\2\u00b8\u00b9\b\7\1\2\u00b9\u00bb\3\2\2\2\u00ba\u00b4\3\2\2\2\u00ba"+
-		"\u00b7\3\2\2\2\u00bb\r\3\2\2\2\u00bc\u00d0\b\b\1\2\u00bd\u00bf\7,\2\2"+
-		"\u00be\u00bd\3\2\2\2\u00bf\u00c0\3\2\2\2\u00c0\u00be\3\2\2\2\u00c0\u00c1"+
-		"\3\2\2\2\u00c1\u00c8\3\2\2\2\u00c2\u00c3\5\f\7\2\u00c3\u00c4\b\b\1\2\u00c4"+
-		"\u00c5\7+\2\2\u00c5\u00c7\3\2\2\2\u00c6\u00c2\3\2\2\2\u00c7\u00ca\3\2"+
-		"\2\2\u00c8\u00c6\3\2\2\2\u00c8\u00c9\3\2\2\2\u00c9\u00cb\3\2\2\2\u00ca"+
-		"\u00c8\3\2\2\2\u00cb\u00cc\5\f\7\2\u00cc\u00ce\b\b\1\2\u00cd\u00cf\7+"+
-		"\2\2\u00ce\u00cd\3\2\2\2\u00ce\u00cf\3\2\2\2\u00cf\u00d1\3\2\2\2\u00d0"+
-		"\u00be\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d0\3\2\2\2\u00d2\u00d3\3\2"+
-		"\2\2\u00d3\17\3\2\2\2\u00d4\u00d5\7\37\2\2\u00d5\u00d6\5\32\16\2\u00d6"+
-		"\u00d8\b\t\1\2\u00d7\u00d9\7,\2\2\u00d8\u00d7\3\2\2\2\u00d9\u00da\3\2"+
-		"\2\2\u00da\u00d8\3\2\2\2\u00da\u00db\3\2\2\2\u00db\21\3\2\2\2\u00dc\u00dd"+
-		"\7 \2\2\u00dd\u00de\5\32\16\2\u00de\u00e0\b\n\1\2\u00df\u00e1\7,\2\2\u00e0"+
-		"\u00df\3\2\2\2\u00e1\u00e2\3\2\2\2\u00e2\u00e0\3\2\2\2\u00e2\u00e3\3\2"+
-		"\2\2\u00e3\23\3\2\2\2\u00e4\u00ea\b\13\1\2\u00e5\u00e6\5T+\2\u00e6\u00e7"+
-		"\b\13\1\2\u00e7\u00eb\3\2\2\2\u00e8\u00e9\7\5\2\2\u00e9\u00eb\b\13\1\2"+
-		"\u00ea\u00e5\3\2\2\2\u00ea\u00e8\3\2\2\2\u00eb\u00ec\3\2\2\2\u00ec\u00ed"+
-		"\5R*\2\u00ed\u00ee\5\26\f\2\u00ee\u00ef\5\32\16\2\u00ef\u00f1\b\13\1\2"+
-		"\u00f0\u00f2\7,\2\2\u00f1\u00f0\3\2\2\2\u00f2\u00f3\3\2\2\2\u00f3\u00f1"+
-		"\3\2\2\2\u00f3\u00f4\3\2\2\2\u00f4\25\3\2\2\2\u00f5\u00f6\b\f\1\2\u00f6"+
-		"\u0104\7%\2\2\u00f7\u00f8\5T+\2\u00f8\u00f9\5R*\2\u00f9\u0101\b\f\1\2"+
-		"\u00fa\u00fb\7)\2\2\u00fb\u00fc\5T+\2\u00fc\u00fd\5R*\2\u00fd\u00fe\b"+
-		"\f\1\2\u00fe\u0100\3\2\2\2\u00ff\u00fa\3\2\2\2\u0100\u0103\3\2\2\2\u0101"+
-		"\u00ff\3\2\2\2\u0101\u0102\3\2\2\2\u0102\u0105\3\2\2\2\u0103\u0101\3\2"+
-		"\2\2\u0104\u00f7\3\2\2\2\u0104\u0105\3\2\2\2\u0105\u0106\3\2\2\2\u0106"+
-		"\u0107\7&\2\2\u0107\27\3\2\2\2\u0108\u0114\b\r\1\2\u0109\u010a\5\66\34"+
-		"\2\u010a\u0111\b\r\1\2\u010b\u010c\7)\2\2\u010c\u010d\5\66\34\2\u010d"+
-		"\u010e\b\r\1\2\u010e\u0110\3\2\2\2\u010f\u010b\3\2\2\2\u0110\u0113\3\2"+
-		"\2\2\u0111\u010f\3\2\2\2\u0111\u0112\3\2\2\2\u0112\u0115\3\2\2\2\u0113"+
-		"\u0111\3\2\2\2\u0114\u0109\3\2\2\2\u0114\u0115\3\2\2\2\u0115\31\3\2\2"+
-		"\2\u0116\u0117\5\36\20\2\u0117\u0118\b\16\1\2\u0118\u0124\3\2\2\2\u0119"+
-		"\u011b\7,\2\2\u011a\u0119\3\2\2\2\u011b\u011c\3\2\2\2\u011c\u011a\3\2"+
-		"\2\2\u011c\u011d\3\2\2\2\u011d\u011e\3\2\2\2\u011e\u011f\5\64\33\2\u011f"+
-		"\u0121\b\16\1\2\u0120\u0122\7+\2\2\u0121\u0120\3\2\2\2\u0121\u0122\3\2"+
-		"\2\2\u0122\u0124\3\2\2\2\u0123\u0116\3\2\2\2\u0123\u011a\3\2\2\2\u0124"+
-		"\33\3\2\2\2\u0125\u0126\5\36\20\2\u0126\u0127\b\17\1\2\u0127\u0131\3\2"+
-		"\2\2\u0128\u012a\7,\2\2\u0129\u0128\3\2\2\2\u012a\u012b\3\2\2\2\u012b"+
-		"\u0129\3\2\2\2\u012b\u012c\3\2\2\2\u012c\u012d\3\2\2\2\u012d\u012e\5\64"+
-		"\33\2\u012e\u012f\b\17\1\2\u012f\u0131\3\2\2\2\u0130\u0125\3\2\2\2\u0130"+
-		"\u0129\3\2\2\2\u0131\35\3\2\2\2\u0132\u0133\b\20\1\2\u0133\u0134\7\30"+
-		"\2\2\u0134\u0148\b\20\1\2\u0135\u0137\7,\2\2\u0136\u0135\3\2\2\2\u0137"+
-		"\u0138\3\2\2\2\u0138\u0136\3\2\2\2\u0138\u0139\3\2\2\2\u0139\u0140\3\2"+
-		"\2\2\u013a\u013b\5\64\33\2\u013b\u013c\b\20\1\2\u013c\u013d\7+\2\2\u013d"+
-		"\u013f\3\2\2\2\u013e\u013a\3\2\2\2\u013f\u0142\3\2\2\2\u0140\u013e\3\2"+
-		"\2\2\u0140\u0141\3\2\2\2\u0141\u0143\3\2\2\2\u0142\u0140\3\2\2\2\u0143"+
-		"\u0144\5\64\33\2\u0144\u0146\b\20\1\2\u0145\u0147\7+\2\2\u0146\u0145\3"+
-		"\2\2\2\u0146\u0147\3\2\2\2\u0147\u0149\3\2\2\2\u0148\u0136\3\2\2\2\u0149"+
-		"\u014a\3\2\2\2\u014a\u0148\3\2\2\2\u014a\u014b\3\2\2\2\u014b\u014d\3\2"+
-		"\2\2\u014c\u014e\7,\2\2\u014d\u014c\3\2\2\2\u014e\u014f\3\2\2\2\u014f"+
-		"\u014d\3\2\2\2\u014f\u0150\3\2\2\2\u0150\u0151\3\2\2\2\u0151\u0152\7\31"+
-		"\2\2\u0152\37\3\2\2\2\u0153\u0154\b\21\1\2\u0154\u0155\5T+\2\u0155\u0156"+
-		"\5R*\2\u0156\u015b\b\21\1\2\u0157\u0158\7#\2\2\u0158\u0159\58\35\2\u0159"+
-		"\u015a\b\21\1\2\u015a\u015c\3\2\2\2\u015b\u0157\3\2\2\2\u015b\u015c\3"+
-		"\2\2\2\u015c\u015d\3\2\2\2\u015d\u016b\b\21\1\2\u015e\u015f\7)\2\2\u015f"+
-		"\u0160\5R*\2\u0160\u0165\b\21\1\2\u0161\u0162\7#\2\2\u0162\u0163\58\35"+
-		"\2\u0163\u0164\b\21\1\2\u0164\u0166\3\2\2\2\u0165\u0161\3\2\2\2\u0165"+
-		"\u0166\3\2\2\2\u0166\u0167\3\2\2\2\u0167\u0168\b\21\1\2\u0168\u016a\3"+
-		"\2\2\2\u0169\u015e\3\2\2\2\u016a\u016d\3\2\2\2\u016b\u0169\3\2\2\2\u016b"+
-		"\u016c\3\2\2\2\u016c!\3\2\2\2\u016d\u016b\3\2\2\2\u016e\u016f\5H%\2\u016f"+
-		"\u017b\b\22\1\2\u0170\u0171\7%\2\2\u0171\u0172\5\30\r\2\u0172\u0173\7"+
-		"&\2\2\u0173\u0174\b\22\1\2\u0174\u017a\3\2\2\2\u0175\u0176\7*\2\2\u0176"+
-		"\u0177\5R*\2\u0177\u0178\b\22\1\2\u0178\u017a\3\2\2\2\u0179\u0170\3\2"+
-		"\2\2\u0179\u0175\3\2\2\2\u017a\u017d\3\2\2\2\u017b\u0179\3\2\2\2\u017b"+
-		"\u017c\3\2\2\2\u017c\u017e\3\2\2\2\u017d\u017b\3\2\2\2\u017e\u017f\7%"+
-		"\2\2\u017f\u0180\5\30\r\2\u0180\u0181\7&\2\2\u0181\u0182\b\22\1\2\u0182"+
-		"\u0183\3\2\2\2\u0183\u0184\b\22\1\2\u0184#\3\2\2\2\u0185\u0186\b\23\1"+
-		"\2\u0186\u0187\7\4\2\2\u0187\u018b\b\23\1\2\u0188\u0189\5\66\34\2\u0189"+
-		"\u018a\b\23\1\2\u018a\u018c\3\2\2\2\u018b\u0188\3\2\2\2\u018b\u018c\3"+
-		"\2\2\2\u018c%\3\2\2\2\u018d\u018e\7\t\2\2\u018e\u018f\5\66\34\2\u018f"+
-		"\u0198\b\24\1\2\u0190\u0191\5\34\17\2\u0191\u0192\b\24\1\2\u0192\u0199"+
-		"\3\2\2\2\u0193\u0194\5\32\16\2\u0194\u0195\b\24\1\2\u0195\u0196\5(\25"+
-		"\2\u0196\u0197\b\24\1\2\u0197\u0199\3\2\2\2\u0198\u0190\3\2\2\2\u0198"+
-		"\u0193\3\2\2\2\u0199\'\3\2\2\2\u019a\u019c\7,\2\2\u019b\u019a\3\2\2\2"+
-		"\u019c\u019f\3\2\2\2\u019d\u019b\3\2\2\2\u019d\u019e\3\2\2\2\u019e\u01a0"+
-		"\3\2\2\2\u019f\u019d\3\2\2\2\u01a0\u01a1\7\n\2\2\u01a1\u01a2\5\34\17\2"+
-		"\u01a2\u01a3\b\25\1\2\u01a3)\3\2\2\2\u01a4\u01a5\5,\27\2\u01a5\u01a6\b"+
-		"\26\1\2\u01a6\u01ab\3\2\2\2\u01a7\u01a8\5.\30\2\u01a8\u01a9\b\26\1\2\u01a9"+
-		"\u01ab\3\2\2\2\u01aa\u01a4\3\2\2\2\u01aa\u01a7\3\2\2\2\u01ab+\3\2\2\2"+
-		"\u01ac\u01ad\b\27\1\2\u01ad\u01ae\7!\2\2\u01ae\u01af\5\66\34\2\u01af\u01b0"+
-		"\b\27\1\2\u01b0\u01b1\5\34\17\2\u01b1\u01b2\b\27\1\2\u01b2-\3\2\2\2\u01b3"+
-		"\u01b4\b\30\1\2\u01b4\u01b5\7\"\2\2\u01b5\u01b6\5\32\16\2\u01b6\u01ba"+
-		"\b\30\1\2\u01b7\u01b9\7,\2\2\u01b8\u01b7\3\2\2\2\u01b9\u01bc\3\2\2\2\u01ba"+
-		"\u01b8\3\2\2\2\u01ba\u01bb\3\2\2\2\u01bb\u01bd\3\2\2\2\u01bc\u01ba\3\2"+
-		"\2\2\u01bd\u01be\7!\2\2\u01be\u01bf\5\66\34\2\u01bf\u01c0\b\30\1\2\u01c0"+
-		"/\3\2\2\2\u01c1\u01c2\7\7\2\2\u01c2\u01c3\7%\2\2\u01c3\u01c4\5\66\34\2"+
-		"\u01c4\u01c5\b\31\1\2\u01c5\u01c6\7&\2\2\u01c6\61\3\2\2\2\u01c7\u01c8"+
-		"\58\35\2\u01c8\u01c9\7#\2\2\u01c9\u01ca\5\66\34\2\u01ca\u01cb\b\32\1\2"+
-		"\u01cb\63\3\2\2\2\u01cc\u01cd\5&\24\2\u01cd\u01ce\b\33\1\2\u01ce\u01e8"+
-		"\3\2\2\2\u01cf\u01d0\5\60\31\2\u01d0\u01d1\b\33\1\2\u01d1\u01e8\3\2\2"+
-		"\2\u01d2\u01d3\5\"\22\2\u01d3\u01d4\b\33\1\2\u01d4\u01e8\3\2\2\2\u01d5"+
-		"\u01d6\5$\23\2\u01d6\u01d7\b\33\1\2\u01d7\u01e8\3\2\2\2\u01d8\u01d9\5"+
-		"\62\32\2\u01d9\u01da\b\33\1\2\u01da\u01e8\3\2\2\2\u01db\u01dc\5 \21\2"+
-		"\u01dc\u01dd\b\33\1\2\u01dd\u01e8\3\2\2\2\u01de\u01df\5*\26\2\u01df\u01e0"+
-		"\b\33\1\2\u01e0\u01e8\3\2\2\2\u01e1\u01e2\5L\'\2\u01e2\u01e3\b\33\1\2"+
-		"\u01e3\u01e8\3\2\2\2\u01e4\u01e5\5J&\2\u01e5\u01e6\b\33\1\2\u01e6\u01e8"+
-		"\3\2\2\2\u01e7\u01cc\3\2\2\2\u01e7\u01cf\3\2\2\2\u01e7\u01d2\3\2\2\2\u01e7"+
-		"\u01d5\3\2\2\2\u01e7\u01d8\3\2\2\2\u01e7\u01db\3\2\2\2\u01e7\u01de\3\2"+
-		"\2\2\u01e7\u01e1\3\2\2\2\u01e7\u01e4\3\2\2\2\u01e8\65\3\2\2\2\u01e9\u01ea"+
-		"\58\35\2\u01ea\u01ef\b\34\1\2\u01eb\u01ec\7#\2\2\u01ec\u01ed\5\66\34\2"+
-		"\u01ed\u01ee\b\34\1\2\u01ee\u01f0\3\2\2\2\u01ef\u01eb\3\2\2\2\u01ef\u01f0"+
-		"\3\2\2\2\u01f0\67\3\2\2\2\u01f1\u01f2\5:\36\2\u01f2\u01f9\b\35\1\2\u01f3"+
-		"\u01f4\7\24\2\2\u01f4\u01f5\5:\36\2\u01f5\u01f6\b\35\1\2\u01f6\u01f8\3"+
-		"\2\2\2\u01f7\u01f3\3\2\2\2\u01f8\u01fb\3\2\2\2\u01f9\u01f7\3\2\2\2\u01f9"+
-		"\u01fa\3\2\2\2\u01fa9\3\2\2\2\u01fb\u01f9\3\2\2\2\u01fc\u01fd\5<\37\2"+
-		"\u01fd\u0204\b\36\1\2\u01fe\u01ff\7\23\2\2\u01ff\u0200\5<\37\2\u0200\u0201"+
-		"\b\36\1\2\u0201\u0203\3\2\2\2\u0202\u01fe\3\2\2\2\u0203\u0206\3\2\2\2"+
-		"\u0204\u0202\3\2\2\2\u0204\u0205\3\2\2\2\u0205;\3\2\2\2\u0206\u0204\3"+
-		"\2\2\2\u0207\u0208\5> \2\u0208\u020f\b\37\1\2\u0209\u020a\7\17\2\2\u020a"+
-		"\u020b\5> \2\u020b\u020c\b\37\1\2\u020c\u020e\3\2\2\2\u020d\u0209\3\2"+
-		"\2\2\u020e\u0211\3\2\2\2\u020f\u020d\3\2\2\2\u020f\u0210\3\2\2\2\u0210"+
-		"=\3\2\2\2\u0211\u020f\3\2\2\2\u0212\u0213\5@!\2\u0213\u021f\b \1\2\u0214"+
-		"\u0215\7\21\2\2\u0215\u0219\b \1\2\u0216\u0217\7\22\2\2\u0217\u0219\b"+
-		" \1\2\u0218\u0214\3\2\2\2\u0218\u0216\3\2\2\2\u0219\u021a\3\2\2\2\u021a"+
-		"\u021b\5@!\2\u021b\u021c\b \1\2\u021c\u021e\3\2\2\2\u021d\u0218\3\2\2"+
-		"\2\u021e\u0221\3\2\2\2\u021f\u021d\3\2\2\2\u021f\u0220\3\2\2\2\u0220?"+
-		"\3\2\2\2\u0221\u021f\3\2\2\2\u0222\u0223\5B\"\2\u0223\u022f\b!\1\2\u0224"+
-		"\u0225\7\13\2\2\u0225\u0229\b!\1\2\u0226\u0227\7\f\2\2\u0227\u0229\b!"+
-		"\1\2\u0228\u0224\3\2\2\2\u0228\u0226\3\2\2\2\u0229\u022a\3\2\2\2\u022a"+
-		"\u022b\5B\"\2\u022b\u022c\b!\1\2\u022c\u022e\3\2\2\2\u022d\u0228\3\2\2"+
-		"\2\u022e\u0231\3\2\2\2\u022f\u022d\3\2\2\2\u022f\u0230\3\2\2\2\u0230A"+
-		"\3\2\2\2\u0231\u022f\3\2\2\2\u0232\u0233\5D#\2\u0233\u023f\b\"\1\2\u0234"+
-		"\u0235\7\r\2\2\u0235\u0239\b\"\1\2\u0236\u0237\7\16\2\2\u0237\u0239\b"+
-		"\"\1\2\u0238\u0234\3\2\2\2\u0238\u0236\3\2\2\2\u0239\u023a\3\2\2\2\u023a"+
-		"\u023b\5D#\2\u023b\u023c\b\"\1\2\u023c\u023e\3\2\2\2\u023d\u0238\3\2\2"+
-		"\2\u023e\u0241\3\2\2\2\u023f\u023d\3\2\2\2\u023f\u0240\3\2\2\2\u0240C"+
-		"\3\2\2\2\u0241\u023f\3\2\2\2\u0242\u0243\7\25\2\2\u0243\u0247\b#\1\2\u0244"+
-		"\u0245\7\f\2\2\u0245\u0247\b#\1\2\u0246\u0242\3\2\2\2\u0246\u0244\3\2"+
-		"\2\2\u0247\u0248\3\2\2\2\u0248\u0249\5D#\2\u0249\u024a\b#\1\2\u024a\u024f"+
-		"\3\2\2\2\u024b\u024c\5F$\2\u024c\u024d\b#\1\2\u024d\u024f\3\2\2\2\u024e"+
-		"\u0246\3\2\2\2\u024e\u024b\3\2\2\2\u024fE\3\2\2\2\u0250\u0251\5H%\2\u0251"+
-		"\u025d\b$\1\2\u0252\u0253\7%\2\2\u0253\u0254\5\30\r\2\u0254\u0255\b$\1"+
-		"\2\u0255\u0256\7&\2\2\u0256\u025c\3\2\2\2\u0257\u0258\7*\2\2\u0258\u0259"+
-		"\5R*\2\u0259\u025a\b$\1\2\u025a\u025c\3\2\2\2\u025b\u0252\3\2\2\2\u025b"+
-		"\u0257\3\2\2\2\u025c\u025f\3\2\2\2\u025d\u025b\3\2\2\2\u025d\u025e\3\2"+
-		"\2\2\u025e\u026b\3\2\2\2\u025f\u025d\3\2\2\2\u0260\u0261\7\'\2\2\u0261"+
-		"\u0262\5\66\34\2\u0262\u0263\b$\1\2\u0263\u0264\7(\2\2\u0264\u026a\3\2"+
-		"\2\2\u0265\u0266\7*\2\2\u0266\u0267\5R*\2\u0267\u0268\b$\1\2\u0268\u026a"+
-		"\3\2\2\2\u0269\u0260\3\2\2\2\u0269\u0265\3\2\2\2\u026a\u026d\3\2\2\2\u026b"+
-		"\u0269\3\2\2\2\u026b\u026c\3\2\2\2\u026cG\3\2\2\2\u026d\u026b\3\2\2\2"+
-		"\u026e\u026f\5N(\2\u026f\u0270\b%\1\2\u0270\u0280\3\2\2\2\u0271\u0272"+
-		"\5R*\2\u0272\u0273\b%\1\2\u0273\u0280\3\2\2\2\u0274\u0275\7%\2\2\u0275"+
-		"\u0276\5\30\r\2\u0276\u0277\7&\2\2\u0277\u0278\b%\1\2\u0278\u0280\3\2"+
-		"\2\2\u0279\u027a\5J&\2\u027a\u027b\b%\1\2\u027b\u0280\3\2\2\2\u027c\u027d"+
-		"\5L\'\2\u027d\u027e\b%\1\2\u027e\u0280\3\2\2\2\u027f\u026e\3\2\2\2\u027f"+
-		"\u0271\3\2\2\2\u027f\u0274\3\2\2\2\u027f\u0279\3\2\2\2\u027f\u027c\3\2"+
-		"\2\2\u0280I\3\2\2\2\u0281\u0282\7\6\2\2\u0282\u0283\7%\2\2\u0283\u0284"+
-		"\5\66\34\2\u0284\u0285\b&\1\2\u0285\u0286\7&\2\2\u0286K\3\2\2\2\u0287"+
-		"\u0288\7\b\2\2\u0288\u0289\7%\2\2\u0289\u028a\5\66\34\2\u028a\u028b\7"+
-		")\2\2\u028b\u028c\5\66\34\2\u028c\u028d\7&\2\2\u028d\u028e\b\'\1\2\u028e"+
-		"M\3\2\2\2\u028f\u0290\5P)\2\u0290\u0291\b(\1\2\u0291\u0295\3\2\2\2\u0292"+
-		"\u0293\7-\2\2\u0293\u0295\b(\1\2\u0294\u028f\3\2\2\2\u0294\u0292\3\2\2"+
-		"\2\u0295O\3\2\2\2\u0296\u0297\7\26\2\2\u0297\u029b\b)\1\2\u0298\u0299"+
-		"\7\27\2\2\u0299\u029b\b)\1\2\u029a\u0296\3\2\2\2\u029a\u0298\3\2\2\2\u029b"+
-		"Q\3\2\2\2\u029c\u029d\7.\2\2\u029d\u029e\b*\1\2\u029eS\3\2\2\2\u029f\u02a0"+
-		"\7\32\2\2\u02a0\u02b0\b+\1\2\u02a1\u02a2\7\33\2\2\u02a2\u02b0\b+\1\2\u02a3"+
-		"\u02a4\7\34\2\2\u02a4\u02a5\7$\2\2\u02a5\u02a6\5T+\2\u02a6\u02a7\b+\1"+
-		"\2\u02a7\u02b0\3\2\2\2\u02a8\u02a9\7\35\2\2\u02a9\u02aa\5R*\2\u02aa\u02ab"+
-		"\b+\1\2\u02ab\u02b0\3\2\2\2\u02ac\u02ad\5V,\2\u02ad\u02ae\b+\1\2\u02ae"+
-		"\u02b0\3\2\2\2\u02af\u029f\3\2\2\2\u02af\u02a1\3\2\2\2\u02af\u02a3\3\2"+
-		"\2\2\u02af\u02a8\3\2\2\2\u02af\u02ac\3\2\2\2\u02b0U\3\2\2\2\u02b1\u02b2"+
-		"\b,\1\2\u02b2\u02b3\7\36\2\2\u02b3\u02c1\7\22\2\2\u02b4\u02b5\7\5\2\2"+
-		"\u02b5\u02c2\b,\1\2\u02b6\u02b7\5T+\2\u02b7\u02be\b,\1\2\u02b8\u02b9\7"+
-		")\2\2\u02b9\u02ba\5T+\2\u02ba\u02bb\b,\1\2\u02bb\u02bd\3\2\2\2\u02bc\u02b8"+
-		"\3\2\2\2\u02bd\u02c0\3\2\2\2\u02be\u02bc\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf"+
-		"\u02c2\3\2\2\2\u02c0\u02be\3\2\2\2\u02c1\u02b4\3\2\2\2\u02c1\u02b6\3\2"+
-		"\2\2\u02c2\u02c3\3\2\2\2\u02c3\u02c9\7\20\2\2\u02c4\u02c5\5T+\2\u02c5"+
-		"\u02c6\b,\1\2\u02c6\u02ca\3\2\2\2\u02c7\u02c8\7\5\2\2\u02c8\u02ca\b,\1"+
-		"\2\u02c9\u02c4\3\2\2\2\u02c9\u02c7\3\2\2\2\u02ca\u02cb\3\2\2\2\u02cb\u02cc"+
-		"\7\21\2\2\u02ccW\3\2\2\2E[cnv\u008d\u0094\u0099\u009b\u00a0\u00ac\u00ba"+
-		"\u00c0\u00c8\u00ce\u00d2\u00da\u00e2\u00ea\u00f3\u0101\u0104\u0111\u0114"+
-		"\u011c\u0121\u0123\u012b\u0130\u0138\u0140\u0146\u014a\u014f\u015b\u0165"+
-		"\u016b\u0179\u017b\u018b\u0198\u019d\u01aa\u01ba\u01e7\u01ef\u01f9\u0204"+
-		"\u020f\u0218\u021f\u0228\u022f\u0238\u023f\u0246\u024e\u025b\u025d\u0269"+
-		"\u026b\u027f\u0294\u029a\u02af\u02be\u02c1\u02c9";
+		"\3\5\3\5\3\5\3\5\6\5\u008c\n\5\r\5\16\5\u008d\3\5\3\5\3\5\3\5\6\5\u0094"+
+		"\n\5\r\5\16\5\u0095\3\5\3\5\3\5\5\5\u009b\n\5\5\5\u009d\n\5\3\5\3\5\6"+
+		"\5\u00a1\n\5\r\5\16\5\u00a2\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\6\6\u00ad"+
+		"\n\6\r\6\16\6\u00ae\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\7\3\7\3\7\3\7\3\7\3"+
+		"\7\5\7\u00be\n\7\3\b\3\b\6\b\u00c2\n\b\r\b\16\b\u00c3\3\b\3\b\3\b\3\b"+
+		"\7\b\u00ca\n\b\f\b\16\b\u00cd\13\b\3\b\3\b\3\b\5\b\u00d2\n\b\6\b\u00d4"+
+		"\n\b\r\b\16\b\u00d5\3\t\3\t\3\t\3\t\6\t\u00dc\n\t\r\t\16\t\u00dd\3\n\3"+
+		"\n\3\n\3\n\6\n\u00e4\n\n\r\n\16\n\u00e5\3\13\3\13\3\13\3\13\3\13\3\13"+
+		"\5\13\u00ee\n\13\3\13\3\13\3\13\3\13\3\13\6\13\u00f5\n\13\r\13\16\13\u00f6"+
+		"\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\3\f\7\f\u0103\n\f\f\f\16\f\u0106"+
+		"\13\f\5\f\u0108\n\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\7\r\u0113\n\r"+
+		"\f\r\16\r\u0116\13\r\5\r\u0118\n\r\3\16\3\16\3\16\3\16\6\16\u011e\n\16"+
+		"\r\16\16\16\u011f\3\16\3\16\3\16\5\16\u0125\n\16\5\16\u0127\n\16\3\17"+
+		"\3\17\3\17\3\17\6\17\u012d\n\17\r\17\16\17\u012e\3\17\3\17\3\17\5\17\u0134"+
+		"\n\17\3\20\3\20\3\20\3\20\6\20\u013a\n\20\r\20\16\20\u013b\3\20\3\20\3"+
+		"\20\3\20\7\20\u0142\n\20\f\20\16\20\u0145\13\20\3\20\3\20\3\20\5\20\u014a"+
+		"\n\20\6\20\u014c\n\20\r\20\16\20\u014d\3\20\6\20\u0151\n\20\r\20\16\20"+
+		"\u0152\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u0160"+
+		"\n\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3\21\5\21\u016a\n\21\3\21\3\21"+
+		"\7\21\u016e\n\21\f\21\16\21\u0171\13\21\3\21\3\21\3\22\3\22\3\22\3\22"+
+		"\3\22\3\22\3\22\3\22\3\22\3\22\3\22\7\22\u0180\n\22\f\22\16\22\u0183\13"+
+		"\22\3\22\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3\23\3\23\5"+
+		"\23\u0192\n\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24\3\24"+
+		"\3\24\3\24\5\24\u01a1\n\24\3\24\3\24\3\25\7\25\u01a6\n\25\f\25\16\25\u01a9"+
+		"\13\25\3\25\3\25\3\25\3\25\3\26\3\26\3\26\3\26\3\26\3\26\5\26\u01b5\n"+
+		"\26\3\27\3\27\3\27\3\27\3\27\3\27\3\27\3\30\3\30\3\30\3\30\3\30\7\30\u01c3"+
+		"\n\30\f\30\16\30\u01c6\13\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3\31\3"+
+		"\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3\33\3\33\3\33\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\3\33\3\33\5\33\u01f3\n\33\3\34\3\34\3\34\3\34"+
+		"\3\34\3\34\3\34\7\34\u01fc\n\34\f\34\16\34\u01ff\13\34\3\34\3\34\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\7\35\u0209\n\35\f\35\16\35\u020c\13\35\3\36"+
+		"\3\36\3\36\3\36\3\36\3\36\7\36\u0214\n\36\f\36\16\36\u0217\13\36\3\37"+
+		"\3\37\3\37\3\37\3\37\3\37\7\37\u021f\n\37\f\37\16\37\u0222\13\37\3 \3"+
+		" \3 \3 \3 \3 \5 \u022a\n \3 \3 \3 \7 \u022f\n \f \16 \u0232\13 \3!\3!"+
+		"\3!\3!\3!\3!\5!\u023a\n!\3!\3!\3!\7!\u023f\n!\f!\16!\u0242\13!\3\"\3\""+
+		"\3\"\3\"\3\"\3\"\5\"\u024a\n\"\3\"\3\"\3\"\7\"\u024f\n\"\f\"\16\"\u0252"+
+		"\13\"\3#\3#\3#\7#\u0257\n#\f#\16#\u025a\13#\3#\3#\3#\3$\3$\3$\3$\3$\3"+
+		"$\3$\3$\3$\3$\3$\3$\7$\u026b\n$\f$\16$\u026e\13$\3$\3$\3$\3$\3$\3$\3$"+
+		"\3$\3$\3$\7$\u027a\n$\f$\16$\u027d\13$\3%\3%\3%\3%\3%\3%\3%\3%\3%\3%\3"+
+		"%\3%\3%\3%\3%\3%\3%\5%\u0290\n%\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'\3\'\3"+
+		"\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\5(\u02a6\n(\3)\3)\3)\3)\5)\u02ac\n)\3*\3"+
+		"*\3*\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\5+\u02c1\n+\3,\3"+
+		",\3,\3,\3,\3,\3,\3,\3,\3,\7,\u02cd\n,\f,\16,\u02d0\13,\5,\u02d2\n,\3,"+
+		"\3,\3,\3,\3,\3,\5,\u02da\n,\3,\3,\3,\2\2-\2\4\6\b\n\f\16\20\22\24\26\30"+
+		"\32\34\36 \"$&(*,.\60\62\64\668:<>@BDFHJLNPRTV\2\3\4\2\f\f\25\25\2\u0301"+
+		"\2[\3\2\2\2\4h\3\2\2\2\6|\3\2\2\2\b\u0083\3\2\2\2\n\u00a4\3\2\2\2\f\u00bd"+
+		"\3\2\2\2\16\u00bf\3\2\2\2\20\u00d7\3\2\2\2\22\u00df\3\2\2\2\24\u00e7\3"+
+		"\2\2\2\26\u00f8\3\2\2\2\30\u010b\3\2\2\2\32\u0126\3\2\2\2\34\u0133\3\2"+
+		"\2\2\36\u0135\3\2\2\2 \u0157\3\2\2\2\"\u0174\3\2\2\2$\u018b\3\2\2\2&\u0195"+
+		"\3\2\2\2(\u01a7\3\2\2\2*\u01b4\3\2\2\2,\u01b6\3\2\2\2.\u01bd\3\2\2\2\60"+
+		"\u01cb\3\2\2\2\62\u01d2\3\2\2\2\64\u01f2\3\2\2\2\66\u01f4\3\2\2\28\u0202"+
+		"\3\2\2\2:\u020d\3\2\2\2<\u0218\3\2\2\2>\u0223\3\2\2\2@\u0233\3\2\2\2B"+
+		"\u0243\3\2\2\2D\u0253\3\2\2\2F\u025e\3\2\2\2H\u028f\3\2\2\2J\u0291\3\2"+
+		"\2\2L\u0298\3\2\2\2N\u02a5\3\2\2\2P\u02ab\3\2\2\2R\u02ad\3\2\2\2T\u02c0"+
+		"\3\2\2\2V\u02c2\3\2\2\2XZ\7,\2\2YX\3\2\2\2Z]\3\2\2\2[Y\3\2\2\2[\\\3\2"+
+		"\2\2\\^\3\2\2\2][\3\2\2\2^_\5\4\3\2_c\b\2\1\2`b\7,\2\2a`\3\2\2\2be\3\2"+
+		"\2\2ca\3\2\2\2cd\3\2\2\2df\3\2\2\2ec\3\2\2\2fg\7\2\2\3g\3\3\2\2\2hn\b"+
+		"\3\1\2ij\5\b\5\2jk\b\3\1\2km\3\2\2\2li\3\2\2\2mp\3\2\2\2nl\3\2\2\2no\3"+
+		"\2\2\2ov\3\2\2\2pn\3\2\2\2qr\5\24\13\2rs\b\3\1\2su\3\2\2\2tq\3\2\2\2u"+
+		"x\3\2\2\2vt\3\2\2\2vw\3\2\2\2wy\3\2\2\2xv\3\2\2\2yz\5\6\4\2z{\b\3\1\2"+
+		"{\5\3\2\2\2|}\b\4\1\2}~\7\3\2\2~\177\7%\2\2\177\u0080\7&\2\2\u0080\u0081"+
+		"\5\32\16\2\u0081\u0082\b\4\1\2\u0082\7\3\2\2\2\u0083\u0084\b\5\1\2\u0084"+
+		"\u0085\7\35\2\2\u0085\u0086\5R*\2\u0086\u009c\b\5\1\2\u0087\u0088\7\30"+
+		"\2\2\u0088\u0089\5\16\b\2\u0089\u008b\b\5\1\2\u008a\u008c\7,\2\2\u008b"+
+		"\u008a\3\2\2\2\u008c\u008d\3\2\2\2\u008d\u008b\3\2\2\2\u008d\u008e\3\2"+
+		"\2\2\u008e\u008f\3\2\2\2\u008f\u0090\7\31\2\2\u0090\u0091\b\5\1\2\u0091"+
+		"\u009d\3\2\2\2\u0092\u0094\7,\2\2\u0093\u0092\3\2\2\2\u0094\u0095\3\2"+
+		"\2\2\u0095\u0093\3\2\2\2\u0095\u0096\3\2\2\2\u0096\u0097\3\2\2\2\u0097"+
+		"\u0098\5\f\7\2\u0098\u009a\b\5\1\2\u0099\u009b\7+\2\2\u009a\u0099\3\2"+
+		"\2\2\u009a\u009b\3\2\2\2\u009b\u009d\3\2\2\2\u009c\u0087\3\2\2\2\u009c"+
+		"\u0093\3\2\2\2\u009d\u009e\3\2\2\2\u009e\u00a0\b\5\1\2\u009f\u00a1\7,"+
+		"\2\2\u00a0\u009f\3\2\2\2\u00a1\u00a2\3\2\2\2\u00a2\u00a0\3\2\2\2\u00a2"+
+		"\u00a3\3\2\2\2\u00a3\t\3\2\2\2\u00a4\u00a5\b\6\1\2\u00a5\u00a6\5T+\2\u00a6"+
+		"\u00a7\5R*\2\u00a7\u00a8\b\6\1\2\u00a8\u00a9\5\26\f\2\u00a9\u00aa\b\6"+
+		"\1\2\u00aa\u00ac\7\30\2\2\u00ab\u00ad\7,\2\2\u00ac\u00ab\3\2\2\2\u00ad"+
+		"\u00ae\3\2\2\2\u00ae\u00ac\3\2\2\2\u00ae\u00af\3\2\2\2\u00af\u00b0\3\2"+
+		"\2\2\u00b0\u00b1\5\22\n\2\u00b1\u00b2\b\6\1\2\u00b2\u00b3\5\20\t\2\u00b3"+
+		"\u00b4\b\6\1\2\u00b4\u00b5\7\31\2\2\u00b5\u00b6\b\6\1\2\u00b6\13\3\2\2"+
+		"\2\u00b7\u00b8\5 \21\2\u00b8\u00b9\b\7\1\2\u00b9\u00be\3\2\2\2\u00ba\u00bb"+
+		"\5\n\6\2\u00bb\u00bc\b\7\1\2\u00bc\u00be\3\2\2\2\u00bd\u00b7\3\2\2\2\u00bd"+
+		"\u00ba\3\2\2\2\u00be\r\3\2\2\2\u00bf\u00d3\b\b\1\2\u00c0\u00c2\7,\2\2"+
+		"\u00c1\u00c0\3\2\2\2\u00c2\u00c3\3\2\2\2\u00c3\u00c1\3\2\2\2\u00c3\u00c4"+
+		"\3\2\2\2\u00c4\u00cb\3\2\2\2\u00c5\u00c6\5\f\7\2\u00c6\u00c7\b\b\1\2\u00c7"+
+		"\u00c8\7+\2\2\u00c8\u00ca\3\2\2\2\u00c9\u00c5\3\2\2\2\u00ca\u00cd\3\2"+
+		"\2\2\u00cb\u00c9\3\2\2\2\u00cb\u00cc\3\2\2\2\u00cc\u00ce\3\2\2\2\u00cd"+
+		"\u00cb\3\2\2\2\u00ce\u00cf\5\f\7\2\u00cf\u00d1\b\b\1\2\u00d0\u00d2\7+"+
+		"\2\2\u00d1\u00d0\3\2\2\2\u00d1\u00d2\3\2\2\2\u00d2\u00d4\3\2\2\2\u00d3"+
+		"\u00c1\3\2\2\2\u00d4\u00d5\3\2\2\2\u00d5\u00d3\3\2\2\2\u00d5\u00d6\3\2"+
+		"\2\2\u00d6\17\3\2\2\2\u00d7\u00d8\7\37\2\2\u00d8\u00d9\5\32\16\2\u00d9"+
+		"\u00db\b\t\1\2\u00da\u00dc\7,\2\2\u00db\u00da\3\2\2\2\u00dc\u00dd\3\2"+
+		"\2\2\u00dd\u00db\3\2\2\2\u00dd\u00de\3\2\2\2\u00de\21\3\2\2\2\u00df\u00e0"+
+		"\7 \2\2\u00e0\u00e1\5\32\16\2\u00e1\u00e3\b\n\1\2\u00e2\u00e4\7,\2\2\u00e3"+
+		"\u00e2\3\2\2\2\u00e4\u00e5\3\2\2\2\u00e5\u00e3\3\2\2\2\u00e5\u00e6\3\2"+
+		"\2\2\u00e6\23\3\2\2\2\u00e7\u00ed\b\13\1\2\u00e8\u00e9\5T+\2\u00e9\u00ea"+
+		"\b\13\1\2\u00ea\u00ee\3\2\2\2\u00eb\u00ec\7\5\2\2\u00ec\u00ee\b\13\1\2"+
+		"\u00ed\u00e8\3\2\2\2\u00ed\u00eb\3\2\2\2\u00ee\u00ef\3\2\2\2\u00ef\u00f0"+
+		"\5R*\2\u00f0\u00f1\5\26\f\2\u00f1\u00f2\5\32\16\2\u00f2\u00f4\b\13\1\2"+
+		"\u00f3\u00f5\7,\2\2\u00f4\u00f3\3\2\2\2\u00f5\u00f6\3\2\2\2\u00f6\u00f4"+
+		"\3\2\2\2\u00f6\u00f7\3\2\2\2\u00f7\25\3\2\2\2\u00f8\u00f9\b\f\1\2\u00f9"+
+		"\u0107\7%\2\2\u00fa\u00fb\5T+\2\u00fb\u00fc\5R*\2\u00fc\u0104\b\f\1\2"+
+		"\u00fd\u00fe\7)\2\2\u00fe\u00ff\5T+\2\u00ff\u0100\5R*\2\u0100\u0101\b"+
+		"\f\1\2\u0101\u0103\3\2\2\2\u0102\u00fd\3\2\2\2\u0103\u0106\3\2\2\2\u0104"+
+		"\u0102\3\2\2\2\u0104\u0105\3\2\2\2\u0105\u0108\3\2\2\2\u0106\u0104\3\2"+
+		"\2\2\u0107\u00fa\3\2\2\2\u0107\u0108\3\2\2\2\u0108\u0109\3\2\2\2\u0109"+
+		"\u010a\7&\2\2\u010a\27\3\2\2\2\u010b\u0117\b\r\1\2\u010c\u010d\5\66\34"+
+		"\2\u010d\u0114\b\r\1\2\u010e\u010f\7)\2\2\u010f\u0110\5\66\34\2\u0110"+
+		"\u0111\b\r\1\2\u0111\u0113\3\2\2\2\u0112\u010e\3\2\2\2\u0113\u0116\3\2"+
+		"\2\2\u0114\u0112\3\2\2\2\u0114\u0115\3\2\2\2\u0115\u0118\3\2\2\2\u0116"+
+		"\u0114\3\2\2\2\u0117\u010c\3\2\2\2\u0117\u0118\3\2\2\2\u0118\31\3\2\2"+
+		"\2\u0119\u011a\5\36\20\2\u011a\u011b\b\16\1\2\u011b\u0127\3\2\2\2\u011c"+
+		"\u011e\7,\2\2\u011d\u011c\3\2\2\2\u011e\u011f\3\2\2\2\u011f\u011d\3\2"+
+		"\2\2\u011f\u0120\3\2\2\2\u0120\u0121\3\2\2\2\u0121\u0122\5\64\33\2\u0122"+
+		"\u0124\b\16\1\2\u0123\u0125\7+\2\2\u0124\u0123\3\2\2\2\u0124\u0125\3\2"+
+		"\2\2\u0125\u0127\3\2\2\2\u0126\u0119\3\2\2\2\u0126\u011d\3\2\2\2\u0127"+
+		"\33\3\2\2\2\u0128\u0129\5\36\20\2\u0129\u012a\b\17\1\2\u012a\u0134\3\2"+
+		"\2\2\u012b\u012d\7,\2\2\u012c\u012b\3\2\2\2\u012d\u012e\3\2\2\2\u012e"+
+		"\u012c\3\2\2\2\u012e\u012f\3\2\2\2\u012f\u0130\3\2\2\2\u0130\u0131\5\64"+
+		"\33\2\u0131\u0132\b\17\1\2\u0132\u0134\3\2\2\2\u0133\u0128\3\2\2\2\u0133"+
+		"\u012c\3\2\2\2\u0134\35\3\2\2\2\u0135\u0136\b\20\1\2\u0136\u0137\7\30"+
+		"\2\2\u0137\u014b\b\20\1\2\u0138\u013a\7,\2\2\u0139\u0138\3\2\2\2\u013a"+
+		"\u013b\3\2\2\2\u013b\u0139\3\2\2\2\u013b\u013c\3\2\2\2\u013c\u0143\3\2"+
+		"\2\2\u013d\u013e\5\64\33\2\u013e\u013f\b\20\1\2\u013f\u0140\7+\2\2\u0140"+
+		"\u0142\3\2\2\2\u0141\u013d\3\2\2\2\u0142\u0145\3\2\2\2\u0143\u0141\3\2"+
+		"\2\2\u0143\u0144\3\2\2\2\u0144\u0146\3\2\2\2\u0145\u0143\3\2\2\2\u0146"+
+		"\u0147\5\64\33\2\u0147\u0149\b\20\1\2\u0148\u014a\7+\2\2\u0149\u0148\3"+
+		"\2\2\2\u0149\u014a\3\2\2\2\u014a\u014c\3\2\2\2\u014b\u0139\3\2\2\2\u014c"+
+		"\u014d\3\2\2\2\u014d\u014b\3\2\2\2\u014d\u014e\3\2\2\2\u014e\u0150\3\2"+
+		"\2\2\u014f\u0151\7,\2\2\u0150\u014f\3\2\2\2\u0151\u0152\3\2\2\2\u0152"+
+		"\u0150\3\2\2\2\u0152\u0153\3\2\2\2\u0153\u0154\3\2\2\2\u0154\u0155\7\31"+
+		"\2\2\u0155\u0156\b\20\1\2\u0156\37\3\2\2\2\u0157\u0158\b\21\1\2\u0158"+
+		"\u0159\5T+\2\u0159\u015a\5R*\2\u015a\u015f\b\21\1\2\u015b\u015c\7#\2\2"+
+		"\u015c\u015d\58\35\2\u015d\u015e\b\21\1\2\u015e\u0160\3\2\2\2\u015f\u015b"+
+		"\3\2\2\2\u015f\u0160\3\2\2\2\u0160\u0161\3\2\2\2\u0161\u016f\b\21\1\2"+
+		"\u0162\u0163\7)\2\2\u0163\u0164\5R*\2\u0164\u0169\b\21\1\2\u0165\u0166"+
+		"\7#\2\2\u0166\u0167\58\35\2\u0167\u0168\b\21\1\2\u0168\u016a\3\2\2\2\u0169"+
+		"\u0165\3\2\2\2\u0169\u016a\3\2\2\2\u016a\u016b\3\2\2\2\u016b\u016c\b\21"+
+		"\1\2\u016c\u016e\3\2\2\2\u016d\u0162\3\2\2\2\u016e\u0171\3\2\2\2\u016f"+
+		"\u016d\3\2\2\2\u016f\u0170\3\2\2\2\u0170\u0172\3\2\2\2\u0171\u016f\3\2"+
+		"\2\2\u0172\u0173\b\21\1\2\u0173!\3\2\2\2\u0174\u0175\5H%\2\u0175\u0181"+
+		"\b\22\1\2\u0176\u0177\7%\2\2\u0177\u0178\5\30\r\2\u0178\u0179\7&\2\2\u0179"+
+		"\u017a\b\22\1\2\u017a\u0180\3\2\2\2\u017b\u017c\7*\2\2\u017c\u017d\5R"+
+		"*\2\u017d\u017e\b\22\1\2\u017e\u0180\3\2\2\2\u017f\u0176\3\2\2\2\u017f"+
+		"\u017b\3\2\2\2\u0180\u0183\3\2\2\2\u0181\u017f\3\2\2\2\u0181\u0182\3\2"+
+		"\2\2\u0182\u0184\3\2\2\2\u0183\u0181\3\2\2\2\u0184\u0185\7%\2\2\u0185"+
+		"\u0186\5\30\r\2\u0186\u0187\7&\2\2\u0187\u0188\b\22\1\2\u0188\u0189\3"+
+		"\2\2\2\u0189\u018a\b\22\1\2\u018a#\3\2\2\2\u018b\u018c\b\23\1\2\u018c"+
+		"\u018d\7\4\2\2\u018d\u0191\b\23\1\2\u018e\u018f\5\66\34\2\u018f\u0190"+
+		"\b\23\1\2\u0190\u0192\3\2\2\2\u0191\u018e\3\2\2\2\u0191\u0192\3\2\2\2"+
+		"\u0192\u0193\3\2\2\2\u0193\u0194\b\23\1\2\u0194%\3\2\2\2\u0195\u0196\7"+
+		"\t\2\2\u0196\u0197\5\66\34\2\u0197\u01a0\b\24\1\2\u0198\u0199\5\34\17"+
+		"\2\u0199\u019a\b\24\1\2\u019a\u01a1\3\2\2\2\u019b\u019c\5\32\16\2\u019c"+
+		"\u019d\b\24\1\2\u019d\u019e\5(\25\2\u019e\u019f\b\24\1\2\u019f\u01a1\3"+
+		"\2\2\2\u01a0\u0198\3\2\2\2\u01a0\u019b\3\2\2\2\u01a1\u01a2\3\2\2\2\u01a2"+
+		"\u01a3\b\24\1\2\u01a3\'\3\2\2\2\u01a4\u01a6\7,\2\2\u01a5\u01a4\3\2\2\2"+
+		"\u01a6\u01a9\3\2\2\2\u01a7\u01a5\3\2\2\2\u01a7\u01a8\3\2\2\2\u01a8\u01aa"+
+		"\3\2\2\2\u01a9\u01a7\3\2\2\2\u01aa\u01ab\7\n\2\2\u01ab\u01ac\5\34\17\2"+
+		"\u01ac\u01ad\b\25\1\2\u01ad)\3\2\2\2\u01ae\u01af\5,\27\2\u01af\u01b0\b"+
+		"\26\1\2\u01b0\u01b5\3\2\2\2\u01b1\u01b2\5.\30\2\u01b2\u01b3\b\26\1\2\u01b3"+
+		"\u01b5\3\2\2\2\u01b4\u01ae\3\2\2\2\u01b4\u01b1\3\2\2\2\u01b5+\3\2\2\2"+
+		"\u01b6\u01b7\b\27\1\2\u01b7\u01b8\7!\2\2\u01b8\u01b9\5\66\34\2\u01b9\u01ba"+
+		"\b\27\1\2\u01ba\u01bb\5\34\17\2\u01bb\u01bc\b\27\1\2\u01bc-\3\2\2\2\u01bd"+
+		"\u01be\b\30\1\2\u01be\u01bf\7\"\2\2\u01bf\u01c0\5\32\16\2\u01c0\u01c4"+
+		"\b\30\1\2\u01c1\u01c3\7,\2\2\u01c2\u01c1\3\2\2\2\u01c3\u01c6\3\2\2\2\u01c4"+
+		"\u01c2\3\2\2\2\u01c4\u01c5\3\2\2\2\u01c5\u01c7\3\2\2\2\u01c6\u01c4\3\2"+
+		"\2\2\u01c7\u01c8\7!\2\2\u01c8\u01c9\5\66\34\2\u01c9\u01ca\b\30\1\2\u01ca"+
+		"/\3\2\2\2\u01cb\u01cc\7\7\2\2\u01cc\u01cd\7%\2\2\u01cd\u01ce\5\66\34\2"+
+		"\u01ce\u01cf\b\31\1\2\u01cf\u01d0\7&\2\2\u01d0\u01d1\b\31\1\2\u01d1\61"+
+		"\3\2\2\2\u01d2\u01d3\58\35\2\u01d3\u01d4\7#\2\2\u01d4\u01d5\5\66\34\2"+
+		"\u01d5\u01d6\b\32\1\2\u01d6\63\3\2\2\2\u01d7\u01d8\5&\24\2\u01d8\u01d9"+
+		"\b\33\1\2\u01d9\u01f3\3\2\2\2\u01da\u01db\5\60\31\2\u01db\u01dc\b\33\1"+
+		"\2\u01dc\u01f3\3\2\2\2\u01dd\u01de\5\"\22\2\u01de\u01df\b\33\1\2\u01df"+
+		"\u01f3\3\2\2\2\u01e0\u01e1\5$\23\2\u01e1\u01e2\b\33\1\2\u01e2\u01f3\3"+
+		"\2\2\2\u01e3\u01e4\5\62\32\2\u01e4\u01e5\b\33\1\2\u01e5\u01f3\3\2\2\2"+
+		"\u01e6\u01e7\5 \21\2\u01e7\u01e8\b\33\1\2\u01e8\u01f3\3\2\2\2\u01e9\u01ea"+
+		"\5*\26\2\u01ea\u01eb\b\33\1\2\u01eb\u01f3\3\2\2\2\u01ec\u01ed\5L\'\2\u01ed"+
+		"\u01ee\b\33\1\2\u01ee\u01f3\3\2\2\2\u01ef\u01f0\5J&\2\u01f0\u01f1\b\33"+
+		"\1\2\u01f1\u01f3\3\2\2\2\u01f2\u01d7\3\2\2\2\u01f2\u01da\3\2\2\2\u01f2"+
+		"\u01dd\3\2\2\2\u01f2\u01e0\3\2\2\2\u01f2\u01e3\3\2\2\2\u01f2\u01e6\3\2"+
+		"\2\2\u01f2\u01e9\3\2\2\2\u01f2\u01ec\3\2\2\2\u01f2\u01ef\3\2\2\2\u01f3"+
+		"\65\3\2\2\2\u01f4\u01f5\b\34\1\2\u01f5\u01f6\58\35\2\u01f6\u01fd\b\34"+
+		"\1\2\u01f7\u01f8\7#\2\2\u01f8\u01f9\58\35\2\u01f9\u01fa\b\34\1\2\u01fa"+
+		"\u01fc\3\2\2\2\u01fb\u01f7\3\2\2\2\u01fc\u01ff\3\2\2\2\u01fd\u01fb\3\2"+
+		"\2\2\u01fd\u01fe\3\2\2\2\u01fe\u0200\3\2\2\2\u01ff\u01fd\3\2\2\2\u0200"+
+		"\u0201\b\34\1\2\u0201\67\3\2\2\2\u0202\u0203\5:\36\2\u0203\u020a\b\35"+
+		"\1\2\u0204\u0205\7\24\2\2\u0205\u0206\5:\36\2\u0206\u0207\b\35\1\2\u0207"+
+		"\u0209\3\2\2\2\u0208\u0204\3\2\2\2\u0209\u020c\3\2\2\2\u020a\u0208\3\2"+
+		"\2\2\u020a\u020b\3\2\2\2\u020b9\3\2\2\2\u020c\u020a\3\2\2\2\u020d\u020e"+
+		"\5<\37\2\u020e\u0215\b\36\1\2\u020f\u0210\7\23\2\2\u0210\u0211\5<\37\2"+
+		"\u0211\u0212\b\36\1\2\u0212\u0214\3\2\2\2\u0213\u020f\3\2\2\2\u0214\u0217"+
+		"\3\2\2\2\u0215\u0213\3\2\2\2\u0215\u0216\3\2\2\2\u0216;\3\2\2\2\u0217"+
+		"\u0215\3\2\2\2\u0218\u0219\5> \2\u0219\u0220\b\37\1\2\u021a\u021b\7\17"+
+		"\2\2\u021b\u021c\5> \2\u021c\u021d\b\37\1\2\u021d\u021f\3\2\2\2\u021e"+
+		"\u021a\3\2\2\2\u021f\u0222\3\2\2\2\u0220\u021e\3\2\2\2\u0220\u0221\3\2"+
+		"\2\2\u0221=\3\2\2\2\u0222\u0220\3\2\2\2\u0223\u0224\5@!\2\u0224\u0230"+
+		"\b \1\2\u0225\u0226\7\21\2\2\u0226\u022a\b \1\2\u0227\u0228\7\22\2\2\u0228"+
+		"\u022a\b \1\2\u0229\u0225\3\2\2\2\u0229\u0227\3\2\2\2\u022a\u022b\3\2"+
+		"\2\2\u022b\u022c\5@!\2\u022c\u022d\b \1\2\u022d\u022f\3\2\2\2\u022e\u0229"+
+		"\3\2\2\2\u022f\u0232\3\2\2\2\u0230\u022e\3\2\2\2\u0230\u0231\3\2\2\2\u0231"+
+		"?\3\2\2\2\u0232\u0230\3\2\2\2\u0233\u0234\5B\"\2\u0234\u0240\b!\1\2\u0235"+
+		"\u0236\7\13\2\2\u0236\u023a\b!\1\2\u0237\u0238\7\f\2\2\u0238\u023a\b!"+
+		"\1\2\u0239\u0235\3\2\2\2\u0239\u0237\3\2\2\2\u023a\u023b\3\2\2\2\u023b"+
+		"\u023c\5B\"\2\u023c\u023d\b!\1\2\u023d\u023f\3\2\2\2\u023e\u0239\3\2\2"+
+		"\2\u023f\u0242\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241A"+
+		"\3\2\2\2\u0242\u0240\3\2\2\2\u0243\u0244\5D#\2\u0244\u0250\b\"\1\2\u0245"+
+		"\u0246\7\r\2\2\u0246\u024a\b\"\1\2\u0247\u0248\7\16\2\2\u0248\u024a\b"+
+		"\"\1\2\u0249\u0245\3\2\2\2\u0249\u0247\3\2\2\2\u024a\u024b\3\2\2\2\u024b"+
+		"\u024c\5D#\2\u024c\u024d\b\"\1\2\u024d\u024f\3\2\2\2\u024e\u0249\3\2\2"+
+		"\2\u024f\u0252\3\2\2\2\u0250\u024e\3\2\2\2\u0250\u0251\3\2\2\2\u0251C"+
+		"\3\2\2\2\u0252\u0250\3\2\2\2\u0253\u0258\b#\1\2\u0254\u0255\t\2\2\2\u0255"+
+		"\u0257\b#\1\2\u0256\u0254\3\2\2\2\u0257\u025a\3\2\2\2\u0258\u0256\3\2"+
+		"\2\2\u0258\u0259\3\2\2\2\u0259\u025b\3\2\2\2\u025a\u0258\3\2\2\2\u025b"+
+		"\u025c\5F$\2\u025c\u025d\b#\1\2\u025dE\3\2\2\2\u025e\u025f\5H%\2\u025f"+
+		"\u026c\b$\1\2\u0260\u0261\7%\2\2\u0261\u0262\5\30\r\2\u0262\u0263\b$\1"+
+		"\2\u0263\u0264\7&\2\2\u0264\u0265\b$\1\2\u0265\u026b\3\2\2\2\u0266\u0267"+
+		"\7*\2\2\u0267\u0268\5R*\2\u0268\u0269\b$\1\2\u0269\u026b\3\2\2\2\u026a"+
+		"\u0260\3\2\2\2\u026a\u0266\3\2\2\2\u026b\u026e\3\2\2\2\u026c\u026a\3\2"+
+		"\2\2\u026c\u026d\3\2\2\2\u026d\u027b\3\2\2\2\u026e\u026c\3\2\2\2\u026f"+
+		"\u0270\7\'\2\2\u0270\u0271\5\66\34\2\u0271\u0272\b$\1\2\u0272\u0273\7"+
+		"(\2\2\u0273\u0274\b$\1\2\u0274\u027a\3\2\2\2\u0275\u0276\7*\2\2\u0276"+
+		"\u0277\5R*\2\u0277\u0278\b$\1\2\u0278\u027a\3\2\2\2\u0279\u026f\3\2\2"+
+		"\2\u0279\u0275\3\2\2\2\u027a\u027d\3\2\2\2\u027b\u0279\3\2\2\2\u027b\u027c"+
+		"\3\2\2\2\u027cG\3\2\2\2\u027d\u027b\3\2\2\2\u027e\u027f\5N(\2\u027f\u0280"+
+		"\b%\1\2\u0280\u0290\3\2\2\2\u0281\u0282\5R*\2\u0282\u0283\b%\1\2\u0283"+
+		"\u0290\3\2\2\2\u0284\u0285\7%\2\2\u0285\u0286\5\30\r\2\u0286\u0287\7&"+
+		"\2\2\u0287\u0288\b%\1\2\u0288\u0290\3\2\2\2\u0289\u028a\5J&\2\u028a\u028b"+
+		"\b%\1\2\u028b\u0290\3\2\2\2\u028c\u028d\5L\'\2\u028d\u028e\b%\1\2\u028e"+
+		"\u0290\3\2\2\2\u028f\u027e\3\2\2\2\u028f\u0281\3\2\2\2\u028f\u0284\3\2"+
+		"\2\2\u028f\u0289\3\2\2\2\u028f\u028c\3\2\2\2\u0290I\3\2\2\2\u0291\u0292"+
+		"\7\6\2\2\u0292\u0293\7%\2\2\u0293\u0294\5\66\34\2\u0294\u0295\b&\1\2\u0295"+
+		"\u0296\7&\2\2\u0296\u0297\b&\1\2\u0297K\3\2\2\2\u0298\u0299\7\b\2\2\u0299"+
+		"\u029a\7%\2\2\u029a\u029b\5\66\34\2\u029b\u029c\7)\2\2\u029c\u029d\5\66"+
+		"\34\2\u029d\u029e\7&\2\2\u029e\u029f\b\'\1\2\u029fM\3\2\2\2\u02a0\u02a1"+
+		"\5P)\2\u02a1\u02a2\b(\1\2\u02a2\u02a6\3\2\2\2\u02a3\u02a4\7-\2\2\u02a4"+
+		"\u02a6\b(\1\2\u02a5\u02a0\3\2\2\2\u02a5\u02a3\3\2\2\2\u02a6O\3\2\2\2\u02a7"+
+		"\u02a8\7\26\2\2\u02a8\u02ac\b)\1\2\u02a9\u02aa\7\27\2\2\u02aa\u02ac\b"+
+		")\1\2\u02ab\u02a7\3\2\2\2\u02ab\u02a9\3\2\2\2\u02acQ\3\2\2\2\u02ad\u02ae"+
+		"\7.\2\2\u02ae\u02af\b*\1\2\u02afS\3\2\2\2\u02b0\u02b1\7\32\2\2\u02b1\u02c1"+
+		"\b+\1\2\u02b2\u02b3\7\33\2\2\u02b3\u02c1\b+\1\2\u02b4\u02b5\7\34\2\2\u02b5"+
+		"\u02b6\7$\2\2\u02b6\u02b7\5T+\2\u02b7\u02b8\b+\1\2\u02b8\u02c1\3\2\2\2"+
+		"\u02b9\u02ba\7\35\2\2\u02ba\u02bb\5R*\2\u02bb\u02bc\b+\1\2\u02bc\u02c1"+
+		"\3\2\2\2\u02bd\u02be\5V,\2\u02be\u02bf\b+\1\2\u02bf\u02c1\3\2\2\2\u02c0"+
+		"\u02b0\3\2\2\2\u02c0\u02b2\3\2\2\2\u02c0\u02b4\3\2\2\2\u02c0\u02b9\3\2"+
+		"\2\2\u02c0\u02bd\3\2\2\2\u02c1U\3\2\2\2\u02c2\u02c3\b,\1\2\u02c3\u02c4"+
+		"\7\36\2\2\u02c4\u02d1\7\22\2\2\u02c5\u02d2\7\5\2\2\u02c6\u02c7\5T+\2\u02c7"+
+		"\u02ce\b,\1\2\u02c8\u02c9\7)\2\2\u02c9\u02ca\5T+\2\u02ca\u02cb\b,\1\2"+
+		"\u02cb\u02cd\3\2\2\2\u02cc\u02c8\3\2\2\2\u02cd\u02d0\3\2\2\2\u02ce\u02cc"+
+		"\3\2\2\2\u02ce\u02cf\3\2\2\2\u02cf\u02d2\3\2\2\2\u02d0\u02ce\3\2\2\2\u02d1"+
+		"\u02c5\3\2\2\2\u02d1\u02c6\3\2\2\2\u02d2\u02d3\3\2\2\2\u02d3\u02d9\7\20"+
+		"\2\2\u02d4\u02d5\5T+\2\u02d5\u02d6\b,\1\2\u02d6\u02da\3\2\2\2\u02d7\u02d8"+
+		"\7\5\2\2\u02d8\u02da\b,\1\2\u02d9\u02d4\3\2\2\2\u02d9\u02d7\3\2\2\2\u02da"+
+		"\u02db\3\2\2\2\u02db\u02dc\7\21\2\2\u02dcW\3\2\2\2D[cnv\u008d\u0095\u009a"+
+		"\u009c\u00a2\u00ae\u00bd\u00c3\u00cb\u00d1\u00d5\u00dd\u00e5\u00ed\u00f6"+
+		"\u0104\u0107\u0114\u0117\u011f\u0124\u0126\u012e\u0133\u013b\u0143\u0149"+
+		"\u014d\u0152\u015f\u0169\u016f\u017f\u0181\u0191\u01a0\u01a7\u01b4\u01c4"+
+		"\u01f2\u01fd\u020a\u0215\u0220\u0229\u0230\u0239\u0240\u0249\u0250\u0258"+
+		"\u026a\u026c\u0279\u027b\u028f\u02a5\u02ab\u02c0\u02ce\u02d1\u02d9";
 	public static final ATN _ATN =
 		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
 	static {